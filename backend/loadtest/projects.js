@@ -0,0 +1,74 @@
+// k6 load test comparing platform-thread and virtual-thread request handling.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e RATE=400 loadtest/projects.js
+//
+// Mix: 70% single project reads, 20% list pages, 10% creates, at a constant arrival rate so that
+// both modes are offered the same load and differ only in latency and rejected requests.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = parseInt(__ENV.RATE || '200', 10);
+const DURATION = __ENV.DURATION || '2m';
+
+const rejected = new Counter('rejected_503');
+
+export const options = {
+    scenarios: {
+        mixed: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{name:get}': ['p(95)<100'],
+        'http_req_duration{name:list}': ['p(95)<250'],
+    },
+};
+
+const headers = { 'Content-Type': 'application/json' };
+
+function newProject() {
+    return JSON.stringify({
+        title: `Load test project ${__VU}-${__ITER}`,
+        description: 'Project created by the k6 load test script',
+        budget: 1000 + (__ITER % 1000),
+        currency: 'EUR',
+        startDate: '2025-01-01',
+        endDate: '2026-12-31',
+        departmentId: '6f1c7f8e-6d5a-4f7b-9a0e-3b2d1c0e9f11',
+        projectManagerId: '0e4b9c7a-1d2e-4f3a-8b5c-6d7e8f9a0b12',
+    });
+}
+
+export function setup() {
+    const ids = [];
+    for (let i = 0; i < 50; i++) {
+        const res = http.post(`${BASE_URL}/v1/projects`, newProject(), { headers });
+        ids.push(res.json('data.id'));
+    }
+    return { ids };
+}
+
+export default function (data) {
+    const roll = Math.random();
+    let res;
+    if (roll < 0.7) {
+        const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+        res = http.get(`${BASE_URL}/v1/projects/${id}`, { tags: { name: 'get' } });
+    } else if (roll < 0.9) {
+        res = http.get(`${BASE_URL}/v1/projects?page=0&size=20`, { tags: { name: 'list' } });
+    } else {
+        res = http.post(`${BASE_URL}/v1/projects`, newProject(), { headers, tags: { name: 'create' } });
+    }
+    if (res.status === 503) {
+        rejected.add(1);
+    }
+    check(res, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
@@ -0,0 +1,62 @@
+package com.eprocure.project.benchmark;
+
+import com.eprocure.project.dto.mapper.ProjectMapper;
+import com.eprocure.project.dto.mapper.ProjectMapperImpl;
+import com.eprocure.project.dto.response.ApiResponse;
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of serializing the paged list response, as returned by GET /v1/projects.
+ * Uses an ObjectMapper built the same way Spring Boot builds the HTTP message converter's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private ApiResponse<Page<ProjectDTO>> response;
+
+    @Setup
+    public void setUp() {
+        ProjectMapper projectMapper = new ProjectMapperImpl();
+        List<ProjectDTO> content = IntStream.range(0, pageSize)
+                .mapToObj(BenchmarkFixtures::project)
+                .map(projectMapper::toDTO)
+                .toList();
+        response = ApiResponse.success(new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000));
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,65 @@
+package com.eprocure.project.benchmark;
+
+import com.eprocure.project.dto.request.CreateProjectRequest;
+import com.eprocure.project.entity.Project;
+import com.eprocure.project.entity.ProjectStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Representative sample data shared by the benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static CreateProjectRequest createRequest(int n) {
+        return createRequest(n, "Procurement of office equipment and services for benchmark project " + n);
+    }
+
+    /**
+     * A request whose description fills the column (2000 characters), as detailed tender descriptions do.
+     */
+    static CreateProjectRequest createRequestWithLongDescription(int n) {
+        String sentence = "Procurement of office equipment and services for benchmark project " + n + ". ";
+        return createRequest(n, sentence.repeat(2000 / sentence.length() + 1).substring(0, 2000));
+    }
+
+    private static CreateProjectRequest createRequest(int n, String description) {
+        return CreateProjectRequest.builder()
+                .title("Benchmark project " + n)
+                .description(description)
+                .budget(BigDecimal.valueOf(10_000 + n, 2))
+                .currency("EUR")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2026, 12, 31))
+                .departmentId(UUID.randomUUID())
+                .projectManagerId(UUID.randomUUID())
+                .build();
+    }
+
+    static Project project(int n) {
+        CreateProjectRequest request = createRequest(n);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        return Project.builder()
+                .id(UUID.randomUUID())
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .budget(request.getBudget())
+                .currency(request.getCurrency())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .status(ProjectStatus.ACTIVE)
+                .departmentId(request.getDepartmentId())
+                .projectManagerId(request.getProjectManagerId())
+                .createdAt(now)
+                .createdBy("system")
+                .updatedAt(now)
+                .updatedBy("system")
+                .build();
+    }
+}
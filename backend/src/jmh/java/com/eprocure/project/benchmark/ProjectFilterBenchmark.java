@@ -0,0 +1,174 @@
+package com.eprocure.project.benchmark;
+
+import com.eprocure.project.EprocureApplication;
+import com.eprocure.project.dto.request.CreateProjectRequest;
+import com.eprocure.project.dto.request.ProjectFilterRequest;
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.pagination.ProjectSort;
+import com.eprocure.project.service.ProjectService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * The common filter shapes of {@code GET /v1/projects} against the embedded H2 database.
+ * <p>
+ * Setup also asks H2 for the plan of each shape and fails the run if any of them scans the table,
+ * so a dropped or reordered index shows up here before it shows up in production. The same shapes
+ * are checked against PostgreSQL by {@code src/jmh/sql/project-filter-plans.sql}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProjectFilterBenchmark {
+
+    private static final int SEED_PROJECTS = 20_000;
+    private static final int DEPARTMENTS = 50;
+    private static final int MANAGERS = 400;
+    private static final List<String> CURRENCIES = List.of("EUR", "USD", "GBP", "CHF");
+
+    private static final String SELECT = "SELECT * FROM projects WHERE ";
+    private static final String ORDER = " ORDER BY created_at DESC, id DESC LIMIT 20";
+
+    private final PageRequest firstPage = PageRequest.of(0, 20, ProjectSort.parse(ProjectSort.DEFAULT));
+
+    private ConfigurableApplicationContext context;
+    private ProjectService projectService;
+    private UUID departmentId;
+    private UUID projectManagerId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(EprocureApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.profiles.active=dev",
+                        "spring.jpa.show-sql=false",
+                        "spring.sql.init.mode=never",
+                        "logging.level.root=WARN",
+                        "logging.level.com.eprocure=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "eprocure.jobs.auto-complete.enabled=false")
+                .run();
+        projectService = context.getBean(ProjectService.class);
+
+        Random random = new Random(42);
+        List<UUID> departments = IntStream.range(0, DEPARTMENTS).mapToObj(i -> UUID.randomUUID()).toList();
+        List<UUID> managers = IntStream.range(0, MANAGERS).mapToObj(i -> UUID.randomUUID()).toList();
+        for (int offset = 0; offset < SEED_PROJECTS; offset += 1_000) {
+            projectService.createProjects(IntStream.range(offset, offset + 1_000)
+                    .mapToObj(n -> seedRequest(n, random, departments, managers))
+                    .toList());
+        }
+        departmentId = departments.get(0);
+        projectManagerId = managers.get(0);
+
+        verifyPlans(context.getBean(JdbcTemplate.class));
+    }
+
+    private static CreateProjectRequest seedRequest(int n, Random random, List<UUID> departments, List<UUID> managers) {
+        CreateProjectRequest request = BenchmarkFixtures.createRequest(n);
+        LocalDate start = LocalDate.of(2022, 1, 1).plusDays(random.nextInt(4 * 365));
+        request.setBudget(BigDecimal.valueOf(1_000 + random.nextInt(10_000_000), 2));
+        request.setCurrency(CURRENCIES.get(random.nextInt(CURRENCIES.size())));
+        request.setStartDate(start);
+        request.setEndDate(start.plusDays(30 + random.nextInt(700)));
+        request.setDepartmentId(departments.get(random.nextInt(departments.size())));
+        request.setProjectManagerId(managers.get(random.nextInt(managers.size())));
+        return request;
+    }
+
+    private void verifyPlans(JdbcTemplate jdbc) {
+        jdbc.execute("ANALYZE");
+        Map<String, String> shapes = new LinkedHashMap<>();
+        shapes.put("department", SELECT + "department_id = '" + departmentId + "'" + ORDER);
+        shapes.put("department and status", SELECT + "department_id = '" + departmentId + "' AND status = 'DRAFT'" + ORDER);
+        shapes.put("manager and status", SELECT + "project_manager_id = '" + projectManagerId + "' AND status = 'DRAFT'" + ORDER);
+        shapes.put("currency and budget range", SELECT + "currency = 'USD' AND budget BETWEEN 1000 AND 2000" + ORDER);
+        shapes.put("budget range", SELECT + "budget BETWEEN 1000 AND 2000" + ORDER);
+        shapes.put("start date window", SELECT + "start_date BETWEEN DATE '2024-03-01' AND DATE '2024-03-07'" + ORDER);
+        shapes.put("end date window", SELECT + "end_date BETWEEN DATE '2024-03-01' AND DATE '2024-03-07'" + ORDER);
+        shapes.put("status and end date", SELECT + "status = 'ACTIVE' AND end_date < DATE '2024-03-01'" + ORDER);
+
+        shapes.forEach((shape, sql) -> {
+            String plan = jdbc.queryForObject("EXPLAIN " + sql, String.class);
+            if (plan == null || plan.contains("tableScan")) {
+                throw new IllegalStateException("Filter shape '" + shape + "' scans the projects table:\n" + plan);
+            }
+            System.out.println("# " + shape + ": " + plan.lines()
+                    .filter(line -> line.contains("/* PUBLIC."))
+                    .findFirst().orElse(plan).trim());
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ProjectDTO> department() {
+        return projectService.filterProjects(ProjectFilterRequest.builder()
+                .departmentId(departmentId)
+                .build(), firstPage);
+    }
+
+    @Benchmark
+    public Page<ProjectDTO> managerAndStatus() {
+        return projectService.filterProjects(ProjectFilterRequest.builder()
+                .projectManagerId(projectManagerId)
+                .status(ProjectStatus.DRAFT)
+                .build(), firstPage);
+    }
+
+    @Benchmark
+    public Page<ProjectDTO> currencyAndBudgetRange() {
+        return projectService.filterProjects(ProjectFilterRequest.builder()
+                .currency("USD")
+                .minBudget(BigDecimal.valueOf(1_000))
+                .maxBudget(BigDecimal.valueOf(2_000))
+                .build(), firstPage);
+    }
+
+    @Benchmark
+    public Page<ProjectDTO> startDateWindow() {
+        return projectService.filterProjects(ProjectFilterRequest.builder()
+                .startDateFrom(LocalDate.of(2024, 3, 1))
+                .startDateTo(LocalDate.of(2024, 3, 7))
+                .build(), firstPage);
+    }
+
+    @Benchmark
+    public Page<ProjectDTO> unfiltered() {
+        return projectService.filterProjects(new ProjectFilterRequest(), firstPage);
+    }
+}
@@ -0,0 +1,93 @@
+package com.eprocure.project.benchmark;
+
+import com.eprocure.project.EprocureApplication;
+import com.eprocure.project.dto.request.ProjectFilterRequest;
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.repository.projection.ProjectSummary;
+import com.eprocure.project.service.ProjectService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Project listing as full entities mapped to DTOs ({@code view=full}) versus summary rows selected
+ * directly ({@code view=summary}), against the embedded H2 database of the dev profile.
+ * Descriptions fill their column, as detailed tender descriptions do.
+ * Run with {@code -Djmh.args="-prof gc"} to compare allocation per call as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProjectListProjectionBenchmark {
+
+    private static final int SEED_PROJECTS = 5_000;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private final ProjectFilterRequest noFilter = new ProjectFilterRequest();
+
+    private ConfigurableApplicationContext context;
+    private ProjectService projectService;
+    private Pageable firstPage;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(EprocureApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.profiles.active=dev",
+                        "spring.jpa.show-sql=false",
+                        "spring.sql.init.mode=never",
+                        "logging.level.root=WARN",
+                        "logging.level.com.eprocure=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "eprocure.jobs.auto-complete.enabled=false",
+                        "eprocure.concurrency.coalescing.enabled=false")
+                .run();
+        projectService = context.getBean(ProjectService.class);
+        firstPage = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+
+        projectService.createProjects(IntStream.range(0, SEED_PROJECTS)
+                .mapToObj(BenchmarkFixtures::createRequestWithLongDescription)
+                .toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ProjectDTO> fullView() {
+        return projectService.filterProjects(noFilter, firstPage);
+    }
+
+    @Benchmark
+    public Page<ProjectSummary> summaryView() {
+        return projectService.filterProjectSummaries(noFilter, firstPage);
+    }
+}
@@ -0,0 +1,61 @@
+package com.eprocure.project.benchmark;
+
+import com.eprocure.project.dto.mapper.ProjectMapper;
+import com.eprocure.project.dto.mapper.ProjectMapperImpl;
+import com.eprocure.project.dto.request.CreateProjectRequest;
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.entity.Project;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of the MapStruct mappings used on every read and write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ProjectMapperBenchmark {
+
+    private final ProjectMapper projectMapper = new ProjectMapperImpl();
+
+    private Project project;
+    private List<Project> page;
+    private CreateProjectRequest request;
+
+    @Setup
+    public void setUp() {
+        project = BenchmarkFixtures.project(1);
+        page = IntStream.range(0, 20).mapToObj(BenchmarkFixtures::project).toList();
+        request = BenchmarkFixtures.createRequest(1);
+    }
+
+    @Benchmark
+    public ProjectDTO toDTO() {
+        return projectMapper.toDTO(project);
+    }
+
+    @Benchmark
+    public List<ProjectDTO> toDTOPage() {
+        return page.stream().map(projectMapper::toDTO).toList();
+    }
+
+    @Benchmark
+    public Project toEntity() {
+        return projectMapper.toEntity(request);
+    }
+}
@@ -0,0 +1,105 @@
+package com.eprocure.project.benchmark;
+
+import com.eprocure.project.search.ProjectSearchHits;
+import com.eprocure.project.search.ProjectSearchIndex;
+import com.eprocure.project.search.ProjectTokenizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of the in-process search index over a large synthetic corpus.
+ * Words follow a skewed distribution, so common words match a large share of the projects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProjectSearchIndexBenchmark {
+
+    private static final String[] COMMON_WORDS = {
+            "procurement", "project", "equipment", "services", "office", "supply", "upgrade", "maintenance",
+            "infrastructure", "software", "hardware", "vehicles", "furniture", "marketing", "training", "security"
+    };
+
+    @Param({"1000000"})
+    private int projects;
+
+    private ProjectSearchIndex index;
+    private List<String> rareWord;
+    private List<String> commonWord;
+    private List<String> commonPrefix;
+    private List<String> twoWords;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] vocabulary = new String[20_000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = i < COMMON_WORDS.length ? COMMON_WORDS[i] : randomWord(random);
+        }
+
+        index = new ProjectSearchIndex();
+        for (int i = 0; i < projects; i++) {
+            index.put(UUID.randomUUID(), text(random, vocabulary, 5), text(random, vocabulary, 30));
+        }
+
+        rareWord = ProjectTokenizer.tokenize(vocabulary[vocabulary.length - 1]);
+        commonWord = ProjectTokenizer.tokenize("procurement");
+        commonPrefix = ProjectTokenizer.tokenize("pro");
+        twoWords = ProjectTokenizer.tokenize("office furn");
+    }
+
+    private static String text(Random random, String[] vocabulary, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            // Skewed towards the start of the vocabulary
+            double skew = Math.pow(random.nextDouble(), 3);
+            text.append(vocabulary[(int) (skew * vocabulary.length)]).append(' ');
+        }
+        return text.toString();
+    }
+
+    private static String randomWord(Random random) {
+        char[] word = new char[4 + random.nextInt(8)];
+        for (int i = 0; i < word.length; i++) {
+            word[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(word);
+    }
+
+    @Benchmark
+    public ProjectSearchHits rareWord() {
+        return index.search(rareWord, 20);
+    }
+
+    @Benchmark
+    public ProjectSearchHits commonWord() {
+        return index.search(commonWord, 20);
+    }
+
+    @Benchmark
+    public ProjectSearchHits commonPrefix() {
+        return index.search(commonPrefix, 20);
+    }
+
+    @Benchmark
+    public ProjectSearchHits twoWords() {
+        return index.search(twoWords, 20);
+    }
+}
@@ -0,0 +1,113 @@
+package com.eprocure.project.benchmark;
+
+import com.eprocure.project.EprocureApplication;
+import com.eprocure.project.dto.request.ProjectFilterRequest;
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.dto.response.ProjectStatisticsDTO;
+import com.eprocure.project.pagination.ProjectSort;
+import com.eprocure.project.repository.projection.ProjectSummary;
+import com.eprocure.project.service.ProjectService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * End-to-end service calls against the embedded H2 database of the dev profile.
+ * The application context is started without the web layer and seeded once per fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProjectServiceBenchmark {
+
+    private static final int SEED_PROJECTS = 5_000;
+
+    private final Pageable firstPage = PageRequest.of(0, 20, ProjectSort.parse(ProjectSort.DEFAULT));
+    private final ProjectFilterRequest noFilter = new ProjectFilterRequest();
+
+    private ConfigurableApplicationContext context;
+    private ProjectService projectService;
+    private UUID projectId;
+    private int counter;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(EprocureApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.profiles.active=dev",
+                        "spring.jpa.show-sql=false",
+                        "spring.sql.init.mode=never",
+                        "logging.level.root=WARN",
+                        "logging.level.com.eprocure=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "eprocure.jobs.auto-complete.enabled=false",
+                        // Measure the queries, not results shared between consecutive calls
+                        "eprocure.concurrency.coalescing.enabled=false")
+                .run();
+        projectService = context.getBean(ProjectService.class);
+
+        projectService.createProjects(IntStream.range(0, SEED_PROJECTS)
+                .mapToObj(BenchmarkFixtures::createRequest)
+                .toList());
+        projectId = projectService.filterProjectSummaries(noFilter, firstPage).getContent().get(0).id();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProjectDTO getProject() {
+        return projectService.getProject(projectId);
+    }
+
+    @Benchmark
+    public Page<ProjectSummary> listProjects() {
+        return projectService.filterProjectSummaries(noFilter, firstPage);
+    }
+
+    @Benchmark
+    public ProjectStatisticsDTO getStatistics() {
+        return projectService.getStatistics();
+    }
+
+    @Benchmark
+    public ProjectDTO createProject() {
+        return projectService.createProject(BenchmarkFixtures.createRequest(counter++));
+    }
+
+    @Benchmark
+    public List<UUID> createProjectsBatch() {
+        return projectService.createProjects(IntStream.range(0, 100)
+                        .mapToObj(i -> BenchmarkFixtures.createRequest(counter++))
+                        .toList())
+                .getItems().stream()
+                .map(item -> item.getId())
+                .toList();
+    }
+}
@@ -0,0 +1,103 @@
+-- Query plans of the GET /v1/projects filter shapes over 1M projects.
+--
+-- Run against a scratch PostgreSQL 13+ database:
+--   psql -d scratch -f project-filter-plans.sql
+-- Every plan should start with an Index Scan, Index Only Scan or Bitmap Index Scan on one of the
+-- idx_projects_* indexes declared on com.eprocure.project.entity.Project, never a Seq Scan.
+
+\timing on
+SET client_min_messages = warning;
+
+DROP TABLE IF EXISTS bench_projects;
+CREATE TABLE bench_projects (
+    id uuid PRIMARY KEY,
+    title varchar(255) NOT NULL,
+    description varchar(2000) NOT NULL,
+    budget numeric(12, 2) NOT NULL,
+    currency varchar(3) NOT NULL,
+    start_date date NOT NULL,
+    end_date date NOT NULL,
+    status varchar(20) NOT NULL,
+    department_id uuid NOT NULL,
+    project_manager_id uuid NOT NULL,
+    created_at timestamp NOT NULL,
+    created_by varchar(255) NOT NULL,
+    updated_at timestamp NOT NULL,
+    updated_by varchar(255) NOT NULL
+);
+
+-- 50 departments, 2000 managers, 4 currencies, start dates spread over four years
+INSERT INTO bench_projects
+SELECT gen_random_uuid(),
+       'Project ' || g,
+       'Procurement of office equipment and services for project ' || g,
+       round((10 + random() * 999990)::numeric, 2),
+       (ARRAY['EUR', 'USD', 'GBP', 'CHF'])[1 + g % 4],
+       DATE '2022-01-01' + (g % 1461),
+       DATE '2022-01-01' + (g % 1461) + 30 + (g % 700),
+       (ARRAY['DRAFT', 'ACTIVE', 'COMPLETED'])[1 + g % 3],
+       ('00000000-0000-0000-0000-' || lpad(to_hex(g % 50), 12, '0'))::uuid,
+       ('00000000-0000-0000-0001-' || lpad(to_hex(g % 2000), 12, '0'))::uuid,
+       TIMESTAMP '2022-01-01' + g * INTERVAL '1 minute',
+       'system',
+       TIMESTAMP '2022-01-01' + g * INTERVAL '1 minute',
+       'system'
+FROM generate_series(1, 1000000) g;
+
+-- Keep in sync with @Table(indexes = ...) on Project
+CREATE INDEX idx_bench_created_at_id ON bench_projects (created_at DESC, id DESC);
+CREATE INDEX idx_bench_status_created_at_id ON bench_projects (status, created_at DESC, id DESC);
+CREATE INDEX idx_bench_status_end_date ON bench_projects (status, end_date);
+CREATE INDEX idx_bench_department_status_created_at ON bench_projects (department_id, status, created_at DESC);
+CREATE INDEX idx_bench_manager_status_created_at ON bench_projects (project_manager_id, status, created_at DESC);
+CREATE INDEX idx_bench_currency_budget ON bench_projects (currency, budget);
+CREATE INDEX idx_bench_budget ON bench_projects (budget);
+CREATE INDEX idx_bench_start_date ON bench_projects (start_date);
+CREATE INDEX idx_bench_end_date ON bench_projects (end_date);
+ANALYZE bench_projects;
+
+\echo 'department'
+EXPLAIN ANALYZE SELECT * FROM bench_projects
+WHERE department_id = '00000000-0000-0000-0000-000000000007'
+ORDER BY created_at DESC, id DESC LIMIT 20;
+
+\echo 'department and status'
+EXPLAIN ANALYZE SELECT * FROM bench_projects
+WHERE department_id = '00000000-0000-0000-0000-000000000007' AND status = 'ACTIVE'
+ORDER BY created_at DESC, id DESC LIMIT 20;
+
+\echo 'manager and status'
+EXPLAIN ANALYZE SELECT * FROM bench_projects
+WHERE project_manager_id = '00000000-0000-0000-0001-000000000007' AND status = 'ACTIVE'
+ORDER BY created_at DESC, id DESC LIMIT 20;
+
+\echo 'currency and budget range'
+EXPLAIN ANALYZE SELECT * FROM bench_projects
+WHERE currency = 'USD' AND budget BETWEEN 1000 AND 2000
+ORDER BY budget DESC, id DESC LIMIT 20;
+
+\echo 'budget range'
+EXPLAIN ANALYZE SELECT * FROM bench_projects
+WHERE budget BETWEEN 1000 AND 2000
+ORDER BY created_at DESC, id DESC LIMIT 20;
+
+\echo 'start date window'
+EXPLAIN ANALYZE SELECT * FROM bench_projects
+WHERE start_date BETWEEN DATE '2024-03-01' AND DATE '2024-03-07'
+ORDER BY created_at DESC, id DESC LIMIT 20;
+
+\echo 'end date window'
+EXPLAIN ANALYZE SELECT * FROM bench_projects
+WHERE end_date BETWEEN DATE '2024-03-01' AND DATE '2024-03-07'
+ORDER BY created_at DESC, id DESC LIMIT 20;
+
+\echo 'status and end date'
+EXPLAIN ANALYZE SELECT * FROM bench_projects
+WHERE status = 'ACTIVE' AND end_date < DATE '2022-03-01'
+ORDER BY created_at DESC, id DESC LIMIT 20;
+
+\echo 'count for the department page'
+EXPLAIN ANALYZE SELECT count(*) FROM bench_projects
+WHERE department_id = '00000000-0000-0000-0000-000000000007';
+
+DROP TABLE bench_projects;
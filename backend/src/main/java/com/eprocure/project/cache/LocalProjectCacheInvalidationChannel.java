@@ -0,0 +1,34 @@
+package com.eprocure.project.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-JVM invalidation channel delivering messages synchronously to local subscribers.
+ * Suitable for a single replica and for tests.
+ */
+@Slf4j
+public class LocalProjectCacheInvalidationChannel implements ProjectCacheInvalidationChannel {
+
+    private final List<Consumer<UUID>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(UUID projectId) {
+        for (Consumer<UUID> listener : listeners) {
+            try {
+                listener.accept(projectId);
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation listener failed for project {}", projectId, e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<UUID> listener) {
+        listeners.add(listener);
+    }
+}
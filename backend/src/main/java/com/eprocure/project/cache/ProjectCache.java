@@ -0,0 +1,98 @@
+package com.eprocure.project.cache;
+
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.event.ProjectChangeType;
+import com.eprocure.project.event.ProjectChangedEvent;
+import com.eprocure.project.routing.ReplicaLagMonitor;
+import com.eprocure.project.routing.ReplicaRoutingContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of project DTOs keyed by id.
+ * Entries are evicted by size and age, and invalidated through the
+ * {@link ProjectCacheInvalidationChannel} once a write has committed.
+ * Only primary reads fill the cache: with replica routing, a replica read could store a project older
+ * than a write whose invalidation has already passed.
+ * Hit ratio and size are published as cache.* meters tagged cache=projects.
+ */
+@Component
+@Slf4j
+public class ProjectCache implements MeterBinder {
+
+    private final Cache<UUID, ProjectDTO> cache;
+    private final ProjectCacheInvalidationChannel invalidationChannel;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ProjectCache(ProjectCacheProperties properties,
+                        ProjectCacheInvalidationChannel invalidationChannel,
+                        ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+        this.invalidationChannel = invalidationChannel;
+        this.replicaLagMonitor = replicaLagMonitor.getIfAvailable();
+        invalidationChannel.subscribe(this::invalidate);
+    }
+
+    /**
+     * Get a project from the cache, loading it on a miss.
+     * Concurrent misses for the same id share a single load. A miss that would read from the
+     * replica is loaded for the caller only, without filling the cache.
+     *
+     * @param id the project id
+     * @param loader loads the project when absent (exceptions propagate to the caller)
+     * @return the project DTO
+     */
+    public ProjectDTO get(UUID id, Function<UUID, ProjectDTO> loader) {
+        if (ReplicaRoutingContext.readsFromReplica(replicaLagMonitor)) {
+            ProjectDTO cached = cache.getIfPresent(id);
+            return cached != null ? cached : loader.apply(id);
+        }
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Drop a project from the local cache.
+     *
+     * @param id the project id
+     */
+    public void invalidate(UUID id) {
+        log.debug("Invalidating cached project {}", id);
+        cache.invalidate(id);
+    }
+
+    /**
+     * Hit/miss/eviction statistics since startup.
+     *
+     * @return cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "projects");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getChangeType() != ProjectChangeType.CREATED) {
+            invalidationChannel.publish(event.getProjectId());
+        }
+    }
+}
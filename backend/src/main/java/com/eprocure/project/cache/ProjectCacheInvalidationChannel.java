@@ -0,0 +1,26 @@
+package com.eprocure.project.cache;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts project cache invalidations to every replica, including the local one.
+ * The default implementation only reaches the current JVM; provide another bean
+ * (e.g. backed by a message broker or PostgreSQL LISTEN/NOTIFY) to keep several replicas coherent.
+ */
+public interface ProjectCacheInvalidationChannel {
+
+    /**
+     * Announce that a project changed and cached copies must be dropped.
+     *
+     * @param projectId the changed project id
+     */
+    void publish(UUID projectId);
+
+    /**
+     * Register a listener receiving every invalidation published on the channel.
+     *
+     * @param listener the invalidation listener
+     */
+    void subscribe(Consumer<UUID> listener);
+}
@@ -0,0 +1,24 @@
+package com.eprocure.project.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-process project cache.
+ */
+@Data
+@ConfigurationProperties(prefix = "eprocure.cache.project")
+public class ProjectCacheProperties {
+
+    /**
+     * Maximum number of projects kept in the cache.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Time after which a cached project is reloaded from the database.
+     */
+    private Duration timeToLive = Duration.ofMinutes(10);
+}
@@ -0,0 +1,49 @@
+package com.eprocure.project.cache;
+
+import com.eprocure.project.event.ProjectChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Table-level version of the projects, advanced after every committed local write of any change type,
+ * and on every write of another replica seen by the {@link ProjectCacheInvalidationChannel}.
+ * <p>
+ * Backs the entity tags of project listings and statistics, so a conditional read can be answered
+ * without touching the database. The version is only meaningful within this JVM: it is prefixed
+ * with a per-instance epoch so that a tag issued by another replica, or before a restart, never matches.
+ */
+@Component
+public class ProjectChangeTracker {
+
+    private final String epoch = Long.toString(UUID.randomUUID().getMostSignificantBits() >>> 16, 36);
+    private final AtomicLong version = new AtomicLong();
+
+    public ProjectChangeTracker(ProjectCacheInvalidationChannel invalidationChannel) {
+        // Also receives some local writes a second time, which only advances the version once more
+        invalidationChannel.subscribe(projectId -> advance());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        advance();
+    }
+
+    /**
+     * Record a change that is not published as a project event (e.g. a statistics reconciliation).
+     */
+    public void advance() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Current version, unique across instances and restarts.
+     *
+     * @return the version tag (without quotes)
+     */
+    public String getVersion() {
+        return epoch + "." + version.get();
+    }
+}
@@ -0,0 +1,83 @@
+package com.eprocure.project.cache;
+
+import com.eprocure.project.event.ProjectChangedEvent;
+import com.eprocure.project.repository.projection.MonthlyTotals;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Monthly project totals keyed by the first month of the window, kept until the next project write.
+ * <p>
+ * Every local write clears the cache once committed, and so do the updates and deletions of other
+ * replicas announced on the {@link ProjectCacheInvalidationChannel}. Creates on other replicas are not
+ * announced there, so they only show up here after the next update or deletion.
+ * Entries carry the generation they were loaded in and only count in that generation, so a load that
+ * overlapped a write never serves its stale result.
+ */
+@Component
+@Slf4j
+public class ProjectTrendCache {
+
+    /**
+     * Distinct windows kept at once; older keys only linger after a month rolls over.
+     */
+    private static final int MAX_ENTRIES = 64;
+
+    private final Map<YearMonth, Entry> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProjectTrendCache(ProjectCacheInvalidationChannel invalidationChannel) {
+        invalidationChannel.subscribe(projectId -> invalidate());
+    }
+
+    /**
+     * Get the monthly totals of a window, loading them on a miss.
+     *
+     * @param from first month of the window
+     * @param loader runs the bucketed query
+     * @return the monthly totals since {@code from}
+     */
+    public List<MonthlyTotals> get(YearMonth from, Supplier<List<MonthlyTotals>> loader) {
+        long currentGeneration = generation.get();
+        Entry cached = cache.get(from);
+        if (cached != null && cached.generation == currentGeneration) {
+            return cached.totals;
+        }
+
+        List<MonthlyTotals> loaded = List.copyOf(loader.get());
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+        // Stored even if a write overlapped the load: it then belongs to a past generation and is never served
+        cache.merge(from, new Entry(currentGeneration, loaded),
+                (existing, added) -> existing.generation > added.generation ? existing : added);
+        return loaded;
+    }
+
+    /**
+     * Drop all cached windows.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        if (!cache.isEmpty()) {
+            log.debug("Invalidating cached project trend");
+            cache.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        invalidate();
+    }
+
+    private record Entry(long generation, List<MonthlyTotals> totals) {
+    }
+}
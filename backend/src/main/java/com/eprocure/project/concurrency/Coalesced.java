@@ -0,0 +1,25 @@
+package com.eprocure.project.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only method whose concurrent identical calls may share one execution.
+ * <p>
+ * Calls with equal arguments made while an execution is in flight wait for it and receive its result
+ * (or its exception) instead of running again; see {@link RequestCoalescer}. The result is handed to
+ * every caller, so it must not be modified by them.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+
+    /**
+     * Name tagging the coalescing meters; defaults to the method name.
+     */
+    String value() default "";
+}
@@ -0,0 +1,30 @@
+package com.eprocure.project.concurrency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for coalescing of identical concurrent reads.
+ */
+@Data
+@ConfigurationProperties(prefix = "eprocure.concurrency.coalescing")
+public class CoalescingProperties {
+
+    /**
+     * Whether calls to {@link Coalesced} methods are coalesced at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a completed result is still handed to identical calls, as long as no project changed.
+     * Zero shares only executions that are still in flight.
+     */
+    private Duration freshness = Duration.ofSeconds(1);
+
+    /**
+     * Maximum number of distinct calls (method and arguments) tracked at once.
+     */
+    private long maximumSize = 1000;
+}
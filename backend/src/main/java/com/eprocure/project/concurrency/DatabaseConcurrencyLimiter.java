@@ -0,0 +1,83 @@
+package com.eprocure.project.concurrency;
+
+import com.eprocure.project.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the number of threads working against the database at once.
+ * With virtual threads the servlet container no longer caps concurrency, so without this
+ * every burst would queue on the connection pool and time out there instead of failing fast.
+ * <p>
+ * A permit is taken by the outermost transactional or repository call on a thread and held
+ * until it returns, which covers the whole time a connection can be held. Runs before the
+ * transaction interceptor so that no connection is taken while waiting, and inside the
+ * {@link RequestCoalescer} so that callers sharing a coalesced call take a single permit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "eprocure.concurrency.database", name = "enabled")
+@Slf4j
+public class DatabaseConcurrencyLimiter implements MeterBinder {
+
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final Semaphore permits;
+    private final DatabaseConcurrencyProperties properties;
+
+    public DatabaseConcurrencyLimiter(DatabaseConcurrencyProperties properties) {
+        this.permits = new Semaphore(properties.getMaxConcurrent(), true);
+        this.properties = properties;
+        log.info("Limiting database work to {} concurrent callers", properties.getMaxConcurrent());
+    }
+
+    @Around("@within(org.springframework.transaction.annotation.Transactional) || "
+            + "@annotation(org.springframework.transaction.annotation.Transactional) || "
+            + "this(org.springframework.data.repository.Repository)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        int[] depth = DEPTH.get();
+        if (depth[0] > 0) {
+            return proceedNested(joinPoint, depth);
+        }
+        if (!permits.tryAcquire(properties.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new ServiceBusyException("Service is busy, please retry later");
+        }
+        try {
+            return proceedNested(joinPoint, depth);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Object proceedNested(ProceedingJoinPoint joinPoint, int[] depth) throws Throwable {
+        depth[0]++;
+        try {
+            return joinPoint.proceed();
+        } finally {
+            depth[0]--;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("eprocure.db.concurrency.available", permits, Semaphore::availablePermits)
+                .description("Free database concurrency permits")
+                .register(registry);
+        Gauge.builder("eprocure.db.concurrency.waiting", permits, Semaphore::getQueueLength)
+                .description("Callers waiting for a database concurrency permit")
+                .register(registry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.eprocure.project.concurrency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the database concurrency limiter.
+ */
+@Data
+@ConfigurationProperties(prefix = "eprocure.concurrency.database")
+public class DatabaseConcurrencyProperties {
+
+    /**
+     * Whether transactional and repository calls are limited at all.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of threads working against the database at once.
+     * Should not exceed the connection pool size.
+     */
+    private int maxConcurrent = 50;
+
+    /**
+     * How long a caller waits for a permit before the request is rejected with 503.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,224 @@
+package com.eprocure.project.concurrency;
+
+import com.eprocure.project.cache.ProjectChangeTracker;
+import com.eprocure.project.routing.ReplicaLagMonitor;
+import com.eprocure.project.routing.ReplicaRoutingContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lets concurrent identical calls to {@link Coalesced} methods share a single execution.
+ * <p>
+ * The first call for a method and argument list registers a flight and runs; identical calls arriving
+ * while it runs wait for its outcome instead of querying the database again. For
+ * {@code eprocure.concurrency.coalescing.freshness} after it completed, the result is also handed to new
+ * identical calls. Flights belong to the {@link ProjectChangeTracker} version they started in: once a
+ * project changes, new calls start a fresh flight, so a caller never receives a result older than its
+ * own last write. With replica routing, calls that read from the replica and calls that read from the
+ * primary (clients pinned after a write) never share a flight.
+ * <p>
+ * Runs outside the transaction and the {@link DatabaseConcurrencyLimiter}, so waiting callers hold
+ * neither a connection nor a permit. Calls made inside an existing transaction are not coalesced.
+ * Calls are counted per name as {@code eprocure.coalescing.calls} with outcome executed, joined or reused,
+ * and running executions as {@code eprocure.coalescing.in-flight}.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "eprocure.concurrency.coalescing", name = "enabled", matchIfMissing = true)
+@Slf4j
+public class RequestCoalescer {
+
+    private final Cache<CallKey, Flight> flights;
+    private final ProjectChangeTracker changeTracker;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final MeterRegistry meterRegistry;
+    private final long freshnessNanos;
+    private final Map<Method, CallMetrics> metrics = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(CoalescingProperties properties,
+                            ProjectChangeTracker changeTracker,
+                            ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                            MeterRegistry meterRegistry) {
+        this.changeTracker = changeTracker;
+        this.replicaLagMonitor = replicaLagMonitor.getIfAvailable();
+        this.meterRegistry = meterRegistry;
+        this.freshnessNanos = properties.getFreshness().toNanos();
+        this.flights = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new FlightExpiry(freshnessNanos))
+                .build();
+    }
+
+    // Not bound as an advice argument: binding needs the invocation exposed, which happens at a lower precedence
+    @Around("@annotation(com.eprocure.project.concurrency.Coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        CallMetrics callMetrics = metrics.computeIfAbsent(method, CallMetrics::new);
+        CallKey key = new CallKey(method, Arrays.asList(joinPoint.getArgs()),
+                ReplicaRoutingContext.readsFromReplica(replicaLagMonitor));
+        String version = changeTracker.getVersion();
+        Flight flight = new Flight(version);
+
+        Flight current = flights.asMap().compute(key,
+                (k, existing) -> existing != null && existing.isShareable(version, freshnessNanos) ? existing : flight);
+        if (current != flight) {
+            if (current.isDone()) {
+                callMetrics.reused.increment();
+            } else {
+                callMetrics.joined.increment();
+                log.debug("Joining in-flight call of {}", callMetrics.name);
+            }
+            return current.await();
+        }
+
+        callMetrics.executed.increment();
+        callMetrics.inFlight.incrementAndGet();
+        try {
+            Object result = joinPoint.proceed();
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            flight.fail(e);
+            throw e;
+        } finally {
+            callMetrics.inFlight.decrementAndGet();
+            if (freshnessNanos > 0 && !flight.failed) {
+                // Reset the expiry: from here on the flight only lives for the freshness window
+                flights.asMap().replace(key, flight, flight);
+            } else {
+                flights.asMap().remove(key, flight);
+            }
+        }
+    }
+
+    private record CallKey(Method method, List<Object> arguments, boolean replica) {
+    }
+
+    private static final class Flight {
+
+        private final String version;
+        private final CompletableFuture<Object> outcome = new CompletableFuture<>();
+        private volatile long completedAt;
+        private volatile boolean failed;
+
+        private Flight(String version) {
+            this.version = version;
+        }
+
+        private void complete(Object result) {
+            completedAt = System.nanoTime();
+            outcome.complete(result);
+        }
+
+        private void fail(Throwable e) {
+            failed = true;
+            outcome.completeExceptionally(e);
+        }
+
+        private boolean isDone() {
+            return outcome.isDone();
+        }
+
+        private boolean isShareable(String currentVersion, long freshnessNanos) {
+            if (!version.equals(currentVersion) || failed) {
+                return false;
+            }
+            return !isDone() || System.nanoTime() - completedAt < freshnessNanos;
+        }
+
+        private Object await() throws Throwable {
+            try {
+                return outcome.get();
+            } catch (ExecutionException e) {
+                // Joined callers fail the same way as the executing one
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Keeps running flights until they complete, completed ones for the freshness window.
+     */
+    private static final class FlightExpiry implements Expiry<CallKey, Flight> {
+
+        private final long freshnessNanos;
+
+        private FlightExpiry(long freshnessNanos) {
+            this.freshnessNanos = freshnessNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(CallKey key, Flight flight, long currentTime) {
+            return flight.isDone() ? freshnessNanos : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(CallKey key, Flight flight, long currentTime, long currentDuration) {
+            return flight.isDone() ? freshnessNanos : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterRead(CallKey key, Flight flight, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private final class CallMetrics {
+
+        private final String name;
+        private final Counter executed;
+        private final Counter joined;
+        private final Counter reused;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private CallMetrics(Method method) {
+            Coalesced coalesced = AnnotationUtils.findAnnotation(method, Coalesced.class);
+            this.name = coalesced == null || coalesced.value().isEmpty() ? method.getName() : coalesced.value();
+            this.executed = callCounter(name, "executed");
+            this.joined = callCounter(name, "joined");
+            this.reused = callCounter(name, "reused");
+            Gauge.builder("eprocure.coalescing.in-flight", inFlight, AtomicInteger::get)
+                    .description("Coalesced calls currently executing")
+                    .tag("name", name)
+                    .register(meterRegistry);
+        }
+
+        private Counter callCounter(String name, String outcome) {
+            return Counter.builder("eprocure.coalescing.calls")
+                    .description("Calls to coalesced methods by outcome")
+                    .tag("name", name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.eprocure.project.config;
+
+import com.eprocure.project.imports.ImportProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for bulk project writes (batch creation and imports).
+ */
+@Configuration
+@EnableConfigurationProperties({ProjectBatchProperties.class, ImportProperties.class})
+public class BatchConfig {
+}
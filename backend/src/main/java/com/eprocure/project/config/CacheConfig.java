@@ -0,0 +1,23 @@
+package com.eprocure.project.config;
+
+import com.eprocure.project.cache.LocalProjectCacheInvalidationChannel;
+import com.eprocure.project.cache.ProjectCacheInvalidationChannel;
+import com.eprocure.project.cache.ProjectCacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the in-process project cache.
+ */
+@Configuration
+@EnableConfigurationProperties(ProjectCacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ProjectCacheInvalidationChannel projectCacheInvalidationChannel() {
+        return new LocalProjectCacheInvalidationChannel();
+    }
+}
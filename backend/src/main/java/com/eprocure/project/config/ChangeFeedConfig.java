@@ -0,0 +1,12 @@
+package com.eprocure.project.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the project change feed (delta sync).
+ */
+@Configuration
+@EnableConfigurationProperties(ProjectChangeFeedProperties.class)
+public class ChangeFeedConfig {
+}
@@ -0,0 +1,14 @@
+package com.eprocure.project.config;
+
+import com.eprocure.project.concurrency.CoalescingProperties;
+import com.eprocure.project.concurrency.DatabaseConcurrencyProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for request concurrency limits and read coalescing.
+ */
+@Configuration
+@EnableConfigurationProperties({DatabaseConcurrencyProperties.class, CoalescingProperties.class})
+public class ConcurrencyConfig {
+}
@@ -0,0 +1,13 @@
+package com.eprocure.project.config;
+
+import com.eprocure.project.stream.ProjectEventProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the project change event stream.
+ */
+@Configuration
+@EnableConfigurationProperties(ProjectEventProperties.class)
+public class EventStreamConfig {
+}
@@ -0,0 +1,13 @@
+package com.eprocure.project.config;
+
+import com.eprocure.project.fx.FxRateProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for currency conversion of reported totals.
+ */
+@Configuration
+@EnableConfigurationProperties(FxRateProperties.class)
+public class FxConfig {
+}
@@ -0,0 +1,37 @@
+package com.eprocure.project.config;
+
+import com.eprocure.project.idempotency.IdempotencyFilter;
+import com.eprocure.project.idempotency.IdempotencyProperties;
+import com.eprocure.project.idempotency.IdempotencyStore;
+import com.eprocure.project.idempotency.LocalIdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for Idempotency-Key handling of project creation.
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties) {
+        return new LocalIdempotencyStore(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore idempotencyStore,
+                                                                      IdempotencyProperties properties,
+                                                                      ObjectMapper objectMapper) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyStore, properties, objectMapper));
+        // POST /v1/projects only; add patterns to cover more endpoints
+        registration.addUrlPatterns("/v1/projects");
+        return registration;
+    }
+}
@@ -0,0 +1,44 @@
+package com.eprocure.project.config;
+
+import com.eprocure.project.metrics.QueryCountInterceptor;
+import com.eprocure.project.metrics.QueryCountingStatementInspector;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Micrometer configuration: @Timed support and SQL statement counting.
+ * HTTP, HikariCP and JVM metrics are bound by Spring Boot Actuator.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public TimedAspect timedAspect() {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public QueryCountingStatementInspector queryCountingStatementInspector() {
+        return new QueryCountingStatementInspector(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(QueryCountingStatementInspector statementInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementInspector);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryCountInterceptor(meterRegistry)).addPathPatterns("/v1/**");
+    }
+}
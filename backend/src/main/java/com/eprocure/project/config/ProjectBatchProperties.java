@@ -0,0 +1,23 @@
+package com.eprocure.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for bulk project writes.
+ */
+@Data
+@ConfigurationProperties(prefix = "eprocure.batch")
+public class ProjectBatchProperties {
+
+    /**
+     * Number of projects persisted per transaction.
+     * Should be a multiple of hibernate.jdbc.batch_size.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Maximum number of projects accepted in a single batch request.
+     */
+    private int maxItems = 10_000;
+}
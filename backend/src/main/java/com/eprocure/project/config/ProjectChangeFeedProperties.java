@@ -0,0 +1,30 @@
+package com.eprocure.project.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the project change feed (delta sync).
+ */
+@Data
+@ConfigurationProperties(prefix = "eprocure.changes")
+public class ProjectChangeFeedProperties {
+
+    /**
+     * How long tombstones of deleted projects are kept; older tokens are answered with 410 Gone.
+     */
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    /**
+     * Changes younger than this are not returned yet. Modification times are taken before commit,
+     * so this must exceed the longest project write transaction for no change to be skipped.
+     */
+    private Duration settleDelay = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of changes per response.
+     */
+    private int maxPageSize = 1_000;
+}
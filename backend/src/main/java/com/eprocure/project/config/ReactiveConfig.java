@@ -0,0 +1,89 @@
+package com.eprocure.project.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Configuration of the reactive (WebFlux + R2DBC) profile.
+ * <p>
+ * The JPA stack stays active for scheduled jobs and statistics reconciliation, so the R2DBC
+ * connection pool is deliberately not exposed as a ConnectionFactory bean: Spring Boot backs off
+ * the JDBC DataSource when one exists. For the same reason the R2DBC transaction manager is only
+ * reachable through the TransactionalOperator, leaving the JPA one as the sole TransactionManager.
+ * Netty is chosen explicitly because Tomcat is also on the classpath for the servlet stack.
+ */
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(R2dbcProperties.class)
+@EnableR2dbcRepositories(basePackages = "com.eprocure.project.repository.reactive", entityOperationsRef = "r2dbcEntityTemplate")
+public class ReactiveConfig implements WebFluxConfigurer, DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveConfig(R2dbcProperties properties) {
+        R2dbcProperties.Pool pool = properties.getPool();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactoryBuilder
+                        .withUrl(properties.getUrl())
+                        .username(properties.getUsername())
+                        .password(properties.getPassword())
+                        .build())
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .name("eprocure-r2dbc")
+                .build());
+    }
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public R2dbcEntityTemplate r2dbcEntityTemplate() {
+        return new R2dbcEntityTemplate(connectionPool);
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(R2dbcEntityTemplate r2dbcEntityTemplate) {
+        return r2dbcEntityTemplate.getDatabaseClient();
+    }
+
+    @Bean
+    public TransactionalOperator transactionalOperator() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    @Override
+    public void addCorsMappings(CorsRegistry registry) {
+        registry.addMapping("/v1/**")
+                .allowedOrigins(
+                        "http://localhost:4200",           // Angular dev server
+                        "https://eprocure.azure.com"       // Production frontend
+                )
+                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedHeaders("*")
+                .allowCredentials(true)
+                .maxAge(3600);
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,16 @@
+package com.eprocure.project.config;
+
+import com.eprocure.project.job.AutoCompleteProperties;
+import com.eprocure.project.job.ReconciliationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs (statistics reconciliation, project auto-completion, etc.).
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({AutoCompleteProperties.class, ReconciliationProperties.class})
+public class SchedulingConfig {
+}
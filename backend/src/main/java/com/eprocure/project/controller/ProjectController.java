@@ -1,10 +1,27 @@
 package com.eprocure.project.controller;
 
+import com.eprocure.project.cache.ProjectChangeTracker;
+import com.eprocure.project.dto.request.BulkStatusTransitionRequest;
 import com.eprocure.project.dto.request.CreateProjectRequest;
+import com.eprocure.project.dto.request.ProjectFilterRequest;
+import com.eprocure.project.dto.request.StatusTransitionRequest;
 import com.eprocure.project.dto.response.ApiResponse;
+import com.eprocure.project.dto.response.BatchCreateResultDTO;
+import com.eprocure.project.dto.response.ProjectChangesDTO;
+import com.eprocure.project.dto.response.CursorPage;
 import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.dto.response.ProjectSearchResultDTO;
 import com.eprocure.project.dto.response.ProjectStatisticsDTO;
+import com.eprocure.project.dto.response.ProjectTrendDTO;
+import com.eprocure.project.dto.response.StatusTransitionResultDTO;
 import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.export.ExportFormat;
+import com.eprocure.project.fx.FxRateTable;
+import com.eprocure.project.pagination.ProjectListView;
+import com.eprocure.project.pagination.ProjectSort;
+import com.eprocure.project.service.ProjectChangeFeedService;
+import com.eprocure.project.service.ProjectExportService;
+import com.eprocure.project.service.ProjectSearchService;
 import com.eprocure.project.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,20 +29,35 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.YearMonth;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * REST Controller for Project operations.
+ * <p>
+ * Single projects, listings and statistics carry a strong ETag and honour If-None-Match:
+ * a single project is versioned by its modification time, listings and statistics by the
+ * {@link ProjectChangeTracker}. Responses ask clients to revalidate before every reuse. No Last-Modified
+ * is sent, since its one-second resolution cannot tell apart writes made within the same second.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/v1/projects")
 @RequiredArgsConstructor
 @Slf4j
@@ -34,6 +66,11 @@ import java.util.UUID;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectExportService projectExportService;
+    private final ProjectSearchService projectSearchService;
+    private final ProjectChangeFeedService changeFeedService;
+    private final ProjectChangeTracker changeTracker;
+    private final FxRateTable fxRateTable;
 
     @PostMapping
     @Operation(summary = "Create a new project")
@@ -47,38 +84,120 @@ public class ProjectController {
                 .body(ApiResponse.success(createdProject, "Project created successfully"));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create many projects at once, with per-item results")
+    public ResponseEntity<ApiResponse<BatchCreateResultDTO>> createProjects(
+            @RequestBody List<CreateProjectRequest> requests) {
+        log.info("POST /v1/projects/batch - Creating {} projects", requests.size());
+
+        BatchCreateResultDTO result = projectService.createProjects(requests);
+        HttpStatus status = result.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.OK;
+        return ResponseEntity
+                .status(status)
+                .body(ApiResponse.success(result,
+                        String.format("Batch processed: %d created, %d failed", result.getCreated(), result.getFailed())));
+    }
+
     @GetMapping
-    @Operation(summary = "List all projects with pagination")
-    public ResponseEntity<ApiResponse<Page<ProjectDTO>>> listProjects(
+    @Operation(summary = "List projects with pagination, optional filters and sort")
+    public ResponseEntity<ApiResponse<Page<?>>> listProjects(
             @Parameter(description = "Page number (0-indexed)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
             @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort as property[,asc|desc]; property is one of createdAt, updatedAt, title, budget, startDate, endDate")
+            @RequestParam(defaultValue = ProjectSort.DEFAULT) String sort,
+            @Parameter(description = "summary (list columns only) or full (every project field)")
+            @RequestParam(defaultValue = ProjectListView.DEFAULT) String view,
+            @ParameterObject ProjectFilterRequest filter,
+            WebRequest webRequest) {
+        log.info("GET /v1/projects - page: {}, size: {}, sort: {}, view: {}, filter: {}", page, size, sort, view, filter);
+
+        ProjectListView listView = ProjectListView.parse(view);
+        // Read the version before querying: a write committing in between then only causes a spurious miss
+        if (webRequest.checkNotModified(etag(changeTracker.getVersion()))) {
+            return null;
+        }
+
+        Pageable pageable = PageRequest.of(page, size, ProjectSort.parse(sort));
+        Page<?> projects = listView == ProjectListView.FULL
+                ? projectService.filterProjects(filter, pageable)
+                : projectService.filterProjectSummaries(filter, pageable);
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(ApiResponse.success(projects));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "List projects with keyset (cursor) pagination, most recent first")
+    public ResponseEntity<ApiResponse<CursorPage<ProjectDTO>>> listProjectsByCursor(
+            @Parameter(description = "Cursor returned as nextCursor by the previous call (omit for the first slice)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Slice size (1-100)")
+            @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Filter by status (optional)")
             @RequestParam(required = false) ProjectStatus status) {
-        log.info("GET /v1/projects - page: {}, size: {}, status: {}", page, size, status);
+        log.info("GET /v1/projects/cursor - cursor: {}, size: {}, status: {}", cursor, size, status);
 
-        Pageable pageable = PageRequest.of(page, size);
-        Page<ProjectDTO> projects;
+        CursorPage<ProjectDTO> projects = projectService.listProjectsByCursor(cursor, size, status);
+        return ResponseEntity.ok(ApiResponse.success(projects));
+    }
 
-        if (status != null) {
-            projects = projectService.listProjectsByStatus(status, pageable);
-        } else {
-            projects = projectService.listProjects(pageable);
-        }
+    @GetMapping("/changes")
+    @Operation(summary = "Delta sync: projects created, updated or deleted since a token, oldest first")
+    public ResponseEntity<ApiResponse<ProjectChangesDTO>> getChanges(
+            @Parameter(description = "nextToken of the previous call (omit to start with all existing projects)")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes (1-1000)")
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("GET /v1/projects/changes - since: {}, limit: {}", since, limit);
 
-        return ResponseEntity.ok(ApiResponse.success(projects));
+        ProjectChangesDTO changes = changeFeedService.getChanges(since, limit);
+        return ResponseEntity.ok(ApiResponse.success(changes));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Full-text search over project titles and descriptions")
+    public ResponseEntity<ApiResponse<ProjectSearchResultDTO>> searchProjects(
+            @Parameter(description = "Search words; each word must match a whole word or a word prefix")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of hits (1-100)")
+            @RequestParam(defaultValue = "20") int limit) {
+        log.info("GET /v1/projects/search - q: {}, limit: {}", q, limit);
+
+        ProjectSearchResultDTO result = projectSearchService.search(q, limit);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Stream all projects as CSV or NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportProjects(
+            @Parameter(description = "Export format (CSV or NDJSON)")
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @Parameter(description = "Filter by status (optional)")
+            @RequestParam(required = false) ProjectStatus status) {
+        log.info("GET /v1/projects/export - format: {}, status: {}", format, status);
+
+        StreamingResponseBody body = outputStream -> projectExportService.exportProjects(status, format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"projects." + format.getFileExtension() + "\"")
+                .body(body);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get project by ID")
     public ResponseEntity<ApiResponse<ProjectDTO>> getProject(
             @Parameter(description = "Project ID")
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            WebRequest webRequest) {
         log.info("GET /v1/projects/{} - Fetching project", id);
 
+        // Served from the project cache when present, so a matching tag costs no query and no serialization
         ProjectDTO project = projectService.getProject(id);
-        return ResponseEntity.ok(ApiResponse.success(project));
+        if (webRequest.checkNotModified(etag(project.getUpdatedAt().toString()))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(ApiResponse.success(project));
     }
 
     @PutMapping("/{id}")
@@ -93,6 +212,29 @@ public class ProjectController {
         return ResponseEntity.ok(ApiResponse.success(updatedProject, "Project updated successfully"));
     }
 
+    @PostMapping("/{id}/status")
+    @Operation(summary = "Move a project to its next status (DRAFT -> ACTIVE -> COMPLETED)")
+    public ResponseEntity<ApiResponse<StatusTransitionResultDTO>> transitionStatus(
+            @Parameter(description = "Project ID")
+            @PathVariable UUID id,
+            @Valid @RequestBody StatusTransitionRequest request) {
+        log.info("POST /v1/projects/{}/status - Moving project to {}", id, request.getStatus());
+
+        StatusTransitionResultDTO result = projectService.transitionStatus(id, request.getStatus());
+        return ResponseEntity.ok(ApiResponse.success(result, "Project status updated successfully"));
+    }
+
+    @PostMapping("/status")
+    @Operation(summary = "Move several projects to their next status")
+    public ResponseEntity<ApiResponse<StatusTransitionResultDTO>> transitionStatuses(
+            @Valid @RequestBody BulkStatusTransitionRequest request) {
+        log.info("POST /v1/projects/status - Moving {} projects to {}", request.getIds().size(), request.getStatus());
+
+        StatusTransitionResultDTO result = projectService.transitionStatuses(request.getIds(), request.getStatus());
+        return ResponseEntity.ok(ApiResponse.success(result,
+                String.format("%d of %d projects updated", result.getUpdated(), result.getRequested())));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a project")
     public ResponseEntity<ApiResponse<Void>> deleteProject(
@@ -106,10 +248,31 @@ public class ProjectController {
 
     @GetMapping("/statistics")
     @Operation(summary = "Get dashboard statistics")
-    public ResponseEntity<ApiResponse<ProjectStatisticsDTO>> getStatistics() {
+    public ResponseEntity<ApiResponse<ProjectStatisticsDTO>> getStatistics(WebRequest webRequest) {
         log.info("GET /v1/projects/statistics - Fetching statistics");
 
+        // Converted totals follow the FX table and the change percent follows the calendar month
+        String version = changeTracker.getVersion() + "." + fxRateTable.getLoadedAt().toEpochMilli() + "." + YearMonth.now();
+        if (webRequest.checkNotModified(etag(version))) {
+            return null;
+        }
+
         ProjectStatisticsDTO statistics = projectService.getStatistics();
-        return ResponseEntity.ok(ApiResponse.success(statistics));
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(ApiResponse.success(statistics));
+    }
+
+    @GetMapping("/statistics/trend")
+    @Operation(summary = "Get per-month project counts and budgets by status")
+    public ResponseEntity<ApiResponse<ProjectTrendDTO>> getStatisticsTrend(
+            @Parameter(description = "Number of months, including the current one (1-60)")
+            @RequestParam(defaultValue = "12") int months) {
+        log.info("GET /v1/projects/statistics/trend - months: {}", months);
+
+        ProjectTrendDTO trend = projectService.getTrend(months);
+        return ResponseEntity.ok(ApiResponse.success(trend));
+    }
+
+    private static String etag(String version) {
+        return "\"" + version + "\"";
     }
 }
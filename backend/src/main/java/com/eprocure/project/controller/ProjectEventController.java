@@ -0,0 +1,53 @@
+package com.eprocure.project.controller;
+
+import com.eprocure.project.exception.ServiceBusyException;
+import com.eprocure.project.stream.ProjectEventBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller streaming project changes to dashboards as Server-Sent Events.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/v1/projects/events")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "project-event-controller", description = "Project Change Event Stream")
+public class ProjectEventController {
+
+    private final ProjectEventBroadcaster broadcaster;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream project-changed and statistics-changed events")
+    public SseEmitter streamEvents() {
+        log.info("GET /v1/projects/events - Opening event stream ({} connected)", broadcaster.getSubscriberCount());
+
+        return broadcaster.subscribe();
+    }
+
+    /**
+     * Event stream clients only accept text/event-stream, so the rejection carries no JSON body.
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<Void> handleServiceBusyException(ServiceBusyException ex) {
+        log.warn("Rejecting event stream client: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build();
+    }
+}
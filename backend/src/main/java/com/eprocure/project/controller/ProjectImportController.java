@@ -0,0 +1,66 @@
+package com.eprocure.project.controller;
+
+import com.eprocure.project.dto.response.ApiResponse;
+import com.eprocure.project.dto.response.ImportJobDTO;
+import com.eprocure.project.service.ProjectImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST Controller for asynchronous project imports.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/v1/projects/imports")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "project-import-controller", description = "Project Import API")
+public class ProjectImportController {
+
+    private final ProjectImportService projectImportService;
+
+    @PostMapping(consumes = "text/csv")
+    @Operation(summary = "Import projects from a CSV upload; poll the returned job for progress")
+    public ResponseEntity<ApiResponse<ImportJobDTO>> importProjects(InputStream csv) {
+        log.info("POST /v1/projects/imports - Importing projects from CSV");
+
+        ImportJobDTO job = projectImportService.importCsv(csv);
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/v1/projects/imports/" + job.getId()))
+                .body(ApiResponse.success(job, "Import " + job.getId() + " accepted"));
+    }
+
+    @GetMapping
+    @Operation(summary = "List recent import jobs")
+    public ResponseEntity<ApiResponse<List<ImportJobDTO>>> listJobs() {
+        log.info("GET /v1/projects/imports - Listing import jobs");
+
+        return ResponseEntity.ok(ApiResponse.success(projectImportService.listJobs()));
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get the progress of an import job")
+    public ResponseEntity<ApiResponse<ImportJobDTO>> getJob(
+            @Parameter(description = "Import job ID")
+            @PathVariable UUID jobId) {
+        log.info("GET /v1/projects/imports/{} - Fetching import job", jobId);
+
+        return ResponseEntity.ok(ApiResponse.success(projectImportService.getJob(jobId)));
+    }
+}
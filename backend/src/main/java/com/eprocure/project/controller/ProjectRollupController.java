@@ -0,0 +1,88 @@
+package com.eprocure.project.controller;
+
+import com.eprocure.project.dto.response.ApiResponse;
+import com.eprocure.project.dto.response.ProjectBudgetRollupDTO;
+import com.eprocure.project.entity.RollupDimension;
+import com.eprocure.project.pagination.RollupSort;
+import com.eprocure.project.service.ProjectRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST Controller for the per-department and per-manager budget rollups.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/v1/projects/rollups")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "project-rollup-controller", description = "Project Budget Rollup API")
+public class ProjectRollupController {
+
+    private final ProjectRollupService rollupService;
+
+    @GetMapping("/departments")
+    @Operation(summary = "List budget rollups per department and currency, largest total budget first by default")
+    public ResponseEntity<ApiResponse<Page<ProjectBudgetRollupDTO>>> listDepartmentRollups(
+            @Parameter(description = "Restrict to one currency (optional)")
+            @RequestParam(required = false) String currency,
+            @Parameter(description = "Page number (0-indexed)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size (1-100); page 0 gives the top N")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort as property[,asc|desc]; property is totalBudget, totalProjects or a per-status variant such as activeBudget")
+            @RequestParam(defaultValue = RollupSort.DEFAULT) String sort) {
+        log.info("GET /v1/projects/rollups/departments - currency: {}, page: {}, size: {}, sort: {}", currency, page, size, sort);
+
+        return ResponseEntity.ok(ApiResponse.success(rollupService.listRollups(
+                RollupDimension.DEPARTMENT, currency, PageRequest.of(page, size, RollupSort.parse(sort)))));
+    }
+
+    @GetMapping("/departments/{departmentId}")
+    @Operation(summary = "Get the budget rollups of one department, one entry per currency")
+    public ResponseEntity<ApiResponse<List<ProjectBudgetRollupDTO>>> getDepartmentRollups(@PathVariable UUID departmentId) {
+        log.info("GET /v1/projects/rollups/departments/{}", departmentId);
+
+        return ResponseEntity.ok(ApiResponse.success(rollupService.getRollups(RollupDimension.DEPARTMENT, departmentId)));
+    }
+
+    @GetMapping("/managers")
+    @Operation(summary = "List budget rollups per project manager and currency, largest total budget first by default")
+    public ResponseEntity<ApiResponse<Page<ProjectBudgetRollupDTO>>> listManagerRollups(
+            @Parameter(description = "Restrict to one currency (optional)")
+            @RequestParam(required = false) String currency,
+            @Parameter(description = "Page number (0-indexed)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size (1-100); page 0 gives the top N")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort as property[,asc|desc]; property is totalBudget, totalProjects or a per-status variant such as activeBudget")
+            @RequestParam(defaultValue = RollupSort.DEFAULT) String sort) {
+        log.info("GET /v1/projects/rollups/managers - currency: {}, page: {}, size: {}, sort: {}", currency, page, size, sort);
+
+        return ResponseEntity.ok(ApiResponse.success(rollupService.listRollups(
+                RollupDimension.PROJECT_MANAGER, currency, PageRequest.of(page, size, RollupSort.parse(sort)))));
+    }
+
+    @GetMapping("/managers/{projectManagerId}")
+    @Operation(summary = "Get the budget rollups of one project manager, one entry per currency")
+    public ResponseEntity<ApiResponse<List<ProjectBudgetRollupDTO>>> getManagerRollups(@PathVariable UUID projectManagerId) {
+        log.info("GET /v1/projects/rollups/managers/{}", projectManagerId);
+
+        return ResponseEntity.ok(ApiResponse.success(rollupService.getRollups(RollupDimension.PROJECT_MANAGER, projectManagerId)));
+    }
+}
@@ -0,0 +1,133 @@
+package com.eprocure.project.controller;
+
+import com.eprocure.project.dto.request.BulkStatusTransitionRequest;
+import com.eprocure.project.dto.request.CreateProjectRequest;
+import com.eprocure.project.dto.request.ProjectFilterRequest;
+import com.eprocure.project.dto.request.StatusTransitionRequest;
+import com.eprocure.project.dto.response.ApiResponse;
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.dto.response.ProjectStatisticsDTO;
+import com.eprocure.project.dto.response.StatusTransitionResultDTO;
+import com.eprocure.project.pagination.ProjectListView;
+import com.eprocure.project.pagination.ProjectSort;
+import com.eprocure.project.service.ReactiveProjectService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * WebFlux REST Controller serving the /v1/projects contract in the reactive profile.
+ * The listing takes the same filters, sort and view as the servlet one.
+ * Bulk, cursor, export and import endpoints are only available in the servlet stack.
+ */
+@RestController
+@RequestMapping("/v1/projects")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveProjectController {
+
+    private final ReactiveProjectService projectService;
+
+    @PostMapping
+    public Mono<ResponseEntity<ApiResponse<ProjectDTO>>> createProject(
+            @Valid @RequestBody CreateProjectRequest request) {
+        log.info("POST /v1/projects - Creating new project: {}", request.getTitle());
+
+        return projectService.createProject(request)
+                .map(createdProject -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(ApiResponse.success(createdProject, "Project created successfully")));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ApiResponse<Page<?>>>> listProjects(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = ProjectSort.DEFAULT) String sort,
+            @RequestParam(defaultValue = ProjectListView.DEFAULT) String view,
+            @ParameterObject ProjectFilterRequest filter) {
+        log.info("GET /v1/projects - page: {}, size: {}, sort: {}, view: {}, filter: {}", page, size, sort, view, filter);
+
+        ProjectListView listView = ProjectListView.parse(view);
+        PageRequest pageable = PageRequest.of(page, size, ProjectSort.parse(sort));
+        Mono<? extends Page<?>> projects = listView == ProjectListView.FULL
+                ? projectService.filterProjects(filter, pageable)
+                : projectService.filterProjectSummaries(filter, pageable);
+
+        return projects.map(result -> ResponseEntity.ok(ApiResponse.success(result)));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProjectDTO> streamProjects(@ParameterObject ProjectFilterRequest filter) {
+        log.info("GET /v1/projects (stream) - filter: {}", filter);
+
+        return projectService.streamProjects(filter);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<ProjectDTO>>> getProject(@PathVariable UUID id) {
+        log.info("GET /v1/projects/{} - Fetching project", id);
+
+        return projectService.getProject(id)
+                .map(project -> ResponseEntity.ok(ApiResponse.success(project)));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<ProjectDTO>>> updateProject(
+            @PathVariable UUID id,
+            @Valid @RequestBody CreateProjectRequest request) {
+        log.info("PUT /v1/projects/{} - Updating project", id);
+
+        return projectService.updateProject(id, request)
+                .map(updatedProject -> ResponseEntity.ok(ApiResponse.success(updatedProject, "Project updated successfully")));
+    }
+
+    @PostMapping("/{id}/status")
+    public Mono<ResponseEntity<ApiResponse<StatusTransitionResultDTO>>> transitionStatus(
+            @PathVariable UUID id,
+            @Valid @RequestBody StatusTransitionRequest request) {
+        log.info("POST /v1/projects/{}/status - Moving project to {}", id, request.getStatus());
+
+        return projectService.transitionStatus(id, request.getStatus())
+                .map(result -> ResponseEntity.ok(ApiResponse.success(result, "Project status updated successfully")));
+    }
+
+    @PostMapping("/status")
+    public Mono<ResponseEntity<ApiResponse<StatusTransitionResultDTO>>> transitionStatuses(
+            @Valid @RequestBody BulkStatusTransitionRequest request) {
+        log.info("POST /v1/projects/status - Moving {} projects to {}", request.getIds().size(), request.getStatus());
+
+        return projectService.transitionStatuses(request.getIds(), request.getStatus())
+                .map(result -> ResponseEntity.ok(ApiResponse.success(result,
+                        String.format("%d of %d projects updated", result.getUpdated(), result.getRequested()))));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<Void>>> deleteProject(@PathVariable UUID id) {
+        log.info("DELETE /v1/projects/{} - Deleting project", id);
+
+        return projectService.deleteProject(id)
+                .thenReturn(ResponseEntity.ok(ApiResponse.successVoid("Project deleted successfully")));
+    }
+
+    @GetMapping("/statistics")
+    public Mono<ResponseEntity<ApiResponse<ProjectStatisticsDTO>>> getStatistics() {
+        log.info("GET /v1/projects/statistics - Fetching statistics");
+
+        return projectService.getStatistics()
+                .map(statistics -> ResponseEntity.ok(ApiResponse.success(statistics)));
+    }
+}
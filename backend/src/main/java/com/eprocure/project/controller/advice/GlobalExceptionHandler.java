@@ -1,9 +1,16 @@
 package com.eprocure.project.controller.advice;
 
 import com.eprocure.project.dto.response.ApiResponse;
+import com.eprocure.project.exception.ChangeTokenExpiredException;
+import com.eprocure.project.exception.ImportJobNotFoundException;
 import com.eprocure.project.exception.InvalidProjectDataException;
+import com.eprocure.project.exception.PayloadTooLargeException;
 import com.eprocure.project.exception.ProjectNotFoundException;
+import com.eprocure.project.exception.ProjectStatusConflictException;
+import com.eprocure.project.exception.ServiceBusyException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -16,9 +23,10 @@ import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Global exception handler for all REST controllers.
+ * Global exception handler for the servlet (MVC) REST controllers.
  */
 @RestControllerAdvice
+@Profile("!reactive")
 @Slf4j
 public class GlobalExceptionHandler {
 
@@ -33,6 +41,17 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(404, ex.getMessage()));
     }
 
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleImportJobNotFoundException(
+            ImportJobNotFoundException ex,
+            WebRequest request) {
+        log.error("Import job not found: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(404, ex.getMessage()));
+    }
+
     @ExceptionHandler(InvalidProjectDataException.class)
     public ResponseEntity<ApiResponse<Void>> handleInvalidProjectDataException(
             InvalidProjectDataException ex,
@@ -44,6 +63,51 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(400, ex.getMessage()));
     }
 
+    @ExceptionHandler(ProjectStatusConflictException.class)
+    public ResponseEntity<ApiResponse<Void>> handleProjectStatusConflictException(
+            ProjectStatusConflictException ex,
+            WebRequest request) {
+        log.error("Project status conflict: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(409, ex.getMessage()));
+    }
+
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<ApiResponse<Void>> handleChangeTokenExpiredException(
+            ChangeTokenExpiredException ex,
+            WebRequest request) {
+        log.warn("Change token expired: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.GONE)
+                .body(ApiResponse.error(410, ex.getMessage()));
+    }
+
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePayloadTooLargeException(
+            PayloadTooLargeException ex,
+            WebRequest request) {
+        log.warn("Rejecting request: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(ApiResponse.error(413, ex.getMessage()));
+    }
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceBusyException(
+            ServiceBusyException ex,
+            WebRequest request) {
+        log.warn("Rejecting request: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error(503, ex.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
@@ -0,0 +1,97 @@
+package com.eprocure.project.controller.advice;
+
+import com.eprocure.project.dto.response.ApiResponse;
+import com.eprocure.project.exception.InvalidProjectDataException;
+import com.eprocure.project.exception.ProjectNotFoundException;
+import com.eprocure.project.exception.ProjectStatusConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Exception handler for the WebFlux controllers of the reactive profile.
+ * Produces the same error responses as {@link GlobalExceptionHandler}.
+ */
+@RestControllerAdvice
+@Profile("reactive")
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(ProjectNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleProjectNotFoundException(ProjectNotFoundException ex) {
+        log.error("Project not found: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(404, ex.getMessage()));
+    }
+
+    @ExceptionHandler({InvalidProjectDataException.class, IllegalArgumentException.class})
+    public ResponseEntity<ApiResponse<Void>> handleInvalidProjectDataException(RuntimeException ex) {
+        log.error("Invalid project data: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(400, ex.getMessage()));
+    }
+
+    @ExceptionHandler(ProjectStatusConflictException.class)
+    public ResponseEntity<ApiResponse<Void>> handleProjectStatusConflictException(ProjectStatusConflictException ex) {
+        log.error("Project status conflict: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(409, ex.getMessage()));
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationExceptions(WebExchangeBindException ex) {
+        log.error("Validation failed: {}", ex.getMessage());
+
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach((error) -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+
+        ApiResponse<Map<String, String>> response = ApiResponse.<Map<String, String>>builder()
+                .status(400)
+                .message("Validation failed")
+                .data(errors)
+                .requestId(java.util.UUID.randomUUID().toString())
+                .timestamp(System.currentTimeMillis())
+                .build();
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(response);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServerWebInputException(ServerWebInputException ex) {
+        log.error("Invalid request: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(400, ex.getReason()));
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ApiResponse<Void>> handleGlobalException(Exception ex) {
+        log.error("Unexpected error occurred", ex);
+
+        return ResponseEntity
+                .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error(500, "An unexpected error occurred. Please try again later."));
+    }
+}
@@ -3,6 +3,7 @@ package com.eprocure.project.dto.mapper;
 import com.eprocure.project.dto.request.CreateProjectRequest;
 import com.eprocure.project.dto.response.ProjectDTO;
 import com.eprocure.project.entity.Project;
+import com.eprocure.project.entity.ProjectRecord;
 import org.mapstruct.*;
 
 /**
@@ -48,4 +49,44 @@ public interface ProjectMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
     void updateEntityFromRequest(CreateProjectRequest request, @MappingTarget Project project);
+
+    /**
+     * Maps the R2DBC project record to ProjectDTO.
+     *
+     * @param record the project record
+     * @return project DTO
+     */
+    ProjectDTO toDTO(ProjectRecord record);
+
+    /**
+     * Maps CreateProjectRequest to a new R2DBC project record.
+     * Id, status and audit fields are set by the reactive service.
+     *
+     * @param request the create project request
+     * @return project record
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "newRecord", ignore = true)
+    ProjectRecord toRecord(CreateProjectRequest request);
+
+    /**
+     * Updates an existing R2DBC project record from CreateProjectRequest.
+     * Preserves id, status, and audit fields.
+     *
+     * @param request the update request
+     * @param record the existing record to update
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "newRecord", ignore = true)
+    void updateRecordFromRequest(CreateProjectRequest request, @MappingTarget ProjectRecord record);
 }
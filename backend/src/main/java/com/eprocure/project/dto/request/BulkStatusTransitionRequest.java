@@ -0,0 +1,30 @@
+package com.eprocure.project.dto.request;
+
+import com.eprocure.project.entity.ProjectStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for moving several projects to their next status at once.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusTransitionRequest {
+
+    @NotEmpty(message = "At least one project ID is required")
+    @Size(max = 1000, message = "At most 1000 project IDs can be transitioned at once")
+    private List<@NotNull(message = "Project ID must not be null") UUID> ids;
+
+    @NotNull(message = "Status is required")
+    private ProjectStatus status;
+}
@@ -0,0 +1,58 @@
+package com.eprocure.project.dto.request;
+
+import com.eprocure.project.entity.ProjectStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Optional criteria for listing projects, bound from query parameters.
+ * Criteria that are set are combined with AND; date and budget bounds are inclusive.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectFilterRequest {
+
+    @Schema(description = "Filter by status")
+    private ProjectStatus status;
+
+    @Schema(description = "Filter by department")
+    private UUID departmentId;
+
+    @Schema(description = "Filter by project manager")
+    private UUID projectManagerId;
+
+    @Schema(description = "Filter by currency (ISO 4217 code)", example = "EUR")
+    private String currency;
+
+    @Schema(description = "Minimum budget")
+    private BigDecimal minBudget;
+
+    @Schema(description = "Maximum budget")
+    private BigDecimal maxBudget;
+
+    @Schema(description = "Earliest start date")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDateFrom;
+
+    @Schema(description = "Latest start date")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDateTo;
+
+    @Schema(description = "Earliest end date")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDateFrom;
+
+    @Schema(description = "Latest end date")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDateTo;
+}
@@ -0,0 +1,21 @@
+package com.eprocure.project.dto.request;
+
+import com.eprocure.project.entity.ProjectStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for moving a project to its next status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatusTransitionRequest {
+
+    @NotNull(message = "Status is required")
+    private ProjectStatus status;
+}
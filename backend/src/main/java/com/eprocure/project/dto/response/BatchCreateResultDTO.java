@@ -0,0 +1,23 @@
+package com.eprocure.project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO reporting the per-item results of a batch project creation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchCreateResultDTO {
+
+    private int requested;
+    private int created;
+    private int failed;
+    private List<BatchItemResultDTO> items;
+}
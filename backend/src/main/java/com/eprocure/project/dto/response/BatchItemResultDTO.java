@@ -0,0 +1,36 @@
+package com.eprocure.project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Outcome of a single item of a batch project creation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchItemResultDTO {
+
+    /**
+     * Position of the item in the submitted list (0-indexed).
+     */
+    private int index;
+
+    /**
+     * Id of the created project, or null if the item failed.
+     */
+    private UUID id;
+
+    private boolean success;
+
+    /**
+     * Field name to error message, present only for failed items.
+     */
+    private Map<String, String> errors;
+}
@@ -0,0 +1,26 @@
+package com.eprocure.project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Slice of results for keyset (cursor-based) pagination.
+ * No total count is computed; pass {@code nextCursor} back to fetch the following slice.
+ *
+ * @param <T> the type of the elements
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,32 @@
+package com.eprocure.project.dto.response;
+
+import com.eprocure.project.imports.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for the progress and outcome of a project import job.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJobDTO {
+
+    private UUID id;
+    private ImportJobStatus status;
+    private String message;
+    private long recordsRead;
+    private long created;
+    private long failed;
+    private List<ImportLineErrorDTO> errors;
+    private boolean errorsTruncated;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,21 @@
+package com.eprocure.project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO describing why a line of an import was rejected.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportLineErrorDTO {
+
+    private long line;
+    private Map<String, String> errors;
+}
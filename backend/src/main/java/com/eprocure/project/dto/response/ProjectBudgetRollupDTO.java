@@ -0,0 +1,31 @@
+package com.eprocure.project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO for the project counts and budgets of one department or project manager in one currency,
+ * broken down by status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectBudgetRollupDTO {
+
+    private UUID groupId;
+    private String currency;
+    private long totalProjects;
+    private BigDecimal totalBudget;
+    private long draftProjects;
+    private BigDecimal draftBudget;
+    private long activeProjects;
+    private BigDecimal activeBudget;
+    private long completedProjects;
+    private BigDecimal completedBudget;
+}
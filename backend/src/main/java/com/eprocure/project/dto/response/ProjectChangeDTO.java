@@ -0,0 +1,33 @@
+package com.eprocure.project.dto.response;
+
+import com.eprocure.project.event.ProjectChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object describing a single project write.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectChangeDTO {
+
+    private UUID projectId;
+    private ProjectChangeType changeType;
+
+    /**
+     * Time of the write; set by the change feed only.
+     */
+    private LocalDateTime changedAt;
+
+    /**
+     * State of the project after the write, or null for a delete or a status change.
+     */
+    private ProjectDTO project;
+}
@@ -0,0 +1,33 @@
+package com.eprocure.project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of the project change feed, oldest change first.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectChangesDTO {
+
+    /**
+     * Created or updated projects with their current state, and deletions without project.
+     */
+    private List<ProjectChangeDTO> changes;
+
+    /**
+     * Token to pass as {@code since} on the next call.
+     */
+    private String nextToken;
+
+    /**
+     * True if more changes are available right away; otherwise poll again later with {@code nextToken}.
+     */
+    private boolean hasMore;
+}
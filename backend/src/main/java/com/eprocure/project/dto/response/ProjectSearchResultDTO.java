@@ -0,0 +1,27 @@
+package com.eprocure.project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for full-text search results, most relevant first.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectSearchResultDTO {
+
+    private String query;
+    private long totalHits;
+    private List<ProjectSearchHitDTO> hits;
+
+    /**
+     * False while the search index is still being built at startup, in which case results may be incomplete.
+     */
+    private boolean complete;
+}
@@ -6,6 +6,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 
 /**
  * DTO for project statistics (dashboard).
@@ -21,6 +23,20 @@ public class ProjectStatisticsDTO {
     private Double activeProjectsChangePercent;
     private long completedProjects;
     private long draftProjects;
+
+    /**
+     * Sum of all budgets converted to {@link #currency}, excluding {@link #unconvertedCurrencies}.
+     */
     private BigDecimal totalBudget;
     private String currency;
+
+    /**
+     * Unconverted budget totals keyed by currency.
+     */
+    private Map<String, BigDecimal> budgetByCurrency;
+
+    /**
+     * Currencies without a known FX rate, left out of {@link #totalBudget}.
+     */
+    private List<String> unconvertedCurrencies;
 }
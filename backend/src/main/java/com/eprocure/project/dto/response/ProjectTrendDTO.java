@@ -0,0 +1,30 @@
+package com.eprocure.project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the monthly project trend, oldest month first, with every month of the window present.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectTrendDTO {
+
+    /**
+     * Reporting currency of all budgets.
+     */
+    private String currency;
+
+    /**
+     * Currencies without a known FX rate, left out of the budgets.
+     */
+    private List<String> unconvertedCurrencies;
+
+    private List<ProjectTrendPointDTO> months;
+}
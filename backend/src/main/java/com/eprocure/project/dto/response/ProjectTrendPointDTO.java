@@ -0,0 +1,30 @@
+package com.eprocure.project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * DTO for the projects created in one month, counted and budgeted by their current status.
+ * Budgets are in the reporting currency of the enclosing {@link ProjectTrendDTO}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectTrendPointDTO {
+
+    private YearMonth month;
+    private long totalProjects;
+    private long draftProjects;
+    private long activeProjects;
+    private long completedProjects;
+    private BigDecimal totalBudget;
+    private BigDecimal draftBudget;
+    private BigDecimal activeBudget;
+    private BigDecimal completedBudget;
+}
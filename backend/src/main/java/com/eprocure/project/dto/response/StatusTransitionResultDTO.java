@@ -0,0 +1,22 @@
+package com.eprocure.project.dto.response;
+
+import com.eprocure.project.entity.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO reporting how many projects a status transition affected.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatusTransitionResultDTO {
+
+    private ProjectStatus from;
+    private ProjectStatus to;
+    private int requested;
+    private int updated;
+}
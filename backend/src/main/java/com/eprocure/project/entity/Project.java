@@ -1,5 +1,6 @@
 package com.eprocure.project.entity;
 
+import com.eprocure.project.entity.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
@@ -21,7 +22,22 @@ import java.util.UUID;
  * JPA Entity representing a procurement project.
  */
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        // Backs keyset pagination: ORDER BY created_at DESC, id DESC with a (created_at, id) seek predicate
+        @Index(name = "idx_projects_created_at_id", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_projects_status_created_at_id", columnList = "status, created_at DESC, id DESC"),
+        // Backs the change feed: ORDER BY updated_at, id with an (updated_at, id) seek predicate
+        @Index(name = "idx_projects_updated_at_id", columnList = "updated_at, id"),
+        // Backs the auto-complete job: status = ACTIVE AND end_date < today
+        @Index(name = "idx_projects_status_end_date", columnList = "status, end_date"),
+        // Back the filtered listing (ProjectSpecifications): equality columns lead, then the default sort or the range
+        @Index(name = "idx_projects_department_status_created_at", columnList = "department_id, status, created_at DESC"),
+        @Index(name = "idx_projects_manager_status_created_at", columnList = "project_manager_id, status, created_at DESC"),
+        @Index(name = "idx_projects_currency_budget", columnList = "currency, budget"),
+        @Index(name = "idx_projects_budget", columnList = "budget"),
+        @Index(name = "idx_projects_start_date", columnList = "start_date"),
+        @Index(name = "idx_projects_end_date", columnList = "end_date")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @NoArgsConstructor
@@ -30,7 +46,7 @@ import java.util.UUID;
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @TimeOrderedUuid
     private UUID id;
 
     @NotNull(message = "Title is required")
@@ -0,0 +1,80 @@
+package com.eprocure.project.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+
+/**
+ * JPA Entity holding the precomputed project counts and budgets of one department or project manager
+ * in one currency, broken down by status.
+ * Rows are maintained incrementally by project writes and corrected by statistics reconciliation.
+ */
+@Entity
+@Table(name = "project_budget_rollups", indexes = {
+        // Back the top-N listings: ORDER BY total_budget DESC within a dimension, optionally per currency
+        @Index(name = "idx_rollups_dimension_total_budget", columnList = "dimension, total_budget DESC"),
+        @Index(name = "idx_rollups_dimension_currency_total_budget", columnList = "dimension, currency, total_budget DESC")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectBudgetRollup implements Persistable<ProjectBudgetRollupId> {
+
+    @EmbeddedId
+    private ProjectBudgetRollupId id;
+
+    @Column(name = "total_projects", nullable = false)
+    private long totalProjects;
+
+    @Column(name = "draft_projects", nullable = false)
+    private long draftProjects;
+
+    @Column(name = "active_projects", nullable = false)
+    private long activeProjects;
+
+    @Column(name = "completed_projects", nullable = false)
+    private long completedProjects;
+
+    @Column(name = "total_budget", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalBudget;
+
+    @Column(name = "draft_budget", nullable = false, precision = 19, scale = 2)
+    private BigDecimal draftBudget;
+
+    @Column(name = "active_budget", nullable = false, precision = 19, scale = 2)
+    private BigDecimal activeBudget;
+
+    @Column(name = "completed_budget", nullable = false, precision = 19, scale = 2)
+    private BigDecimal completedBudget;
+
+    /**
+     * Set on rows built in memory so that saving them inserts directly instead of merging,
+     * since the assigned key alone cannot tell new rows from existing ones.
+     */
+    @Transient
+    private boolean newRow;
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        newRow = false;
+    }
+}
@@ -0,0 +1,32 @@
+package com.eprocure.project.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Key of a budget rollup row: one group of one dimension, in one currency.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectBudgetRollupId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false, length = 20)
+    private RollupDimension dimension;
+
+    @Column(name = "group_id", nullable = false)
+    private UUID groupId;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+}
@@ -0,0 +1,64 @@
+package com.eprocure.project.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * R2DBC mapping of the projects table, used by the reactive profile.
+ * Mirrors {@link Project}; ids are assigned by the application, so new records are flagged explicitly.
+ */
+@Table("projects")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectRecord implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+
+    private String title;
+
+    private String description;
+
+    private BigDecimal budget;
+
+    private String currency;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private ProjectStatus status;
+
+    private UUID departmentId;
+
+    private UUID projectManagerId;
+
+    private LocalDateTime createdAt;
+
+    private String createdBy;
+
+    private LocalDateTime updatedAt;
+
+    private String updatedBy;
+
+    @Transient
+    private boolean newRecord;
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+}
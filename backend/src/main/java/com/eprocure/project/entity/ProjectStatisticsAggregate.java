@@ -0,0 +1,58 @@
+package com.eprocure.project.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity holding the precomputed dashboard statistics.
+ * A single row is maintained incrementally by project writes and periodically reconciled.
+ */
+@Entity
+@Table(name = "project_statistics")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectStatisticsAggregate {
+
+    /**
+     * Identifier of the single global aggregate row.
+     */
+    public static final int GLOBAL_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "total_projects", nullable = false)
+    private long totalProjects;
+
+    @Column(name = "draft_projects", nullable = false)
+    private long draftProjects;
+
+    @Column(name = "active_projects", nullable = false)
+    private long activeProjects;
+
+    @Column(name = "completed_projects", nullable = false)
+    private long completedProjects;
+
+    /**
+     * Plain sum of budgets across currencies; reported totals are converted per currency instead.
+     */
+    @Column(name = "total_budget", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalBudget;
+
+    @Column(name = "active_projects_change_percent")
+    private Double activeProjectsChangePercent;
+
+    @Column(name = "reconciled_at", nullable = false)
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,63 @@
+package com.eprocure.project.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+
+/**
+ * JPA Entity holding the per-currency part of the precomputed dashboard statistics.
+ * One row per currency in use, maintained together with the global aggregate row so that
+ * reading the statistics never scans the projects table.
+ */
+@Entity
+@Table(name = "project_statistics_currencies")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectStatisticsCurrency implements Persistable<String> {
+
+    @Id
+    @Column(name = "currency", length = 3)
+    private String currency;
+
+    @Column(name = "total_projects", nullable = false)
+    private long totalProjects;
+
+    @Column(name = "total_budget", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalBudget;
+
+    /**
+     * Set on rows built in memory so that saving them inserts directly instead of merging,
+     * since the assigned key alone cannot tell new rows from existing ones.
+     */
+    @Transient
+    private boolean newRow;
+
+    @Override
+    public String getId() {
+        return currency;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        newRow = false;
+    }
+}
@@ -17,5 +17,18 @@ public enum ProjectStatus {
     /**
      * Project has been completed successfully
      */
-    COMPLETED
+    COMPLETED;
+
+    /**
+     * Status a project must currently have to be moved to this status (DRAFT → ACTIVE → COMPLETED).
+     *
+     * @return the required previous status, or null if no transition leads to this status
+     */
+    public ProjectStatus requiredPredecessor() {
+        return switch (this) {
+            case DRAFT -> null;
+            case ACTIVE -> DRAFT;
+            case COMPLETED -> ACTIVE;
+        };
+    }
 }
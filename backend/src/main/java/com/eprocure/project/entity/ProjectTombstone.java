@@ -0,0 +1,40 @@
+package com.eprocure.project.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity recording a deleted project, so that delta sync consumers learn about the deletion.
+ * Written in the same transaction as the delete and purged once older than the change feed retention.
+ */
+@Entity
+@Table(name = "project_tombstones", indexes = {
+        // Backs the change feed: (deleted_at, project_id) seek predicate, same order
+        @Index(name = "idx_project_tombstones_deleted_at_id", columnList = "deleted_at, project_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectTombstone {
+
+    @Id
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Column(name = "deleted_by", nullable = false, length = 255)
+    private String deletedBy;
+}
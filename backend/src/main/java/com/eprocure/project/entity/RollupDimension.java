@@ -0,0 +1,16 @@
+package com.eprocure.project.entity;
+
+/**
+ * Attribute by which project budgets are rolled up.
+ */
+public enum RollupDimension {
+    /**
+     * Grouped by the owning department
+     */
+    DEPARTMENT,
+
+    /**
+     * Grouped by the responsible project manager
+     */
+    PROJECT_MANAGER
+}
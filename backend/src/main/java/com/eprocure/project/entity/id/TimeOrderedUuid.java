@@ -0,0 +1,19 @@
+package com.eprocure.project.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a UUID identifier as generated with time-ordered {@link UuidV7} values.
+ * Consecutive inserts land on the right-most leaf of the primary key B-tree instead of
+ * random pages, which avoids page splits and keeps the index compact.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
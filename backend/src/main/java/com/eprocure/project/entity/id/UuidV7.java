@@ -0,0 +1,61 @@
+package com.eprocure.project.entity.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator of time-ordered version 7 UUIDs (RFC 9562).
+ * <p>
+ * Layout: 48-bit Unix epoch milliseconds, version, 12-bit sequence, variant, 62 random bits.
+ * The sequence starts at a random value each millisecond and is incremented for ids generated
+ * within the same millisecond, so ids from one JVM are strictly increasing. When the sequence
+ * overflows, the timestamp part is advanced by one millisecond.
+ */
+public final class UuidV7 {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    /**
+     * Generate a new time-ordered UUID.
+     *
+     * @return version 7 UUID
+     */
+    public static UUID randomUuid() {
+        return randomUuid(System.currentTimeMillis());
+    }
+
+    static UUID randomUuid(long now) {
+        long timestampAndSequence = nextTimestampAndSequence(now);
+
+        long mostSigBits = ((timestampAndSequence >>> SEQUENCE_BITS) << 16)
+                | 0x7000L
+                | (timestampAndSequence & SEQUENCE_MASK);
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static long nextTimestampAndSequence(long now) {
+        while (true) {
+            long previous = LAST_TIMESTAMP_AND_SEQUENCE.get();
+            long next;
+            if (now > previous >>> SEQUENCE_BITS) {
+                // New millisecond: random start in the lower half leaves room for increments
+                next = (now << SEQUENCE_BITS) | RANDOM.nextInt(1 << (SEQUENCE_BITS - 1));
+            } else {
+                // Same millisecond (or clock moved back): overflow carries into the timestamp
+                next = previous + 1;
+            }
+            if (LAST_TIMESTAMP_AND_SEQUENCE.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
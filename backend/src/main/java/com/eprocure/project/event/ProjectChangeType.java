@@ -0,0 +1,26 @@
+package com.eprocure.project.event;
+
+/**
+ * Kind of write that produced a {@link ProjectChangedEvent}.
+ */
+public enum ProjectChangeType {
+    /**
+     * A new project was created
+     */
+    CREATED,
+
+    /**
+     * An existing project was modified
+     */
+    UPDATED,
+
+    /**
+     * Only the status of an existing project changed (bulk update, no project payload)
+     */
+    STATUS_CHANGED,
+
+    /**
+     * A project was deleted
+     */
+    DELETED
+}
@@ -0,0 +1,24 @@
+package com.eprocure.project.event;
+
+import com.eprocure.project.dto.response.ProjectDTO;
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Application event published by the project service for every project write.
+ * Listeners that must not observe uncommitted data should use
+ * {@code @TransactionalEventListener} (after commit) with {@code fallbackExecution = true}:
+ * the reactive service publishes outside any JPA transaction, once its R2DBC transaction has committed.
+ */
+@Value
+public class ProjectChangedEvent {
+
+    UUID projectId;
+    ProjectChangeType changeType;
+
+    /**
+     * State of the project after the write, or null for a delete or a status change.
+     */
+    ProjectDTO project;
+}
@@ -0,0 +1,12 @@
+package com.eprocure.project.exception;
+
+/**
+ * Exception thrown when a change feed token is older than the tombstone retention,
+ * so deletions since then may no longer be known and the consumer must resynchronise from scratch.
+ */
+public class ChangeTokenExpiredException extends RuntimeException {
+
+    public ChangeTokenExpiredException(String message) {
+        super(message);
+    }
+}
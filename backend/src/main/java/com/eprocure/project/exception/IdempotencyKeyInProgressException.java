@@ -0,0 +1,11 @@
+package com.eprocure.project.exception;
+
+/**
+ * Exception thrown when the first request with an idempotency key is still running after the wait timeout.
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    public IdempotencyKeyInProgressException(String key) {
+        super("A request with Idempotency-Key " + key + " is still in progress, retry later");
+    }
+}
@@ -0,0 +1,11 @@
+package com.eprocure.project.exception;
+
+/**
+ * Exception thrown when an idempotency key is reused with a different request.
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException(String key) {
+        super("Idempotency-Key " + key + " was already used with a different request");
+    }
+}
@@ -0,0 +1,13 @@
+package com.eprocure.project.exception;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when an import job is not found (unknown, expired or on another replica).
+ */
+public class ImportJobNotFoundException extends RuntimeException {
+
+    public ImportJobNotFoundException(UUID id) {
+        super("Import job not found with id: " + id);
+    }
+}
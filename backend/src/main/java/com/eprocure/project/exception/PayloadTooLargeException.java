@@ -0,0 +1,11 @@
+package com.eprocure.project.exception;
+
+/**
+ * Exception thrown when a request body exceeds the size accepted by the endpoint.
+ */
+public class PayloadTooLargeException extends RuntimeException {
+
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.eprocure.project.exception;
+
+/**
+ * Exception thrown when a project is not in the status required by a transition.
+ */
+public class ProjectStatusConflictException extends RuntimeException {
+
+    public ProjectStatusConflictException(String message) {
+        super(message);
+    }
+}
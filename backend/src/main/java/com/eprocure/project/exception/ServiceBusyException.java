@@ -0,0 +1,11 @@
+package com.eprocure.project.exception;
+
+/**
+ * Exception thrown when a request could not get capacity in time (database permits, event stream slots).
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
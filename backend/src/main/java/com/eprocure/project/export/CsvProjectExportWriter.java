@@ -0,0 +1,89 @@
+package com.eprocure.project.export;
+
+import com.eprocure.project.entity.Project;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes projects as CSV with a header row.
+ * Columns follow the order of {@link #HEADER}.
+ */
+public class CsvProjectExportWriter implements ProjectExportWriter {
+
+    static final String HEADER = "id,title,description,budget,currency,startDate,endDate,status,"
+            + "departmentId,projectManagerId,createdAt,createdBy,updatedAt,updatedBy";
+
+    private final Writer writer;
+
+    public CsvProjectExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void writeRow(Project project) throws IOException {
+        writeValue(project.getId());
+        writer.write(',');
+        writeValue(project.getTitle());
+        writer.write(',');
+        writeValue(project.getDescription());
+        writer.write(',');
+        writeValue(project.getBudget() != null ? project.getBudget().toPlainString() : null);
+        writer.write(',');
+        writeValue(project.getCurrency());
+        writer.write(',');
+        writeValue(project.getStartDate());
+        writer.write(',');
+        writeValue(project.getEndDate());
+        writer.write(',');
+        writeValue(project.getStatus());
+        writer.write(',');
+        writeValue(project.getDepartmentId());
+        writer.write(',');
+        writeValue(project.getProjectManagerId());
+        writer.write(',');
+        writeValue(project.getCreatedAt());
+        writer.write(',');
+        writeValue(project.getCreatedBy());
+        writer.write(',');
+        writeValue(project.getUpdatedAt());
+        writer.write(',');
+        writeValue(project.getUpdatedBy());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
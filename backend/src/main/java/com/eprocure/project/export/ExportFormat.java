@@ -0,0 +1,32 @@
+package com.eprocure.project.export;
+
+/**
+ * Supported formats for streaming project exports.
+ */
+public enum ExportFormat {
+    /**
+     * Comma-separated values with a header row (RFC 4180 quoting)
+     */
+    CSV("text/csv", "csv"),
+
+    /**
+     * Newline-delimited JSON, one project object per line
+     */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
@@ -0,0 +1,44 @@
+package com.eprocure.project.export;
+
+import com.eprocure.project.dto.mapper.ProjectMapper;
+import com.eprocure.project.entity.Project;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes projects as newline-delimited JSON using the same representation as the REST API.
+ */
+public class NdjsonProjectExportWriter implements ProjectExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter objectWriter;
+    private final ProjectMapper projectMapper;
+
+    public NdjsonProjectExportWriter(OutputStream outputStream, ObjectMapper objectMapper, ProjectMapper projectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        this.generator.setRootValueSeparator(null);
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.projectMapper = projectMapper;
+    }
+
+    @Override
+    public void writeHeader() {
+        // NDJSON has no header
+    }
+
+    @Override
+    public void writeRow(Project project) throws IOException {
+        objectWriter.writeValue(generator, projectMapper.toDTO(project));
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
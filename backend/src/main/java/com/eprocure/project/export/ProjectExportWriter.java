@@ -0,0 +1,34 @@
+package com.eprocure.project.export;
+
+import com.eprocure.project.entity.Project;
+
+import java.io.IOException;
+
+/**
+ * Writes projects one at a time to an export stream.
+ * Implementations must not retain references to written projects.
+ */
+public interface ProjectExportWriter {
+
+    /**
+     * Write anything that precedes the first row (e.g. a header).
+     *
+     * @throws IOException if the stream cannot be written
+     */
+    void writeHeader() throws IOException;
+
+    /**
+     * Write a single project.
+     *
+     * @param project the project to write
+     * @throws IOException if the stream cannot be written
+     */
+    void writeRow(Project project) throws IOException;
+
+    /**
+     * Flush buffered output.
+     *
+     * @throws IOException if the stream cannot be written
+     */
+    void flush() throws IOException;
+}
@@ -0,0 +1,30 @@
+package com.eprocure.project.fx;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the FX rate table used to report budgets in a single currency.
+ */
+@Data
+@ConfigurationProperties(prefix = "eprocure.fx")
+public class FxRateProperties {
+
+    /**
+     * Currency that multi-currency totals are converted to.
+     */
+    private String reportingCurrency = "EUR";
+
+    /**
+     * Location of the rate file (Spring resource syntax, e.g. {@code file:/etc/eprocure/fx-rates.properties}).
+     * Each line maps a currency to the amount of reporting currency one unit buys, e.g. {@code USD=0.92}.
+     */
+    private String ratesLocation = "classpath:fx-rates.properties";
+
+    /**
+     * How often the rate file is checked for changes.
+     */
+    private Duration reloadInterval = Duration.ofMinutes(1);
+}
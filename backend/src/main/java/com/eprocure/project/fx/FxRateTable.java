@@ -0,0 +1,204 @@
+package com.eprocure.project.fx;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory FX rate table loaded from a local file and reloaded when the file changes.
+ * <p>
+ * Rates live in an immutable snapshot indexed directly by the three letters of the currency code,
+ * so a lookup is a few arithmetic operations and an array read, with no hashing or allocation.
+ * A reload builds a new snapshot and swaps it in; a file that fails to parse leaves the current one in place.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FxRateTable {
+
+    private static final int CODE_SPACE = 26 * 26 * 26;
+    private static final int AMOUNT_SCALE = 2;
+
+    private final FxRateProperties properties;
+    private final ResourceLoader resourceLoader;
+
+    private volatile Snapshot snapshot;
+    private volatile long rejectedLastModified = -1;
+
+    @PostConstruct
+    void load() {
+        snapshot = emptySnapshot();
+        reload();
+    }
+
+    /**
+     * Reload the rate file if it changed since the last successful load.
+     */
+    @Scheduled(
+            initialDelayString = "${eprocure.fx.reload-interval:PT1M}",
+            fixedDelayString = "${eprocure.fx.reload-interval:PT1M}")
+    public void reload() {
+        Resource resource = resourceLoader.getResource(properties.getRatesLocation());
+        long lastModified = lastModified(resource);
+        if (lastModified == snapshot.lastModified || lastModified == rejectedLastModified) {
+            return;
+        }
+        try {
+            Snapshot loaded = parse(resource, lastModified);
+            snapshot = loaded;
+            log.info("Loaded {} FX rates to {} from {}", loaded.size, properties.getReportingCurrency(), resource.getDescription());
+        } catch (IOException | IllegalArgumentException e) {
+            // Reported once per version of the file
+            rejectedLastModified = lastModified;
+            log.warn("Could not load FX rates from {}, keeping the {} rates loaded before: {}",
+                    resource.getDescription(), snapshot.size, e.toString());
+        }
+    }
+
+    public String getReportingCurrency() {
+        return properties.getReportingCurrency();
+    }
+
+    /**
+     * When the rates in use were loaded.
+     */
+    public Instant getLoadedAt() {
+        return snapshot.loadedAt;
+    }
+
+    /**
+     * Convert an amount to the reporting currency.
+     *
+     * @param currency ISO 4217 code of the amount
+     * @param amount the amount
+     * @return the unrounded converted amount, or null if the currency has no known rate
+     */
+    public BigDecimal toReporting(String currency, BigDecimal amount) {
+        int index = index(currency);
+        BigDecimal rate = index >= 0 ? snapshot.rates[index] : null;
+        return rate != null ? amount.multiply(rate) : null;
+    }
+
+    /**
+     * Convert per-currency amounts to a single reporting-currency total.
+     *
+     * @param amountsByCurrency amounts keyed by ISO 4217 code
+     * @return the converted total, rounded to cents, and the currencies that could not be converted
+     */
+    public ReportingTotal toReportingTotal(Map<String, BigDecimal> amountsByCurrency) {
+        Snapshot rates = snapshot;
+        BigDecimal total = BigDecimal.ZERO;
+        List<String> unconverted = List.of();
+        for (Map.Entry<String, BigDecimal> entry : amountsByCurrency.entrySet()) {
+            int index = index(entry.getKey());
+            BigDecimal rate = index >= 0 ? rates.rates[index] : null;
+            if (rate == null) {
+                if (unconverted.isEmpty()) {
+                    unconverted = new ArrayList<>();
+                }
+                unconverted.add(entry.getKey());
+                continue;
+            }
+            total = total.add(entry.getValue().multiply(rate));
+        }
+        return new ReportingTotal(total.setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN), properties.getReportingCurrency(), unconverted);
+    }
+
+    private Snapshot parse(Resource resource, long lastModified) throws IOException {
+        BigDecimal[] rates = new BigDecimal[CODE_SPACE];
+        int size = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int separator = line.indexOf('=');
+                String currency = separator > 0 ? line.substring(0, separator).strip() : "";
+                int index = index(currency);
+                if (index < 0) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": expected CURRENCY=RATE, got '" + line + "'");
+                }
+                BigDecimal rate = new BigDecimal(line.substring(separator + 1).strip());
+                if (rate.signum() <= 0) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": rate of " + currency + " must be positive");
+                }
+                if (rates[index] == null) {
+                    size++;
+                }
+                rates[index] = rate;
+            }
+        }
+
+        int reporting = index(properties.getReportingCurrency());
+        if (reporting < 0) {
+            throw new IllegalArgumentException("Invalid reporting currency: " + properties.getReportingCurrency());
+        }
+        if (rates[reporting] != null && rates[reporting].compareTo(BigDecimal.ONE) != 0) {
+            throw new IllegalArgumentException("Rate of the reporting currency " + properties.getReportingCurrency() + " must be 1");
+        }
+        if (rates[reporting] == null) {
+            rates[reporting] = BigDecimal.ONE;
+            size++;
+        }
+        return new Snapshot(rates, size, lastModified, Instant.now());
+    }
+
+    private Snapshot emptySnapshot() {
+        BigDecimal[] rates = new BigDecimal[CODE_SPACE];
+        int reporting = index(properties.getReportingCurrency());
+        if (reporting >= 0) {
+            rates[reporting] = BigDecimal.ONE;
+        }
+        // Never matches a file's modification time, so the first reload always reads the file
+        return new Snapshot(rates, reporting >= 0 ? 1 : 0, -1, Instant.now());
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            // Not backed by a file (e.g. inside a jar): loaded once, then unchanged
+            return 0;
+        }
+    }
+
+    /**
+     * Position of a currency code in the rate array, or -1 if it is not three uppercase letters.
+     */
+    private static int index(String currency) {
+        if (currency == null || currency.length() != 3) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < 3; i++) {
+            int letter = currency.charAt(i) - 'A';
+            if (letter < 0 || letter >= 26) {
+                return -1;
+            }
+            index = index * 26 + letter;
+        }
+        return index;
+    }
+
+    private record Snapshot(BigDecimal[] rates, int size, long lastModified, Instant loadedAt) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.eprocure.project.fx;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Sum of amounts in several currencies, converted to the reporting currency.
+ */
+@Value
+public class ReportingTotal {
+
+    BigDecimal amount;
+    String currency;
+
+    /**
+     * Currencies without a known rate, whose amounts are not included in {@link #amount}.
+     */
+    List<String> unconvertedCurrencies;
+}
@@ -0,0 +1,221 @@
+package com.eprocure.project.idempotency;
+
+import com.eprocure.project.dto.response.ApiResponse;
+import com.eprocure.project.exception.IdempotencyKeyInProgressException;
+import com.eprocure.project.exception.IdempotencyKeyMismatchException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Makes POST requests carrying an {@code Idempotency-Key} header safe to retry.
+ * <p>
+ * The request runs through the {@link IdempotencyStore} keyed by the header: the first request with a key
+ * runs normally and its response is recorded, repeats receive the recorded response (marked with
+ * {@code Idempotent-Replayed: true}) without reaching the controller. Reusing a key with a different
+ * method, path or body is rejected with 422. The body is buffered for the fingerprint, so requests larger
+ * than {@code max-body-size} are rejected with 413. Requests without the header are not affected.
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties properties, ObjectMapper objectMapper) {
+        this.store = store;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key == null || !"POST".equals(request.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (key.isBlank() || key.length() > properties.getMaxKeyLength()) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY_HEADER + " must be 1 to " + properties.getMaxKeyLength() + " characters");
+            return;
+        }
+
+        byte[] body = readBody(request);
+        if (body == null) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body exceeds " + properties.getMaxBodySize());
+            return;
+        }
+        HttpServletRequest bufferedRequest = new BufferedBodyRequest(request, body);
+        boolean[] executed = new boolean[1];
+        IdempotentResponse recorded;
+        try {
+            recorded = store.execute(key, fingerprint(request, body), () -> {
+                executed[0] = true;
+                return run(chain, bufferedRequest, response);
+            });
+        } catch (IdempotencyKeyMismatchException e) {
+            log.warn("Rejecting request: {}", e.getMessage());
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+            return;
+        } catch (IdempotencyKeyInProgressException e) {
+            log.warn("Rejecting request: {}", e.getMessage());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            writeError(response, HttpStatus.CONFLICT, e.getMessage());
+            return;
+        } catch (ChainFailure e) {
+            if (e.getCause() instanceof ServletException servletException) {
+                throw servletException;
+            }
+            throw (IOException) e.getCause();
+        }
+
+        if (!executed[0]) {
+            log.info("Replaying recorded response for Idempotency-Key {}", key);
+            replay(recorded, response);
+        }
+    }
+
+    /**
+     * Read the request body, but never more than one byte past the limit.
+     *
+     * @return the body, or null if it exceeds {@code max-body-size}
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        long maxBodySize = properties.getMaxBodySize().toBytes();
+        if (request.getContentLengthLong() > maxBodySize) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes((int) Math.min(maxBodySize + 1, Integer.MAX_VALUE));
+        return body.length > maxBodySize ? null : body;
+    }
+
+    private static IdempotentResponse run(FilterChain chain, HttpServletRequest request, HttpServletResponse response) {
+        ContentCachingResponseWrapper capturingResponse = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, capturingResponse);
+            IdempotentResponse recorded = new IdempotentResponse(
+                    capturingResponse.getStatus(),
+                    capturingResponse.getContentType(),
+                    capturingResponse.getContentAsByteArray());
+            capturingResponse.copyBodyToResponse();
+            return recorded;
+        } catch (IOException | ServletException e) {
+            throw new ChainFailure(e);
+        }
+    }
+
+    private static void replay(IdempotentResponse recorded, HttpServletResponse response) throws IOException {
+        response.setStatus(recorded.getStatus());
+        if (recorded.getContentType() != null) {
+            response.setContentType(recorded.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(recorded.getBody().length);
+        response.getOutputStream().write(recorded.getBody());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(status.value(), message));
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + ' ' + request.getRequestURI() + '?' + request.getQueryString() + '\n')
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Carries a checked failure of the filter chain through the store's supplier.
+     */
+    private static final class ChainFailure extends RuntimeException {
+
+        private ChainFailure(Exception cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * Request whose body was read up front for fingerprinting and is served again from memory.
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Buffered request body is read synchronously");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.eprocure.project.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for Idempotency-Key handling.
+ */
+@Data
+@ConfigurationProperties(prefix = "eprocure.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * How long a response stays available for replay after the first request completed.
+     */
+    private Duration timeToLive = Duration.ofHours(24);
+
+    /**
+     * Maximum memory held by remembered keys and their response bodies; the least recently used keys are
+     * evicted first.
+     */
+    private DataSize maximumWeight = DataSize.ofMegabytes(64);
+
+    /**
+     * How long a repeat waits for the first request with the same key before receiving 409.
+     */
+    private Duration inFlightTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Maximum length of an Idempotency-Key header value.
+     */
+    private int maxKeyLength = 255;
+
+    /**
+     * Maximum size of a request body carrying an Idempotency-Key; larger requests receive 413.
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(256);
+}
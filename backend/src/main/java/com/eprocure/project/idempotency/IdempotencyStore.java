@@ -0,0 +1,24 @@
+package com.eprocure.project.idempotency;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs a request at most once per idempotency key and remembers its response for repeats.
+ * The default implementation only dedupes within the current JVM; provide another bean
+ * (e.g. backed by Redis or a database table) to dedupe across replicas.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Run the request for a key, or return the response of the request that already ran for it.
+     * A repeat that arrives while the first request is still running waits for its response.
+     *
+     * @param key the client-supplied idempotency key
+     * @param fingerprint identifies the request (method, path and body) the key was first used with
+     * @param request runs the request; its response is recorded unless it is a server error
+     * @return the response of the first request with this key
+     * @throws com.eprocure.project.exception.IdempotencyKeyMismatchException if the key was used with another request
+     * @throws com.eprocure.project.exception.IdempotencyKeyInProgressException if the first request did not finish in time
+     */
+    IdempotentResponse execute(String key, String fingerprint, Supplier<IdempotentResponse> request);
+}
@@ -0,0 +1,15 @@
+package com.eprocure.project.idempotency;
+
+import lombok.Value;
+
+/**
+ * Response recorded for an idempotency key and replayed to repeated requests.
+ * Kept as raw bytes so that a shared store can hold it without knowing the payload types.
+ */
+@Value
+public class IdempotentResponse {
+
+    int status;
+    String contentType;
+    byte[] body;
+}
@@ -0,0 +1,119 @@
+package com.eprocure.project.idempotency;
+
+import com.eprocure.project.exception.IdempotencyKeyInProgressException;
+import com.eprocure.project.exception.IdempotencyKeyMismatchException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * In-JVM idempotency store: a bounded Caffeine cache of responses, evicted by age and by the memory
+ * their keys and bodies take up.
+ * <p>
+ * The first request for a key registers a pending future before it runs, so concurrent repeats find it
+ * and wait for that single execution instead of running the request again. A request that fails or
+ * answers with a server error is forgotten once its waiters have been answered, so the client may retry.
+ * Hit ratio and size are published as cache.* meters tagged cache=idempotency.
+ */
+@Slf4j
+public class LocalIdempotencyStore implements IdempotencyStore, MeterBinder {
+
+    /**
+     * Approximate bytes held by an entry besides the key and the response body.
+     */
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final Cache<String, Entry> cache;
+    private final IdempotencyProperties properties;
+
+    public LocalIdempotencyStore(IdempotencyProperties properties) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumWeight().toBytes())
+                .weigher(LocalIdempotencyStore::weigh)
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public IdempotentResponse execute(String key, String fingerprint, Supplier<IdempotentResponse> request) {
+        Entry entry = new Entry(fingerprint);
+        Entry existing = cache.get(key, k -> entry);
+        if (existing != entry) {
+            return awaitExisting(key, fingerprint, existing);
+        }
+
+        try {
+            IdempotentResponse response = request.get();
+            entry.response.complete(response);
+            if (response.getStatus() >= 500) {
+                cache.asMap().remove(key, entry);
+            } else {
+                // Weigh the entry again now that it holds the response body
+                cache.asMap().replace(key, entry, entry);
+            }
+            return response;
+        } catch (RuntimeException | Error e) {
+            cache.asMap().remove(key, entry);
+            entry.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "idempotency");
+    }
+
+    private static int weigh(String key, Entry entry) {
+        CompletableFuture<IdempotentResponse> response = entry.response;
+        int bodyLength = response.isDone() && !response.isCompletedExceptionally() ? response.join().getBody().length : 0;
+        return ENTRY_OVERHEAD + 2 * (key.length() + entry.fingerprint.length()) + bodyLength;
+    }
+
+    private IdempotentResponse awaitExisting(String key, String fingerprint, Entry existing) {
+        if (!existing.fingerprint.equals(fingerprint)) {
+            throw new IdempotencyKeyMismatchException(key);
+        }
+        if (!existing.response.isDone()) {
+            log.debug("Waiting for in-flight request with Idempotency-Key {}", key);
+        }
+        try {
+            return existing.response.get(properties.getInFlightTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (ExecutionException e) {
+            // Concurrent repeats of a failed request fail the same way
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static final class Entry {
+
+        private final String fingerprint;
+        private final CompletableFuture<IdempotentResponse> response = new CompletableFuture<>();
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
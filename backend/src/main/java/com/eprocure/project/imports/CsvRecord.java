@@ -0,0 +1,31 @@
+package com.eprocure.project.imports;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A single CSV record read by {@link CsvRecordReader}.
+ */
+@Value
+public class CsvRecord {
+
+    /**
+     * Physical line (1-indexed) on which the record starts.
+     */
+    long lineNumber;
+
+    /**
+     * Field values; empty when the record was rejected.
+     */
+    List<String> fields;
+
+    /**
+     * Reason the record was rejected (too long, unterminated quote), or null.
+     */
+    String error;
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
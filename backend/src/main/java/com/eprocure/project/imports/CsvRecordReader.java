@@ -0,0 +1,135 @@
+package com.eprocure.project.imports;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental RFC 4180 CSV reader.
+ * Reads one record at a time so memory use is bounded by the longest accepted record,
+ * not by the size of the input. Quoted fields may contain separators, quotes and line breaks.
+ */
+public class CsvRecordReader implements Closeable {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final PushbackReader reader;
+    private final int maxRecordLength;
+    private long currentLine = 1;
+    private boolean firstCharacter = true;
+
+    public CsvRecordReader(Reader reader, int maxRecordLength) {
+        this.reader = new PushbackReader(new BufferedReader(reader), 1);
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Read the next non-blank record.
+     *
+     * @return the record, or null at end of input
+     * @throws IOException if the input cannot be read
+     */
+    public CsvRecord readRecord() throws IOException {
+        while (true) {
+            long recordLine = currentLine;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean inQuotes = false;
+            boolean quotedField = false;
+            boolean anyCharacter = false;
+            int length = 0;
+            String error = null;
+
+            int c;
+            while ((c = read()) != -1) {
+                anyCharacter = true;
+                char ch = (char) c;
+
+                if (inQuotes) {
+                    if (ch == '"') {
+                        int next = reader.read();
+                        if (next == '"') {
+                            append(field, '"', length);
+                        } else {
+                            inQuotes = false;
+                            if (next != -1) {
+                                reader.unread(next);
+                            }
+                        }
+                    } else {
+                        if (ch == '\n') {
+                            currentLine++;
+                        }
+                        append(field, ch, length);
+                    }
+                } else if (ch == '"' && field.isEmpty() && !quotedField) {
+                    inQuotes = true;
+                    quotedField = true;
+                } else if (ch == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    quotedField = false;
+                } else if (ch == '\r' || ch == '\n') {
+                    if (ch == '\r') {
+                        int next = reader.read();
+                        if (next != '\n' && next != -1) {
+                            reader.unread(next);
+                        }
+                    }
+                    currentLine++;
+                    break;
+                } else {
+                    append(field, ch, length);
+                }
+
+                if (++length > maxRecordLength && error == null) {
+                    error = "Record exceeds " + maxRecordLength + " characters";
+                }
+            }
+
+            if (!anyCharacter) {
+                return null;
+            }
+            if (inQuotes && error == null) {
+                error = "Unterminated quoted field";
+            }
+            if (error != null) {
+                return new CsvRecord(recordLine, List.of(), error);
+            }
+
+            fields.add(field.toString());
+            if (fields.size() == 1 && fields.get(0).isBlank() && !quotedField) {
+                // Skip blank lines
+                continue;
+            }
+            return new CsvRecord(recordLine, fields, null);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        int c = reader.read();
+        if (firstCharacter) {
+            firstCharacter = false;
+            if (c == BYTE_ORDER_MARK) {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+
+    private void append(StringBuilder field, char ch, int length) {
+        // Past the limit the record is consumed but no longer buffered
+        if (length < maxRecordLength) {
+            field.append(ch);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.eprocure.project.imports;
+
+import com.eprocure.project.dto.response.ImportJobDTO;
+import com.eprocure.project.dto.response.ImportLineErrorDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mutable progress of a queued or running import, readable concurrently through the job resource.
+ * Only a bounded number of line errors is retained.
+ */
+public class ImportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final int maxReportedErrors;
+    private final AtomicLong recordsRead = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<ImportLineErrorDTO> errors = new ArrayList<>();
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile String message;
+    private volatile LocalDateTime finishedAt;
+
+    public ImportJob(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void start() {
+        status = ImportJobStatus.RUNNING;
+    }
+
+    public void recordRead() {
+        recordsRead.incrementAndGet();
+    }
+
+    public void recordCreated(int count) {
+        created.addAndGet(count);
+    }
+
+    public void recordFailure(long line, Map<String, String> lineErrors) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportLineErrorDTO(line, lineErrors));
+            }
+        }
+    }
+
+    public void complete() {
+        finish(ImportJobStatus.COMPLETED, null);
+    }
+
+    public void fail(String reason) {
+        finish(ImportJobStatus.FAILED, reason);
+    }
+
+    private void finish(ImportJobStatus finalStatus, String reason) {
+        message = reason;
+        finishedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+
+    /**
+     * Snapshot the current progress.
+     *
+     * @return job DTO
+     */
+    public ImportJobDTO toDTO() {
+        List<ImportLineErrorDTO> reportedErrors;
+        synchronized (errors) {
+            reportedErrors = List.copyOf(errors);
+        }
+        return ImportJobDTO.builder()
+                .id(id)
+                .status(status)
+                .message(message)
+                .recordsRead(recordsRead.get())
+                .created(created.get())
+                .failed(failed.get())
+                .errors(reportedErrors)
+                .errorsTruncated(failed.get() > reportedErrors.size())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.eprocure.project.imports;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-memory registry of import jobs of this replica, bounded in size and age.
+ */
+@Component
+public class ImportJobRegistry {
+
+    private final Cache<UUID, ImportJob> jobs;
+    private final ImportProperties properties;
+
+    public ImportJobRegistry(ImportProperties properties) {
+        this.properties = properties;
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxJobs())
+                .expireAfterWrite(properties.getJobRetention())
+                .build();
+    }
+
+    /**
+     * Register a new queued job.
+     *
+     * @return the job
+     */
+    public ImportJob create() {
+        ImportJob job = new ImportJob(properties.getMaxReportedErrors());
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    /**
+     * Forget a job that was never started.
+     *
+     * @param job the job
+     */
+    public void remove(ImportJob job) {
+        jobs.invalidate(job.getId());
+    }
+
+    public Optional<ImportJob> find(UUID id) {
+        return Optional.ofNullable(jobs.getIfPresent(id));
+    }
+
+    /**
+     * All retained jobs, most recent first.
+     *
+     * @return the jobs
+     */
+    public List<ImportJob> findAll() {
+        return jobs.asMap().values().stream()
+                .sorted(Comparator.comparing(ImportJob::getStartedAt).reversed())
+                .toList();
+    }
+}
@@ -0,0 +1,26 @@
+package com.eprocure.project.imports;
+
+/**
+ * Lifecycle of a project import job.
+ */
+public enum ImportJobStatus {
+    /**
+     * The upload was received and waits for a free import worker
+     */
+    QUEUED,
+
+    /**
+     * The upload is being read and persisted
+     */
+    RUNNING,
+
+    /**
+     * The whole file was processed (individual lines may have failed)
+     */
+    COMPLETED,
+
+    /**
+     * Processing stopped early (unreadable upload, missing columns)
+     */
+    FAILED
+}
@@ -0,0 +1,50 @@
+package com.eprocure.project.imports;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for asynchronous project imports.
+ */
+@Data
+@ConfigurationProperties(prefix = "eprocure.import")
+public class ImportProperties {
+
+    /**
+     * Maximum number of characters in a single CSV record; longer records are rejected.
+     */
+    private int maxRecordLength = 16_384;
+
+    /**
+     * Maximum size of an upload; it is stored in a temporary file until its job has run.
+     */
+    private DataSize maxUploadSize = DataSize.ofMegabytes(512);
+
+    /**
+     * Number of imports processed at the same time.
+     */
+    private int maxConcurrentJobs = 2;
+
+    /**
+     * Number of accepted imports waiting for a worker; further uploads are rejected with 503.
+     */
+    private int maxQueuedJobs = 20;
+
+    /**
+     * Maximum number of line errors kept per job (the failed counter stays exact).
+     */
+    private int maxReportedErrors = 1_000;
+
+    /**
+     * How long finished jobs remain available through the job resource.
+     */
+    private Duration jobRetention = Duration.ofHours(24);
+
+    /**
+     * Maximum number of jobs kept in memory.
+     */
+    private long maxJobs = 1_000;
+}
@@ -0,0 +1,34 @@
+package com.eprocure.project.job;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the job completing active projects past their end date.
+ */
+@Data
+@ConfigurationProperties(prefix = "eprocure.jobs.auto-complete")
+public class AutoCompleteProperties {
+
+    /**
+     * Whether the job is scheduled at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cron expression for the job schedule.
+     */
+    private String cron = "0 15 0 * * *";
+
+    /**
+     * Number of projects completed per transaction.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Maximum time a run holds the job lease; should exceed the longest expected run.
+     */
+    private Duration lockTtl = Duration.ofMinutes(30);
+}
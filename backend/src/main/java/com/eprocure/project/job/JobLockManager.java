@@ -0,0 +1,68 @@
+package com.eprocure.project.job;
+
+import com.eprocure.project.entity.JobLock;
+import com.eprocure.project.repository.JobLockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Database-backed leases for scheduled jobs, so that only one replica runs a job at a time.
+ * A lease expires on its own if its holder dies, so a crashed run never blocks the job forever.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobLockManager {
+
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final JobLockRepository jobLockRepository;
+
+    /**
+     * Try to acquire the lease for a job.
+     *
+     * @param name the job name
+     * @param ttl maximum time the lease is held if it is never released
+     * @return true if this instance now holds the lease
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jobLockRepository.acquire(name, now, now.plus(ttl), instanceId) == 1) {
+            return true;
+        }
+        if (jobLockRepository.existsById(name)) {
+            return false;
+        }
+        try {
+            jobLockRepository.saveAndFlush(JobLock.builder()
+                    .name(name)
+                    .lockedUntil(now.plus(ttl))
+                    .lockedAt(now)
+                    .lockedBy(instanceId)
+                    .build());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Lease {} was created concurrently by another instance", name);
+            return false;
+        }
+    }
+
+    /**
+     * Release the lease for a job if this instance holds it.
+     *
+     * @param name the job name
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String name) {
+        jobLockRepository.release(name, LocalDateTime.now(), instanceId);
+    }
+}
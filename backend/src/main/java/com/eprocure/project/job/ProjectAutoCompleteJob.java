@@ -0,0 +1,109 @@
+package com.eprocure.project.job;
+
+import com.eprocure.project.dto.response.StatusTransitionResultDTO;
+import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.repository.ProjectRepository;
+import com.eprocure.project.service.ProjectService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Completes active projects whose end date has passed.
+ * Works in chunks of ids, each completed with one set-based update in its own transaction,
+ * and holds a database lease so that only one replica runs it at a time.
+ * Runs and completed projects are counted in the eprocure.jobs.* meters.
+ */
+@Component
+@ConditionalOnProperty(prefix = "eprocure.jobs.auto-complete", name = "enabled", matchIfMissing = true)
+@Slf4j
+public class ProjectAutoCompleteJob {
+
+    static final String LOCK_NAME = "project-auto-complete";
+
+    private final ProjectRepository projectRepository;
+    private final ProjectService projectService;
+    private final JobLockManager jobLockManager;
+    private final AutoCompleteProperties properties;
+
+    private final Counter succeededRuns;
+    private final Counter failedRuns;
+    private final Counter skippedRuns;
+    private final Counter projectsCompleted;
+
+    public ProjectAutoCompleteJob(ProjectRepository projectRepository,
+                                  ProjectService projectService,
+                                  JobLockManager jobLockManager,
+                                  AutoCompleteProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.projectService = projectService;
+        this.jobLockManager = jobLockManager;
+        this.properties = properties;
+        this.succeededRuns = runCounter(meterRegistry, "success");
+        this.failedRuns = runCounter(meterRegistry, "failure");
+        this.skippedRuns = runCounter(meterRegistry, "skipped");
+        this.projectsCompleted = Counter.builder("eprocure.jobs.auto-complete.projects")
+                .description("Projects completed by the auto-complete job")
+                .register(meterRegistry);
+    }
+
+    private static Counter runCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("eprocure.jobs.runs")
+                .description("Scheduled job runs")
+                .tag("job", LOCK_NAME)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${eprocure.jobs.auto-complete.cron:0 15 0 * * *}")
+    public void run() {
+        if (!jobLockManager.tryAcquire(LOCK_NAME, properties.getLockTtl())) {
+            skippedRuns.increment();
+            log.debug("Project auto-complete is running on another instance, skipping");
+            return;
+        }
+        try {
+            long completed = completeExpiredProjects(LocalDate.now());
+            succeededRuns.increment();
+            log.info("Project auto-complete finished: {} projects completed", completed);
+        } catch (Exception e) {
+            failedRuns.increment();
+            log.warn("Project auto-complete failed, will retry on next run", e);
+        } finally {
+            jobLockManager.release(LOCK_NAME);
+        }
+    }
+
+    /**
+     * Complete all active projects that ended before the given date.
+     *
+     * @param today the current date
+     * @return number of projects completed
+     */
+    long completeExpiredProjects(LocalDate today) {
+        PageRequest chunk = PageRequest.ofSize(properties.getChunkSize());
+        long completed = 0;
+        while (true) {
+            List<UUID> ids = projectRepository.findIdsByStatusAndEndDateBefore(ProjectStatus.ACTIVE, today, chunk);
+            if (ids.isEmpty()) {
+                return completed;
+            }
+            StatusTransitionResultDTO result = projectService.transitionStatuses(ids, ProjectStatus.COMPLETED);
+            completed += result.getUpdated();
+            projectsCompleted.increment(result.getUpdated());
+            log.debug("Completed {} of {} expired projects in chunk", result.getUpdated(), ids.size());
+            if (ids.size() < properties.getChunkSize()) {
+                return completed;
+            }
+        }
+    }
+}
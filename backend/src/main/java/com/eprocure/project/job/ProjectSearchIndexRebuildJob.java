@@ -0,0 +1,29 @@
+package com.eprocure.project.job;
+
+import com.eprocure.project.service.ProjectSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the in-process search index from the projects table at startup.
+ * Afterwards the index is kept in sync by project change events.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectSearchIndexRebuildJob {
+
+    private final ProjectSearchService searchService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        try {
+            searchService.rebuildIndex();
+        } catch (Exception e) {
+            log.error("Building the project search index failed; search results stay incomplete until restart", e);
+        }
+    }
+}
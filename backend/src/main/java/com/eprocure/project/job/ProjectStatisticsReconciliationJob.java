@@ -0,0 +1,58 @@
+package com.eprocure.project.job;
+
+import com.eprocure.project.cache.ProjectChangeTracker;
+import com.eprocure.project.service.ProjectStatisticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically recomputes the precomputed project statistics from the projects table.
+ * Also runs once at startup so that the aggregate row exists before the first dashboard read.
+ * Holds a database lease so that only one replica recounts at a time.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectStatisticsReconciliationJob {
+
+    static final String LOCK_NAME = "project-statistics-reconciliation";
+
+    private final ProjectStatisticsService statisticsService;
+    private final ProjectChangeTracker changeTracker;
+    private final JobLockManager jobLockManager;
+    private final ReconciliationProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(
+            initialDelayString = "${eprocure.statistics.reconciliation-interval:PT5M}",
+            fixedDelayString = "${eprocure.statistics.reconciliation-interval:PT5M}")
+    public void reconcile() {
+        try {
+            if (!jobLockManager.tryAcquire(LOCK_NAME, properties.getReconciliationLockTtl())) {
+                log.debug("Project statistics reconciliation is running on another instance, skipping");
+                return;
+            }
+        } catch (Exception e) {
+            // Also runs at startup, which must not fail while the database is unavailable
+            log.warn("Project statistics reconciliation lease unavailable, will retry on next run", e);
+            return;
+        }
+        try {
+            statisticsService.reconcile();
+            // A recount may correct drift, so statistics served under the previous tag are no longer current
+            changeTracker.advance();
+        } catch (Exception e) {
+            log.warn("Project statistics reconciliation failed, will retry on next run", e);
+        } finally {
+            jobLockManager.release(LOCK_NAME);
+        }
+    }
+}
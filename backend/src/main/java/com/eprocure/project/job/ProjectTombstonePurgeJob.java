@@ -0,0 +1,30 @@
+package com.eprocure.project.job;
+
+import com.eprocure.project.service.ProjectChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically removes tombstones of deleted projects that are older than the change feed retention.
+ * The delete is idempotent, so every replica may run it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectTombstonePurgeJob {
+
+    private final ProjectChangeFeedService changeFeedService;
+
+    @Scheduled(
+            initialDelayString = "${eprocure.changes.purge-interval:PT1H}",
+            fixedDelayString = "${eprocure.changes.purge-interval:PT1H}")
+    public void purge() {
+        try {
+            changeFeedService.purgeTombstones();
+        } catch (Exception e) {
+            log.warn("Purging project tombstones failed, will retry on next run", e);
+        }
+    }
+}
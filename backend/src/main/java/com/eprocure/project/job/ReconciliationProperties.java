@@ -0,0 +1,24 @@
+package com.eprocure.project.job;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the job reconciling the precomputed project statistics.
+ */
+@Data
+@ConfigurationProperties(prefix = "eprocure.statistics")
+public class ReconciliationProperties {
+
+    /**
+     * How often the statistics are recounted from the projects table.
+     */
+    private Duration reconciliationInterval = Duration.ofMinutes(5);
+
+    /**
+     * Maximum time a run holds the job lease; should exceed the longest expected run.
+     */
+    private Duration reconciliationLockTtl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,43 @@
+package com.eprocure.project.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records how many SQL statements each request issued, per endpoint.
+ * Relies on the per-thread count kept by {@link QueryCountingStatementInspector}.
+ */
+@RequiredArgsConstructor
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    private static final String START_COUNT_ATTRIBUTE = QueryCountInterceptor.class.getName() + ".startCount";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_COUNT_ATTRIBUTE, QueryCountingStatementInspector.currentThreadCount());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(START_COUNT_ATTRIBUTE) instanceof Long startCount)) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("eprocure.http.server.queries")
+                .description("SQL statements issued per request")
+                .baseUnit("queries")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .tag("status", Integer.toString(response.getStatus()))
+                .register(meterRegistry)
+                .record(QueryCountingStatementInspector.currentThreadCount() - startCount);
+    }
+}
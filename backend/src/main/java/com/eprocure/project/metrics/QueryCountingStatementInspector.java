@@ -0,0 +1,76 @@
+package com.eprocure.project.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+
+/**
+ * Hibernate statement inspector that counts every SQL statement prepared by the application.
+ * Keeps a per-thread count, so a request can tell how many queries it issued,
+ * and a global counter per statement type.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<long[]> THREAD_COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final Counter selects;
+    private final Counter inserts;
+    private final Counter updates;
+    private final Counter deletes;
+    private final Counter others;
+
+    public QueryCountingStatementInspector(MeterRegistry meterRegistry) {
+        this.selects = counter(meterRegistry, "select");
+        this.inserts = counter(meterRegistry, "insert");
+        this.updates = counter(meterRegistry, "update");
+        this.deletes = counter(meterRegistry, "delete");
+        this.others = counter(meterRegistry, "other");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("eprocure.db.queries")
+                .description("SQL statements prepared by Hibernate")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Number of statements prepared by the current thread so far.
+     *
+     * @return the running per-thread count
+     */
+    public static long currentThreadCount() {
+        return THREAD_COUNT.get()[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        THREAD_COUNT.get()[0]++;
+        counterFor(sql).increment();
+        return sql;
+    }
+
+    private Counter counterFor(String sql) {
+        // Skip leading comments added by hibernate.use_sql_comments
+        String statement = sql.stripLeading();
+        while (statement.startsWith("/*")) {
+            int end = statement.indexOf("*/");
+            if (end < 0) {
+                return others;
+            }
+            statement = statement.substring(end + 2).stripLeading();
+        }
+        if (statement.length() < 6) {
+            return others;
+        }
+        return switch (statement.substring(0, 6).toLowerCase(Locale.ROOT)) {
+            case "select", "with r" -> selects;
+            case "insert" -> inserts;
+            case "update" -> updates;
+            case "delete" -> deletes;
+            default -> others;
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.eprocure.project.pagination;
+
+import com.eprocure.project.exception.InvalidProjectDataException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of a delta sync consumer in the change feed, exposed as an opaque URL-safe token.
+ * <p>
+ * Changed projects and tombstones are read as two keysets, each ordered by time and id, so the token
+ * holds one position per keyset. A position without id means "at or after that time": it is used
+ * once a keyset is caught up to the settled horizon, which rows at exactly that time have not passed yet.
+ */
+@Value
+public class ProjectChangeToken {
+
+    private static final String SEPARATOR = "|";
+
+    LocalDateTime projectsAt;
+    UUID projectId;
+    LocalDateTime tombstonesAt;
+    UUID tombstoneId;
+
+    /**
+     * Encode this token.
+     *
+     * @return URL-safe token
+     */
+    public String encode() {
+        String raw = projectsAt + SEPARATOR + (projectId != null ? projectId : "")
+                + SEPARATOR + tombstonesAt + SEPARATOR + (tombstoneId != null ? tombstoneId : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque token
+     * @return the decoded token
+     * @throws InvalidProjectDataException if the token is malformed
+     */
+    public static ProjectChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new InvalidProjectDataException("Invalid change token: " + token);
+            }
+            return new ProjectChangeToken(
+                    LocalDateTime.parse(parts[0]),
+                    parts[1].isEmpty() ? null : UUID.fromString(parts[1]),
+                    LocalDateTime.parse(parts[2]),
+                    parts[3].isEmpty() ? null : UUID.fromString(parts[3])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidProjectDataException("Invalid change token: " + token, e);
+        }
+    }
+}
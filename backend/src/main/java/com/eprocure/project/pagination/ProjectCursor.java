@@ -0,0 +1,56 @@
+package com.eprocure.project.pagination;
+
+import com.eprocure.project.exception.InvalidProjectDataException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the project listing, ordered by creation date and id (both descending).
+ * Exposed to clients as an opaque URL-safe token.
+ */
+@Value
+public class ProjectCursor {
+
+    private static final char SEPARATOR = '|';
+
+    LocalDateTime createdAt;
+    UUID id;
+
+    /**
+     * Encode this cursor as an opaque token.
+     *
+     * @return URL-safe token
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque token
+     * @return the decoded cursor
+     * @throws InvalidProjectDataException if the token is malformed
+     */
+    public static ProjectCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidProjectDataException("Invalid cursor: " + token);
+            }
+            return new ProjectCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidProjectDataException("Invalid cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.eprocure.project.pagination;
+
+import com.eprocure.project.exception.InvalidProjectDataException;
+
+import java.util.Locale;
+
+/**
+ * Representation of the projects in a listing, selected with the {@code view} query parameter.
+ */
+public enum ProjectListView {
+
+    /**
+     * The columns shown in lists, without description and ownership; the default.
+     */
+    SUMMARY,
+
+    /**
+     * Every field of the project, as returned by {@code GET /v1/projects/{id}}.
+     */
+    FULL;
+
+    public static final String DEFAULT = "summary";
+
+    /**
+     * Parse the {@code view} query parameter, ignoring case.
+     *
+     * @param value the parameter value
+     * @return the view
+     * @throws InvalidProjectDataException if the value names no view
+     */
+    public static ProjectListView parse(String value) {
+        try {
+            return valueOf((value == null || value.isBlank() ? DEFAULT : value.trim()).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidProjectDataException("Invalid view: " + value + " (views: summary, full)");
+        }
+    }
+}
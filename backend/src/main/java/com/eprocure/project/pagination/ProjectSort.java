@@ -0,0 +1,47 @@
+package com.eprocure.project.pagination;
+
+import com.eprocure.project.exception.InvalidProjectDataException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Parses the {@code sort} query parameter of the project listing.
+ * <p>
+ * Only a fixed set of properties can be sorted on, so clients cannot order by unindexed or
+ * internal columns. The id is always appended as a tie-breaker to keep page boundaries stable.
+ */
+public final class ProjectSort {
+
+    public static final String DEFAULT = "createdAt,desc";
+
+    private static final Set<String> SORTABLE_PROPERTIES =
+            Set.of("createdAt", "updatedAt", "title", "budget", "startDate", "endDate");
+
+    private ProjectSort() {
+    }
+
+    /**
+     * Parse a {@code property[,asc|desc]} expression.
+     *
+     * @param expression the sort expression, e.g. {@code budget,desc}
+     * @return the sort, with the id as last order
+     * @throws InvalidProjectDataException if the property is not sortable or the direction is unknown
+     */
+    public static Sort parse(String expression) {
+        String[] parts = (expression == null || expression.isBlank() ? DEFAULT : expression).split(",", -1);
+        String property = parts[0].trim();
+        if (parts.length > 2 || !SORTABLE_PROPERTIES.contains(property)) {
+            throw new InvalidProjectDataException("Invalid sort: " + expression
+                    + " (sortable properties: " + String.join(", ", SORTABLE_PROPERTIES.stream().sorted().toList()) + ")");
+        }
+
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length == 2) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim().toUpperCase(Locale.ROOT))
+                    .orElseThrow(() -> new InvalidProjectDataException("Invalid sort direction: " + parts[1]));
+        }
+        return Sort.by(direction, property).and(Sort.by(direction, "id"));
+    }
+}
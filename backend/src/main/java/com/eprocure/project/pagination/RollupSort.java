@@ -0,0 +1,50 @@
+package com.eprocure.project.pagination;
+
+import com.eprocure.project.exception.InvalidProjectDataException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Parses the {@code sort} query parameter of the budget rollup listings.
+ * The group id and currency are always appended as tie-breakers to keep page boundaries stable.
+ *
+ * @see ProjectSort
+ */
+public final class RollupSort {
+
+    public static final String DEFAULT = "totalBudget,desc";
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of(
+            "totalBudget", "totalProjects",
+            "draftBudget", "draftProjects",
+            "activeBudget", "activeProjects",
+            "completedBudget", "completedProjects");
+
+    private RollupSort() {
+    }
+
+    /**
+     * Parse a {@code property[,asc|desc]} expression.
+     *
+     * @param expression the sort expression, e.g. {@code activeBudget,desc}
+     * @return the sort, with the group id and currency as last orders
+     * @throws InvalidProjectDataException if the property is not sortable or the direction is unknown
+     */
+    public static Sort parse(String expression) {
+        String[] parts = (expression == null || expression.isBlank() ? DEFAULT : expression).split(",", -1);
+        String property = parts[0].trim();
+        if (parts.length > 2 || !SORTABLE_PROPERTIES.contains(property)) {
+            throw new InvalidProjectDataException("Invalid sort: " + expression
+                    + " (sortable properties: " + String.join(", ", SORTABLE_PROPERTIES.stream().sorted().toList()) + ")");
+        }
+
+        Sort.Direction direction = Sort.Direction.DESC;
+        if (parts.length == 2) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim().toUpperCase(Locale.ROOT))
+                    .orElseThrow(() -> new InvalidProjectDataException("Invalid sort direction: " + parts[1]));
+        }
+        return Sort.by(direction, property).and(Sort.by(Sort.Direction.ASC, "id.groupId", "id.currency"));
+    }
+}
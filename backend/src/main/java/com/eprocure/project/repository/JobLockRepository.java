@@ -0,0 +1,48 @@
+package com.eprocure.project.repository;
+
+import com.eprocure.project.entity.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Spring Data JPA repository for scheduled job leases.
+ */
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    /**
+     * Take over a lease if it has expired, with a single conditional UPDATE.
+     *
+     * @param name the job name
+     * @param now the current time
+     * @param lockedUntil end of the new lease
+     * @param lockedBy identifier of the acquiring instance
+     * @return 1 if the lease was acquired, 0 if it is still held by someone
+     */
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :lockedBy " +
+            "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name,
+                @Param("now") LocalDateTime now,
+                @Param("lockedUntil") LocalDateTime lockedUntil,
+                @Param("lockedBy") String lockedBy);
+
+    /**
+     * Release a lease held by the given instance.
+     *
+     * @param name the job name
+     * @param now the current time, recorded as the new lease end
+     * @param lockedBy identifier of the releasing instance
+     * @return number of leases released
+     */
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :lockedBy")
+    int release(@Param("name") String name,
+                @Param("now") LocalDateTime now,
+                @Param("lockedBy") String lockedBy);
+}
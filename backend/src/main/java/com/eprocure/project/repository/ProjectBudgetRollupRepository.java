@@ -0,0 +1,87 @@
+package com.eprocure.project.repository;
+
+import com.eprocure.project.entity.ProjectBudgetRollup;
+import com.eprocure.project.entity.ProjectBudgetRollupId;
+import com.eprocure.project.entity.RollupDimension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for the precomputed per-department and per-manager budget rollups.
+ */
+@Repository
+public interface ProjectBudgetRollupRepository extends JpaRepository<ProjectBudgetRollup, ProjectBudgetRollupId> {
+
+    /**
+     * Page through the groups of a dimension.
+     *
+     * @param dimension the rollup dimension
+     * @param pageable pagination and sort information
+     * @return page of rollups, one per group and currency
+     */
+    Page<ProjectBudgetRollup> findByIdDimension(RollupDimension dimension, Pageable pageable);
+
+    /**
+     * Page through the groups of a dimension in one currency.
+     *
+     * @param dimension the rollup dimension
+     * @param currency the currency
+     * @param pageable pagination and sort information
+     * @return page of rollups, one per group
+     */
+    Page<ProjectBudgetRollup> findByIdDimensionAndIdCurrency(RollupDimension dimension, String currency, Pageable pageable);
+
+    /**
+     * Find the rollups of a single group, one per currency.
+     *
+     * @param dimension the rollup dimension
+     * @param groupId the department or project manager id
+     * @return rollups of the group ordered by currency
+     */
+    List<ProjectBudgetRollup> findByIdDimensionAndIdGroupIdOrderByIdCurrency(RollupDimension dimension, UUID groupId);
+
+    /**
+     * Atomically add deltas to a rollup row.
+     *
+     * @return number of rows updated (0 if the row does not exist yet)
+     */
+    @Modifying
+    @Query("UPDATE ProjectBudgetRollup r SET " +
+            "r.totalProjects = r.totalProjects + :total, " +
+            "r.draftProjects = r.draftProjects + :draft, " +
+            "r.activeProjects = r.activeProjects + :active, " +
+            "r.completedProjects = r.completedProjects + :completed, " +
+            "r.totalBudget = r.totalBudget + :totalBudget, " +
+            "r.draftBudget = r.draftBudget + :draftBudget, " +
+            "r.activeBudget = r.activeBudget + :activeBudget, " +
+            "r.completedBudget = r.completedBudget + :completedBudget " +
+            "WHERE r.id = :id")
+    int applyDelta(@Param("id") ProjectBudgetRollupId id,
+                   @Param("total") long total,
+                   @Param("draft") long draft,
+                   @Param("active") long active,
+                   @Param("completed") long completed,
+                   @Param("totalBudget") BigDecimal totalBudget,
+                   @Param("draftBudget") BigDecimal draftBudget,
+                   @Param("activeBudget") BigDecimal activeBudget,
+                   @Param("completedBudget") BigDecimal completedBudget);
+
+    /**
+     * Delete a rollup row once its group no longer has projects in that currency.
+     *
+     * @param id the rollup key
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ProjectBudgetRollup r WHERE r.id = :id AND r.totalProjects = 0")
+    int deleteIfEmpty(@Param("id") ProjectBudgetRollupId id);
+}
@@ -2,72 +2,249 @@ package com.eprocure.project.repository;
 
 import com.eprocure.project.entity.Project;
 import com.eprocure.project.entity.ProjectStatus;
-import org.springframework.data.domain.Page;
+import com.eprocure.project.repository.projection.CurrencyTotals;
+import com.eprocure.project.repository.projection.MonthlyTotals;
+import com.eprocure.project.repository.projection.RollupTotals;
+import com.eprocure.project.repository.projection.SearchableProject;
+import com.eprocure.project.repository.projection.StatusTotals;
+import com.eprocure.project.repository.projection.TransitionCandidate;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for Project entities.
+ * Dynamic filtering goes through {@link JpaSpecificationExecutor} with {@link ProjectSpecifications};
+ * listings that only need summary columns go through {@link ProjectSummaryRepository}.
  */
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, UUID> {
+public interface ProjectRepository extends JpaRepository<Project, UUID>, JpaSpecificationExecutor<Project>,
+        ProjectSummaryRepository {
 
     /**
-     * Count projects by status.
+     * Count projects and sum their budgets per status in a single grouped query.
      *
-     * @param status the project status
-     * @return count of projects with the given status
+     * @return totals for every status that has at least one project
+     */
+    @Query("SELECT p.status AS status, COUNT(p) AS projectCount, COALESCE(SUM(p.budget), 0) AS totalBudget " +
+            "FROM Project p GROUP BY p.status")
+    List<StatusTotals> summarizeByStatus();
+
+    /**
+     * Count projects and sum their budgets per currency in a single grouped query.
+     *
+     * @return totals for every currency that has at least one project
      */
-    long countByStatus(ProjectStatus status);
+    @Query("SELECT p.currency AS currency, COUNT(p) AS projectCount, COALESCE(SUM(p.budget), 0) AS totalBudget " +
+            "FROM Project p GROUP BY p.currency")
+    List<CurrencyTotals> summarizeByCurrency();
 
     /**
-     * Calculate the sum of all project budgets.
+     * First slice of the keyset listing (most recent first), without a count query.
      *
-     * @return total budget across all projects, or 0 if no projects exist
+     * @param limit page holding only the slice size (page number is ignored by the caller)
+     * @return projects ordered by creation date and id descending
      */
-    @Query("SELECT COALESCE(SUM(p.budget), 0) FROM Project p")
-    BigDecimal sumTotalBudget();
+    @Query("SELECT p FROM Project p ORDER BY p.createdAt DESC, p.id DESC")
+    List<Project> findKeysetFirst(Pageable limit);
 
     /**
-     * Find all projects ordered by creation date descending (most recent first).
+     * Slice of the keyset listing strictly after the given position.
      *
-     * @param pageable pagination information
-     * @return page of projects
+     * @param createdAt creation date of the last project of the previous slice
+     * @param id id of the last project of the previous slice
+     * @param limit page holding only the slice size
+     * @return projects ordered by creation date and id descending
      */
-    Page<Project> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    @Query("SELECT p FROM Project p WHERE (p.createdAt, p.id) < (:createdAt, :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Project> findKeysetAfter(@Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") UUID id,
+                                  Pageable limit);
 
     /**
-     * Find projects by status with pagination.
+     * First slice of the keyset listing filtered by status.
      *
      * @param status the project status to filter by
-     * @param pageable pagination information
-     * @return page of projects with the given status
+     * @param limit page holding only the slice size
+     * @return projects ordered by creation date and id descending
+     */
+    @Query("SELECT p FROM Project p WHERE p.status = :status ORDER BY p.createdAt DESC, p.id DESC")
+    List<Project> findKeysetFirstByStatus(@Param("status") ProjectStatus status, Pageable limit);
+
+    /**
+     * Slice of the keyset listing filtered by status, strictly after the given position.
+     *
+     * @param status the project status to filter by
+     * @param createdAt creation date of the last project of the previous slice
+     * @param id id of the last project of the previous slice
+     * @param limit page holding only the slice size
+     * @return projects ordered by creation date and id descending
+     */
+    @Query("SELECT p FROM Project p WHERE p.status = :status AND (p.createdAt, p.id) < (:createdAt, :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Project> findKeysetAfterByStatus(@Param("status") ProjectStatus status,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") UUID id,
+                                          Pageable limit);
+
+    /**
+     * Stream every project through a forward-only cursor, in storage order.
+     * Must be consumed inside a transaction and closed afterwards; callers should
+     * detach each project once processed so the persistence context stays small.
+     *
+     * @return stream of projects
      */
-    Page<Project> findByStatus(ProjectStatus status, Pageable pageable);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT p FROM Project p")
+    Stream<Project> streamAll();
 
     /**
-     * Count projects by status created after a specific date.
-     * Used for calculating percentage change statistics.
+     * Stream the searchable text of all projects through a forward-only cursor.
+     * Returns projections only, so no entities accumulate in the persistence context.
+     * Must be consumed inside a read-only transaction and closed by the caller.
+     *
+     * @return stream of searchable project text
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description FROM Project p")
+    Stream<SearchableProject> streamSearchableText();
+
+    /**
+     * Stream projects with the given status through a forward-only cursor.
+     *
+     * @param status the project status to filter by
+     * @return stream of projects
+     * @see #streamAll()
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT p FROM Project p WHERE p.status = :status")
+    Stream<Project> streamByStatus(@Param("status") ProjectStatus status);
+
+    /**
+     * Lock the projects among the given ones that are currently in a status, so that they can be
+     * transitioned without another writer changing them in between.
+     *
+     * @param ids the project ids
+     * @param from the status the projects must currently have
+     * @return the locked projects
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p.id AS id, p.status AS status, p.budget AS budget, p.currency AS currency, " +
+            "p.departmentId AS departmentId, p.projectManagerId AS projectManagerId " +
+            "FROM Project p WHERE p.id IN :ids AND p.status = :from")
+    List<TransitionCandidate> findTransitionCandidatesForUpdate(@Param("ids") Collection<UUID> ids,
+                                                                @Param("from") ProjectStatus from);
+
+    /**
+     * Move projects to a new status with a single UPDATE; no entity is loaded.
+     * Called with the ids locked by {@link #findTransitionCandidatesForUpdate}.
+     *
+     * @param ids the project ids
+     * @param to the new status
+     * @param updatedAt modification timestamp to record
+     * @param updatedBy modifying user to record
+     * @return number of projects updated
+     */
+    @Modifying
+    @Query("UPDATE Project p SET p.status = :to, p.updatedAt = :updatedAt, p.updatedBy = :updatedBy " +
+            "WHERE p.id IN :ids")
+    int transitionStatus(@Param("ids") Collection<UUID> ids,
+                         @Param("to") ProjectStatus to,
+                         @Param("updatedAt") LocalDateTime updatedAt,
+                         @Param("updatedBy") String updatedBy);
+
+    /**
+     * Count projects and sum their budgets per department, project manager, currency and status.
+     * Used to reconcile the budget rollups.
+     *
+     * @return totals for every combination that has at least one project
+     */
+    @Query("SELECT p.departmentId AS departmentId, p.projectManagerId AS projectManagerId, p.currency AS currency, " +
+            "p.status AS status, COUNT(p) AS projectCount, COALESCE(SUM(p.budget), 0) AS totalBudget " +
+            "FROM Project p GROUP BY p.departmentId, p.projectManagerId, p.currency, p.status")
+    List<RollupTotals> summarizeForRollups();
+
+    /**
+     * Ids of projects in a status whose end date is before the given date, oldest end date first.
      *
      * @param status the project status
-     * @param since the date to count from
-     * @return count of projects created after the given date
+     * @param date the exclusive upper bound for the end date
+     * @param pageable the chunk size
+     * @return a chunk of matching project ids
+     */
+    @Query("SELECT p.id FROM Project p WHERE p.status = :status AND p.endDate < :date ORDER BY p.endDate")
+    List<UUID> findIdsByStatusAndEndDateBefore(@Param("status") ProjectStatus status,
+                                               @Param("date") LocalDate date,
+                                               Pageable pageable);
+
+    /**
+     * Count projects and sum their budgets per creation month, status and currency in a single bucketed query.
+     * Backs the monthly trend and the month-over-month change of active projects.
+     *
+     * @param since earliest creation timestamp included (start of the first month)
+     * @return totals for every month, status and currency combination with at least one project
+     */
+    @Query("SELECT extract(year from p.createdAt) AS bucketYear, extract(month from p.createdAt) AS bucketMonth, " +
+            "p.status AS status, p.currency AS currency, COUNT(p) AS projectCount, COALESCE(SUM(p.budget), 0) AS totalBudget " +
+            "FROM Project p WHERE p.createdAt >= :since " +
+            "GROUP BY extract(year from p.createdAt), extract(month from p.createdAt), p.status, p.currency")
+    List<MonthlyTotals> summarizeByMonth(@Param("since") LocalDateTime since);
+
+    /**
+     * Projects created or modified at or after a timestamp and before an upper bound, oldest change first.
+     *
+     * @param from inclusive lower bound of the modification time
+     * @param until exclusive upper bound of the modification time
+     * @param limit page holding only the slice size
+     * @return projects ordered by modification time and id
      */
-    long countByStatusAndCreatedAtAfter(ProjectStatus status, LocalDateTime since);
+    @Query("SELECT p FROM Project p WHERE p.updatedAt >= :from AND p.updatedAt < :until ORDER BY p.updatedAt, p.id")
+    List<Project> findChangedFrom(@Param("from") LocalDateTime from,
+                                  @Param("until") LocalDateTime until,
+                                  Pageable limit);
 
     /**
-     * Count projects created after a specific date.
-     * Used for calculating total project growth.
+     * Projects modified strictly after the given position and before an upper bound, oldest change first.
      *
-     * @param since the date to count from
-     * @return count of projects created after the given date
+     * @param updatedAt modification time of the last project of the previous slice
+     * @param id id of the last project of the previous slice
+     * @param until exclusive upper bound of the modification time
+     * @param limit page holding only the slice size
+     * @return projects ordered by modification time and id
      */
-    long countByCreatedAtAfter(LocalDateTime since);
+    @Query("SELECT p FROM Project p WHERE (p.updatedAt, p.id) > (:updatedAt, :id) AND p.updatedAt < :until " +
+            "ORDER BY p.updatedAt, p.id")
+    List<Project> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                   @Param("id") UUID id,
+                                   @Param("until") LocalDateTime until,
+                                   Pageable limit);
 }
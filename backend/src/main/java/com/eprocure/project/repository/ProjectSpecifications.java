@@ -0,0 +1,69 @@
+package com.eprocure.project.repository;
+
+import com.eprocure.project.entity.Project;
+import com.eprocure.project.entity.ProjectStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Reusable query criteria for {@link Project}, combined by the service into dynamic listings.
+ * Every criterion yields {@code null} (no restriction) when its argument is {@code null}.
+ */
+public final class ProjectSpecifications {
+
+    private ProjectSpecifications() {
+    }
+
+    public static Specification<Project> hasStatus(ProjectStatus status) {
+        return equalTo("status", status);
+    }
+
+    public static Specification<Project> inDepartment(UUID departmentId) {
+        return equalTo("departmentId", departmentId);
+    }
+
+    public static Specification<Project> managedBy(UUID projectManagerId) {
+        return equalTo("projectManagerId", projectManagerId);
+    }
+
+    public static Specification<Project> hasCurrency(String currency) {
+        return equalTo("currency", currency);
+    }
+
+    public static Specification<Project> budgetBetween(BigDecimal min, BigDecimal max) {
+        return between("budget", min, max);
+    }
+
+    public static Specification<Project> startDateBetween(LocalDate from, LocalDate to) {
+        return between("startDate", from, to);
+    }
+
+    public static Specification<Project> endDateBetween(LocalDate from, LocalDate to) {
+        return between("endDate", from, to);
+    }
+
+    private static Specification<Project> equalTo(String attribute, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.equal(root.get(attribute), value);
+    }
+
+    private static <T extends Comparable<? super T>> Specification<Project> between(String attribute, T min, T max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        return (root, query, builder) -> {
+            if (min == null) {
+                return builder.lessThanOrEqualTo(root.get(attribute), max);
+            }
+            if (max == null) {
+                return builder.greaterThanOrEqualTo(root.get(attribute), min);
+            }
+            return builder.between(root.get(attribute), min, max);
+        };
+    }
+}
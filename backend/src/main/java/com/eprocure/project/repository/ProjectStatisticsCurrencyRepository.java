@@ -0,0 +1,44 @@
+package com.eprocure.project.repository;
+
+import com.eprocure.project.entity.ProjectStatisticsCurrency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Spring Data JPA repository for the per-currency part of the precomputed project statistics.
+ */
+@Repository
+public interface ProjectStatisticsCurrencyRepository extends JpaRepository<ProjectStatisticsCurrency, String> {
+
+    /**
+     * Atomically add deltas to a currency row.
+     *
+     * @param currency the currency
+     * @param total delta for the project count
+     * @param budget delta for the total budget
+     * @return number of rows updated (0 if the row does not exist yet)
+     */
+    @Modifying
+    @Query("UPDATE ProjectStatisticsCurrency c SET " +
+            "c.totalProjects = c.totalProjects + :total, " +
+            "c.totalBudget = c.totalBudget + :budget " +
+            "WHERE c.currency = :currency")
+    int applyDelta(@Param("currency") String currency,
+                   @Param("total") long total,
+                   @Param("budget") BigDecimal budget);
+
+    /**
+     * Delete a currency row once no project uses that currency anymore.
+     *
+     * @param currency the currency
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ProjectStatisticsCurrency c WHERE c.currency = :currency AND c.totalProjects = 0")
+    int deleteIfEmpty(@Param("currency") String currency);
+}
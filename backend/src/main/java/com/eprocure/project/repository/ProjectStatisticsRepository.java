@@ -0,0 +1,61 @@
+package com.eprocure.project.repository;
+
+import com.eprocure.project.entity.ProjectStatisticsAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Spring Data JPA repository for the precomputed project statistics.
+ */
+@Repository
+public interface ProjectStatisticsRepository extends JpaRepository<ProjectStatisticsAggregate, Integer> {
+
+    /**
+     * Atomically add deltas to an aggregate row.
+     *
+     * @param id the aggregate id
+     * @param total delta for the total project count
+     * @param draft delta for the draft project count
+     * @param active delta for the active project count
+     * @param completed delta for the completed project count
+     * @param budget delta for the total budget
+     * @return number of rows updated (0 if the aggregate has not been initialized yet)
+     */
+    @Modifying
+    @Query("UPDATE ProjectStatisticsAggregate s SET " +
+            "s.totalProjects = s.totalProjects + :total, " +
+            "s.draftProjects = s.draftProjects + :draft, " +
+            "s.activeProjects = s.activeProjects + :active, " +
+            "s.completedProjects = s.completedProjects + :completed, " +
+            "s.totalBudget = s.totalBudget + :budget " +
+            "WHERE s.id = :id")
+    int applyDelta(@Param("id") Integer id,
+                   @Param("total") long total,
+                   @Param("draft") long draft,
+                   @Param("active") long active,
+                   @Param("completed") long completed,
+                   @Param("budget") BigDecimal budget);
+
+    /**
+     * Record the outcome of a reconciliation on an aggregate row.
+     *
+     * @param id the aggregate id
+     * @param activeProjectsChangePercent the recomputed month-over-month change of active projects
+     * @param reconciledAt the reconciliation time
+     * @return number of rows updated (0 if the aggregate has not been initialized yet)
+     */
+    @Modifying
+    @Query("UPDATE ProjectStatisticsAggregate s SET " +
+            "s.activeProjectsChangePercent = :activeProjectsChangePercent, " +
+            "s.reconciledAt = :reconciledAt " +
+            "WHERE s.id = :id")
+    int markReconciled(@Param("id") Integer id,
+                       @Param("activeProjectsChangePercent") Double activeProjectsChangePercent,
+                       @Param("reconciledAt") LocalDateTime reconciledAt);
+}
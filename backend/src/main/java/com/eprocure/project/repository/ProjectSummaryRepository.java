@@ -0,0 +1,24 @@
+package com.eprocure.project.repository;
+
+import com.eprocure.project.entity.Project;
+import com.eprocure.project.repository.projection.ProjectSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Listing queries of {@link ProjectRepository} that select {@link ProjectSummary} columns instead of entities.
+ * Spring Data cannot combine a {@link Specification} with a constructor projection, so these are
+ * implemented with the Criteria API in {@link ProjectSummaryRepositoryImpl}.
+ */
+public interface ProjectSummaryRepository {
+
+    /**
+     * Find a page of project summaries matching the specification.
+     *
+     * @param specification the criteria, or null for all projects
+     * @param pageable pagination and sort information
+     * @return page of summaries
+     */
+    Page<ProjectSummary> findSummaries(Specification<Project> specification, Pageable pageable);
+}
@@ -0,0 +1,69 @@
+package com.eprocure.project.repository;
+
+import com.eprocure.project.entity.Project;
+import com.eprocure.project.repository.projection.ProjectSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * Criteria API implementation of {@link ProjectSummaryRepository}.
+ */
+public class ProjectSummaryRepositoryImpl implements ProjectSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ProjectSummary> findSummaries(Specification<Project> specification, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProjectSummary> query = builder.createQuery(ProjectSummary.class);
+        Root<Project> project = query.from(Project.class);
+        query.select(builder.construct(ProjectSummary.class,
+                project.get("id"),
+                project.get("title"),
+                project.get("status"),
+                project.get("budget"),
+                project.get("currency"),
+                project.get("startDate"),
+                project.get("endDate"),
+                project.get("createdAt"),
+                project.get("updatedAt")));
+        restrict(query, project, builder, specification);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), project, builder));
+
+        TypedQuery<ProjectSummary> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        // Like findAll(Specification, Pageable), the count query is skipped when the page reveals the total
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(specification));
+    }
+
+    private long count(Specification<Project> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Project> project = query.from(Project.class);
+        query.select(builder.count(project));
+        restrict(query, project, builder, specification);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static void restrict(CriteriaQuery<?> query, Root<Project> project, CriteriaBuilder builder,
+                                 Specification<Project> specification) {
+        Predicate predicate = specification == null ? null : specification.toPredicate(project, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.eprocure.project.repository;
+
+import com.eprocure.project.entity.ProjectTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for deleted-project tombstones.
+ */
+@Repository
+public interface ProjectTombstoneRepository extends JpaRepository<ProjectTombstone, UUID> {
+
+    /**
+     * Tombstones recorded at or after a timestamp and before an upper bound, oldest first.
+     *
+     * @param from inclusive lower bound
+     * @param until exclusive upper bound
+     * @param limit page holding only the slice size
+     * @return tombstones ordered by deletion time and project id
+     */
+    @Query("SELECT t FROM ProjectTombstone t WHERE t.deletedAt >= :from AND t.deletedAt < :until " +
+            "ORDER BY t.deletedAt, t.projectId")
+    List<ProjectTombstone> findDeletedFrom(@Param("from") LocalDateTime from,
+                                           @Param("until") LocalDateTime until,
+                                           Pageable limit);
+
+    /**
+     * Tombstones strictly after the given position and before an upper bound, oldest first.
+     *
+     * @param deletedAt deletion time of the last tombstone of the previous slice
+     * @param projectId project id of the last tombstone of the previous slice
+     * @param until exclusive upper bound
+     * @param limit page holding only the slice size
+     * @return tombstones ordered by deletion time and project id
+     */
+    @Query("SELECT t FROM ProjectTombstone t WHERE (t.deletedAt, t.projectId) > (:deletedAt, :projectId) " +
+            "AND t.deletedAt < :until ORDER BY t.deletedAt, t.projectId")
+    List<ProjectTombstone> findDeletedAfter(@Param("deletedAt") LocalDateTime deletedAt,
+                                            @Param("projectId") UUID projectId,
+                                            @Param("until") LocalDateTime until,
+                                            Pageable limit);
+
+    /**
+     * Purge tombstones older than the retention horizon.
+     *
+     * @param before exclusive upper bound of the purged deletion times
+     * @return number of tombstones removed
+     */
+    @Modifying
+    @Query("DELETE FROM ProjectTombstone t WHERE t.deletedAt < :before")
+    int deleteDeletedBefore(@Param("before") LocalDateTime before);
+}
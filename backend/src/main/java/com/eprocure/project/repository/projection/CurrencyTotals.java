@@ -0,0 +1,15 @@
+package com.eprocure.project.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of project count and total budget grouped by currency.
+ */
+public interface CurrencyTotals {
+
+    String getCurrency();
+
+    long getProjectCount();
+
+    BigDecimal getTotalBudget();
+}
@@ -0,0 +1,23 @@
+package com.eprocure.project.repository.projection;
+
+import com.eprocure.project.entity.ProjectStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of project count and budget grouped by creation month, status and currency.
+ */
+public interface MonthlyTotals {
+
+    int getBucketYear();
+
+    int getBucketMonth();
+
+    ProjectStatus getStatus();
+
+    String getCurrency();
+
+    long getProjectCount();
+
+    BigDecimal getTotalBudget();
+}
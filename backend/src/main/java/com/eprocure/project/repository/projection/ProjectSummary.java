@@ -0,0 +1,25 @@
+package com.eprocure.project.repository.projection;
+
+import com.eprocure.project.entity.ProjectStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Columns of a project shown in listings, selected directly by the query.
+ * Instances are not managed entities: nothing is kept in the persistence context or snapshotted for
+ * dirty checking, and the description is never read. Served as is by the project listing.
+ */
+public record ProjectSummary(
+        UUID id,
+        String title,
+        ProjectStatus status,
+        BigDecimal budget,
+        String currency,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
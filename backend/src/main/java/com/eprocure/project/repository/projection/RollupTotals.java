@@ -0,0 +1,24 @@
+package com.eprocure.project.repository.projection;
+
+import com.eprocure.project.entity.ProjectStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projection of project count and budget grouped by department, project manager, currency and status.
+ */
+public interface RollupTotals {
+
+    UUID getDepartmentId();
+
+    UUID getProjectManagerId();
+
+    String getCurrency();
+
+    ProjectStatus getStatus();
+
+    long getProjectCount();
+
+    BigDecimal getTotalBudget();
+}
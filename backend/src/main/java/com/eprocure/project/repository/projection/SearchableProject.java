@@ -0,0 +1,15 @@
+package com.eprocure.project.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Projection of the project fields covered by full-text search.
+ */
+public interface SearchableProject {
+
+    UUID getId();
+
+    String getTitle();
+
+    String getDescription();
+}
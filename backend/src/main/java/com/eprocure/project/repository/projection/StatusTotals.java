@@ -0,0 +1,17 @@
+package com.eprocure.project.repository.projection;
+
+import com.eprocure.project.entity.ProjectStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of project count and budget grouped by status.
+ */
+public interface StatusTotals {
+
+    ProjectStatus getStatus();
+
+    long getProjectCount();
+
+    BigDecimal getTotalBudget();
+}
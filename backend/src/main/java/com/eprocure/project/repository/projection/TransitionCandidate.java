@@ -0,0 +1,24 @@
+package com.eprocure.project.repository.projection;
+
+import com.eprocure.project.entity.ProjectStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projection of a project eligible for a status transition, with the fields that feed the statistics.
+ */
+public interface TransitionCandidate {
+
+    UUID getId();
+
+    ProjectStatus getStatus();
+
+    BigDecimal getBudget();
+
+    String getCurrency();
+
+    UUID getDepartmentId();
+
+    UUID getProjectManagerId();
+}
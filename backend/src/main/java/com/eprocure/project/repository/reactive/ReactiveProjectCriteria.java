@@ -0,0 +1,80 @@
+package com.eprocure.project.repository.reactive;
+
+import com.eprocure.project.entity.ProjectRecord;
+import com.eprocure.project.entity.ProjectStatus;
+import org.springframework.data.relational.core.query.Criteria;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Reusable query criteria for {@link ProjectRecord}, mirroring
+ * {@link com.eprocure.project.repository.ProjectSpecifications} for the reactive profile.
+ * Every criterion yields {@code null} (no restriction) when its argument is {@code null}.
+ */
+public final class ReactiveProjectCriteria {
+
+    private ReactiveProjectCriteria() {
+    }
+
+    /**
+     * Combine criteria with AND, skipping {@code null} ones.
+     *
+     * @param criteria the criteria
+     * @return the combined criteria, empty if none is set
+     */
+    public static Criteria allOf(Criteria... criteria) {
+        return Criteria.from(Arrays.stream(criteria).filter(Objects::nonNull).toList());
+    }
+
+    public static Criteria hasStatus(ProjectStatus status) {
+        return equalTo("status", status);
+    }
+
+    public static Criteria inDepartment(UUID departmentId) {
+        return equalTo("departmentId", departmentId);
+    }
+
+    public static Criteria managedBy(UUID projectManagerId) {
+        return equalTo("projectManagerId", projectManagerId);
+    }
+
+    public static Criteria hasCurrency(String currency) {
+        return equalTo("currency", currency);
+    }
+
+    public static Criteria budgetBetween(BigDecimal min, BigDecimal max) {
+        return between("budget", min, max);
+    }
+
+    public static Criteria startDateBetween(LocalDate from, LocalDate to) {
+        return between("startDate", from, to);
+    }
+
+    public static Criteria endDateBetween(LocalDate from, LocalDate to) {
+        return between("endDate", from, to);
+    }
+
+    private static Criteria equalTo(String property, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return Criteria.where(property).is(value);
+    }
+
+    private static Criteria between(String property, Object min, Object max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        if (min == null) {
+            return Criteria.where(property).lessThanOrEquals(max);
+        }
+        if (max == null) {
+            return Criteria.where(property).greaterThanOrEquals(min);
+        }
+        return Criteria.where(property).between(min, max);
+    }
+}
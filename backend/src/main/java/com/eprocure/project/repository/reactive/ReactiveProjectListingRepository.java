@@ -0,0 +1,87 @@
+package com.eprocure.project.repository.reactive;
+
+import com.eprocure.project.entity.ProjectRecord;
+import com.eprocure.project.repository.projection.ProjectSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Dynamic project listings for the reactive profile, built from {@link ReactiveProjectCriteria}.
+ * Derived R2DBC repository queries cannot take criteria, so these go through the entity template.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveProjectListingRepository {
+
+    // The template selects every column for class-based projections unless told otherwise
+    private static final List<String> SUMMARY_COLUMNS = List.of(
+            "id", "title", "status", "budget", "currency", "start_date", "end_date", "created_at", "updated_at");
+
+    private final R2dbcEntityTemplate template;
+
+    /**
+     * Find a page of projects matching the criteria.
+     *
+     * @param criteria the criteria, empty for all projects
+     * @param pageable pagination and sort information
+     * @return page of projects
+     */
+    public Mono<Page<ProjectRecord>> findAll(Criteria criteria, Pageable pageable) {
+        return template.select(ProjectRecord.class)
+                .matching(Query.query(criteria).with(pageable))
+                .all()
+                .collectList()
+                .flatMap(content -> page(content, criteria, pageable));
+    }
+
+    /**
+     * Find a page of project summaries matching the criteria, selecting only the summary columns.
+     *
+     * @param criteria the criteria, empty for all projects
+     * @param pageable pagination and sort information
+     * @return page of summaries
+     */
+    public Mono<Page<ProjectSummary>> findSummaries(Criteria criteria, Pageable pageable) {
+        return template.select(ProjectRecord.class)
+                .as(ProjectSummary.class)
+                .matching(Query.query(criteria).columns(SUMMARY_COLUMNS).with(pageable))
+                .all()
+                .collectList()
+                .flatMap(content -> page(content, criteria, pageable));
+    }
+
+    /**
+     * Stream all projects matching the criteria, in no particular order.
+     *
+     * @param criteria the criteria, empty for all projects
+     * @return the projects
+     */
+    public Flux<ProjectRecord> findAll(Criteria criteria) {
+        return template.select(ProjectRecord.class)
+                .matching(Query.query(criteria))
+                .all();
+    }
+
+    private <T> Mono<Page<T>> page(List<T> content, Criteria criteria, Pageable pageable) {
+        // Like PageableExecutionUtils, the count query is skipped when the page reveals the total
+        if (pageable.isUnpaged() || ((pageable.getOffset() == 0 || !content.isEmpty())
+                && content.size() < pageable.getPageSize())) {
+            long total = pageable.isUnpaged() ? content.size() : pageable.getOffset() + content.size();
+            return Mono.just(new PageImpl<>(content, pageable, total));
+        }
+        return template.count(Query.query(criteria), ProjectRecord.class)
+                .map(total -> new PageImpl<>(content, pageable, total));
+    }
+}
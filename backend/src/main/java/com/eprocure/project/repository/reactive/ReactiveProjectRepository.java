@@ -0,0 +1,65 @@
+package com.eprocure.project.repository.reactive;
+
+import com.eprocure.project.entity.ProjectRecord;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Spring Data R2DBC repository for projects, mirroring {@link com.eprocure.project.repository.ProjectRepository}
+ * for the reactive profile.
+ */
+@Repository
+public interface ReactiveProjectRepository extends R2dbcRepository<ProjectRecord, UUID> {
+
+    /**
+     * Lock the projects among the given ones that are currently in a status, so that they can be
+     * transitioned without another writer changing them in between.
+     *
+     * @param ids the project ids
+     * @param from the status the projects must currently have
+     * @return the locked projects
+     */
+    @Query("SELECT * FROM projects WHERE id IN (:ids) AND status = :from FOR UPDATE")
+    Flux<ProjectRecord> findByIdsAndStatusForUpdate(@Param("ids") Collection<UUID> ids,
+                                                    @Param("from") String from);
+
+    /**
+     * Move projects to a new status with a single UPDATE.
+     * Called with the ids locked by {@link #findByIdsAndStatusForUpdate}.
+     *
+     * @param ids the project ids
+     * @param to the new status
+     * @param updatedAt modification timestamp to record
+     * @param updatedBy modifying user to record
+     * @return number of projects updated
+     */
+    @Modifying
+    @Query("UPDATE projects SET status = :to, updated_at = :updatedAt, updated_by = :updatedBy WHERE id IN (:ids)")
+    Mono<Integer> transitionStatus(@Param("ids") Collection<UUID> ids,
+                                   @Param("to") String to,
+                                   @Param("updatedAt") LocalDateTime updatedAt,
+                                   @Param("updatedBy") String updatedBy);
+
+    /**
+     * Record the tombstone of a deleted project for the change feed.
+     *
+     * @param projectId the deleted project id
+     * @param deletedAt deletion time
+     * @param deletedBy deleting user
+     * @return number of rows inserted
+     */
+    @Modifying
+    @Query("INSERT INTO project_tombstones (project_id, deleted_at, deleted_by) VALUES (:projectId, :deletedAt, :deletedBy)")
+    Mono<Integer> insertTombstone(@Param("projectId") UUID projectId,
+                                  @Param("deletedAt") LocalDateTime deletedAt,
+                                  @Param("deletedBy") String deletedBy);
+}
@@ -0,0 +1,213 @@
+package com.eprocure.project.repository.reactive;
+
+import com.eprocure.project.entity.ProjectBudgetRollup;
+import com.eprocure.project.entity.ProjectBudgetRollupId;
+import com.eprocure.project.entity.ProjectStatisticsAggregate;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * R2DBC access to the precomputed project statistics, mirroring
+ * {@link com.eprocure.project.repository.ProjectStatisticsRepository} for the reactive profile.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveProjectStatisticsRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Find an aggregate row.
+     *
+     * @param id the aggregate id
+     * @return the aggregate, if present
+     */
+    public Mono<ProjectStatisticsAggregate> findById(Integer id) {
+        return databaseClient.sql("SELECT * FROM project_statistics WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveProjectStatisticsRepository::toAggregate)
+                .one();
+    }
+
+    /**
+     * Atomically add deltas to an aggregate row.
+     *
+     * @param id the aggregate id
+     * @param total delta for the total project count
+     * @param draft delta for the draft project count
+     * @param active delta for the active project count
+     * @param completed delta for the completed project count
+     * @param budget delta for the total budget
+     * @return number of rows updated (0 if the aggregate has not been initialized yet)
+     */
+    public Mono<Long> applyDelta(Integer id, long total, long draft, long active, long completed, BigDecimal budget) {
+        return databaseClient.sql("UPDATE project_statistics SET " +
+                        "total_projects = total_projects + :total, " +
+                        "draft_projects = draft_projects + :draft, " +
+                        "active_projects = active_projects + :active, " +
+                        "completed_projects = completed_projects + :completed, " +
+                        "total_budget = total_budget + :budget " +
+                        "WHERE id = :id")
+                .bind("total", total)
+                .bind("draft", draft)
+                .bind("active", active)
+                .bind("completed", completed)
+                .bind("budget", budget)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Total budget of every currency in use, from the per-currency statistics rows.
+     *
+     * @return total budget keyed by currency
+     */
+    public Mono<Map<String, BigDecimal>> findBudgetByCurrency() {
+        return databaseClient.sql("SELECT currency, total_budget FROM project_statistics_currencies")
+                .map(row -> Map.entry(row.get("currency", String.class), row.get("total_budget", BigDecimal.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, TreeMap::new);
+    }
+
+    /**
+     * Atomically add deltas to the statistics row of a currency.
+     *
+     * @param currency the currency
+     * @param total delta for the project count
+     * @param budget delta for the total budget
+     * @return number of rows updated (0 if the currency has no row yet)
+     */
+    public Mono<Long> applyCurrencyDelta(String currency, long total, BigDecimal budget) {
+        return databaseClient.sql("UPDATE project_statistics_currencies SET " +
+                        "total_projects = total_projects + :total, " +
+                        "total_budget = total_budget + :budget " +
+                        "WHERE currency = :currency")
+                .bind("total", total)
+                .bind("budget", budget)
+                .bind("currency", currency)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Insert the statistics row of a currency.
+     *
+     * @param currency the currency
+     * @param total the project count
+     * @param budget the total budget
+     * @return number of rows inserted
+     */
+    public Mono<Long> insertCurrency(String currency, long total, BigDecimal budget) {
+        return databaseClient.sql("INSERT INTO project_statistics_currencies (currency, total_projects, total_budget) " +
+                        "VALUES (:currency, :total, :budget)")
+                .bind("currency", currency)
+                .bind("total", total)
+                .bind("budget", budget)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Delete the statistics row of a currency once no project uses it anymore.
+     *
+     * @param currency the currency
+     * @return number of rows deleted
+     */
+    public Mono<Long> deleteCurrencyIfEmpty(String currency) {
+        return databaseClient.sql("DELETE FROM project_statistics_currencies WHERE currency = :currency AND total_projects = 0")
+                .bind("currency", currency)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Atomically add deltas to a rollup row.
+     *
+     * @param delta the rollup key and the amounts to add
+     * @return number of rows updated (0 if the rollup has no row yet)
+     */
+    public Mono<Long> applyRollupDelta(ProjectBudgetRollup delta) {
+        return bindRollup(databaseClient.sql("UPDATE project_budget_rollups SET " +
+                        "total_projects = total_projects + :total, " +
+                        "draft_projects = draft_projects + :draft, " +
+                        "active_projects = active_projects + :active, " +
+                        "completed_projects = completed_projects + :completed, " +
+                        "total_budget = total_budget + :totalBudget, " +
+                        "draft_budget = draft_budget + :draftBudget, " +
+                        "active_budget = active_budget + :activeBudget, " +
+                        "completed_budget = completed_budget + :completedBudget " +
+                        "WHERE dimension = :dimension AND group_id = :groupId AND currency = :currency"), delta)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Insert a rollup row.
+     *
+     * @param rollup the rollup
+     * @return number of rows inserted
+     */
+    public Mono<Long> insertRollup(ProjectBudgetRollup rollup) {
+        return bindRollup(databaseClient.sql("INSERT INTO project_budget_rollups (dimension, group_id, currency, " +
+                        "total_projects, draft_projects, active_projects, completed_projects, " +
+                        "total_budget, draft_budget, active_budget, completed_budget) " +
+                        "VALUES (:dimension, :groupId, :currency, :total, :draft, :active, :completed, " +
+                        ":totalBudget, :draftBudget, :activeBudget, :completedBudget)"), rollup)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Delete a rollup row once its group has no project left in its currency.
+     *
+     * @param id the rollup key
+     * @return number of rows deleted
+     */
+    public Mono<Long> deleteRollupIfEmpty(ProjectBudgetRollupId id) {
+        return databaseClient.sql("DELETE FROM project_budget_rollups " +
+                        "WHERE dimension = :dimension AND group_id = :groupId AND currency = :currency AND total_projects = 0")
+                .bind("dimension", id.getDimension().name())
+                .bind("groupId", id.getGroupId())
+                .bind("currency", id.getCurrency())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindRollup(DatabaseClient.GenericExecuteSpec spec, ProjectBudgetRollup rollup) {
+        return spec.bind("dimension", rollup.getId().getDimension().name())
+                .bind("groupId", rollup.getId().getGroupId())
+                .bind("currency", rollup.getId().getCurrency())
+                .bind("total", rollup.getTotalProjects())
+                .bind("draft", rollup.getDraftProjects())
+                .bind("active", rollup.getActiveProjects())
+                .bind("completed", rollup.getCompletedProjects())
+                .bind("totalBudget", rollup.getTotalBudget())
+                .bind("draftBudget", rollup.getDraftBudget())
+                .bind("activeBudget", rollup.getActiveBudget())
+                .bind("completedBudget", rollup.getCompletedBudget());
+    }
+
+    private static ProjectStatisticsAggregate toAggregate(Readable row) {
+        return ProjectStatisticsAggregate.builder()
+                .id(row.get("id", Integer.class))
+                .totalProjects(row.get("total_projects", Long.class))
+                .draftProjects(row.get("draft_projects", Long.class))
+                .activeProjects(row.get("active_projects", Long.class))
+                .completedProjects(row.get("completed_projects", Long.class))
+                .totalBudget(row.get("total_budget", BigDecimal.class))
+                .activeProjectsChangePercent(row.get("active_projects_change_percent", Double.class))
+                .reconciledAt(row.get("reconciled_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.eprocure.project.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Gives clients "read your writes" on top of replica routing.
+ * <p>
+ * A mutating request runs entirely against the primary and stamps the client with a cookie holding
+ * the time of the write. Until the replica has had time to apply it (the read-your-writes window, or
+ * the measured replication lag when longer) that client's reads are pinned to the primary as well.
+ * Other clients keep reading from the replica.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "eprocure-last-write";
+
+    private final ReplicaRoutingProperties properties;
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReadYourWritesFilter(ReplicaRoutingProperties properties, ReplicaLagMonitor lagMonitor) {
+        this.properties = properties;
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean pinned;
+        if (isMutating(request)) {
+            // Set before the chain runs: the response may be committed by the time it returns
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) cookieLifetime().toSeconds() + 1);
+            response.addCookie(cookie);
+            pinned = true;
+        } else {
+            long lastWrite = lastWrite(request);
+            long window = Math.max(properties.getReadYourWritesWindow().toMillis(), lagMonitor.getLag().toMillis());
+            pinned = lastWrite > 0 && now - lastWrite < window;
+        }
+
+        if (!pinned) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ReplicaRoutingContext.pinToPrimary();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.clear();
+        }
+    }
+
+    private Duration cookieLifetime() {
+        Duration maxLag = properties.getMaxLag();
+        Duration window = properties.getReadYourWritesWindow();
+        // Beyond max-lag every read goes to the primary anyway
+        return maxLag.compareTo(window) > 0 ? maxLag : window;
+    }
+
+    private static boolean isMutating(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+
+    private static long lastWrite(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
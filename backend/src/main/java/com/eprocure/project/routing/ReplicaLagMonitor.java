@@ -0,0 +1,124 @@
+package com.eprocure.project.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Tracks whether the read replica may serve reads: reachable, and not lagging behind the primary
+ * by more than {@code max-lag}. Measured periodically; a failed connection attempt takes the replica
+ * out of rotation until the next successful measurement.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+    /**
+     * Replay delay of a PostgreSQL standby; 0 when it has replayed everything it received,
+     * so that an idle primary does not look like lag. Null (0) on a server that is not a standby.
+     */
+    static final String POSTGRESQL_LAG_QUERY = "SELECT COALESCE(CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END, 0)";
+
+    private final DataSource replica;
+    private final ReplicaRoutingProperties properties;
+    private volatile String lagQuery;
+    private volatile boolean available;
+    private volatile boolean checked;
+    private volatile long lagMillis;
+
+    public ReplicaLagMonitor(DataSource replica, ReplicaRoutingProperties properties) {
+        this.replica = replica;
+        this.properties = properties;
+        this.lagQuery = properties.getLagQuery();
+    }
+
+    /**
+     * Whether reads may currently go to the replica.
+     *
+     * @return true if the replica is reachable and within the lag limit
+     */
+    public boolean isReplicaUsable() {
+        return available && lagMillis <= properties.getMaxLag().toMillis();
+    }
+
+    /**
+     * Last measured replication lag.
+     *
+     * @return the lag (zero if unknown)
+     */
+    public Duration getLag() {
+        return Duration.ofMillis(lagMillis);
+    }
+
+    /**
+     * Take the replica out of rotation after a failed connection attempt.
+     *
+     * @param cause the failure
+     */
+    public void markUnavailable(SQLException cause) {
+        if (available || !checked) {
+            log.warn("Read replica unavailable, reading from the primary: {}", cause.getMessage());
+        }
+        available = false;
+        checked = true;
+    }
+
+    @Scheduled(fixedDelayString = "${eprocure.datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        try (Connection connection = replica.getConnection()) {
+            if (lagQuery == null) {
+                lagQuery = detectLagQuery(connection);
+            }
+            long measured = measure(connection);
+            if (!available) {
+                log.info("Read replica available, lag {} ms", measured);
+            } else if (measured > properties.getMaxLag().toMillis() && lagMillis <= properties.getMaxLag().toMillis()) {
+                log.warn("Read replica lagging {} ms behind, reading from the primary", measured);
+            }
+            lagMillis = measured;
+            available = true;
+            checked = true;
+        } catch (SQLException e) {
+            markUnavailable(e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("eprocure.datasource.replica.lag", this, monitor -> monitor.lagMillis / 1000.0)
+                .description("Replication lag of the read replica")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("eprocure.datasource.replica.usable", this, monitor -> monitor.isReplicaUsable() ? 1 : 0)
+                .description("Whether read-only transactions are routed to the read replica")
+                .register(registry);
+    }
+
+    private long measure(Connection connection) throws SQLException {
+        if (lagQuery.isEmpty()) {
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            return resultSet.next() ? Math.round(resultSet.getDouble(1) * 1000) : 0;
+        }
+    }
+
+    private static String detectLagQuery(Connection connection) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName();
+        if ("PostgreSQL".equalsIgnoreCase(product)) {
+            return POSTGRESQL_LAG_QUERY;
+        }
+        log.info("No replication lag query for {}, assuming the replica is current", product);
+        return "";
+    }
+}
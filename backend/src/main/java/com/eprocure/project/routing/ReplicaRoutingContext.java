@@ -0,0 +1,47 @@
+package com.eprocure.project.routing;
+
+/**
+ * Per-thread routing hint: pins the reads of the current request to the primary.
+ * Set by {@link ReadYourWritesFilter} for the duration of a request.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    /**
+     * Send every read of the current thread to the primary until {@link #clear()}.
+     */
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    /**
+     * Whether the current thread must read from the primary.
+     *
+     * @return true if pinned
+     */
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    /**
+     * Whether a read-only transaction started now on the current thread would read from the replica.
+     * Shared caches use it to keep results that may lag behind the primary to the caller that read them.
+     *
+     * @param lagMonitor the replica's lag monitor, null when replica routing is disabled
+     * @return true if replica routing is enabled, the thread is not pinned and the replica is usable
+     */
+    public static boolean readsFromReplica(ReplicaLagMonitor lagMonitor) {
+        return lagMonitor != null && !isPinnedToPrimary() && lagMonitor.isReplicaUsable();
+    }
+
+    /**
+     * Remove the hint of the current thread.
+     */
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
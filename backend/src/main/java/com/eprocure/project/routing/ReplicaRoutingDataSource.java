@@ -0,0 +1,65 @@
+package com.eprocure.project.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Hands out replica connections to read-only transactions and primary connections to everything else.
+ * <p>
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the
+ * read-only flag of a transaction is only known once it has begun, so the physical connection has to be
+ * fetched at the first statement. Reads also go to the primary when the current request is pinned by
+ * {@link ReadYourWritesFilter}, or when the {@link ReplicaLagMonitor} reports the replica unusable.
+ * A replica that fails to hand out a connection is skipped until it recovers.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (useReplica()) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                lagMonitor.markUnavailable(e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (useReplica()) {
+            try {
+                return replica.getConnection(username, password);
+            } catch (SQLException e) {
+                lagMonitor.markUnavailable(e);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    private boolean useReplica() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        boolean useReplica = readOnly && ReplicaRoutingContext.readsFromReplica(lagMonitor);
+        if (readOnly && log.isTraceEnabled()) {
+            log.trace("Routing read-only connection to the {}", useReplica ? "replica" : "primary");
+        }
+        return useReplica;
+    }
+}
@@ -0,0 +1,51 @@
+package com.eprocure.project.routing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for routing read-only transactions to a read replica.
+ * Pool settings of the replica are bound separately from {@code eprocure.datasource.replica.hikari}.
+ */
+@Data
+@ConfigurationProperties(prefix = "eprocure.datasource.replica")
+public class ReplicaRoutingProperties {
+
+    /**
+     * Route read-only transactions to the replica; when false the primary serves everything.
+     */
+    private boolean enabled = false;
+
+    /**
+     * JDBC URL of the replica.
+     */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * Replication lag above which reads go to the primary until the replica catches up.
+     */
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    /**
+     * Minimum time after a client's write during which its reads go to the primary ("read your writes").
+     * Extended to the measured replication lag when that is longer.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Query returning the replication lag in seconds; detected from the database when empty
+     * (PostgreSQL streaming replication; other databases report no lag).
+     */
+    private String lagQuery;
+
+    /**
+     * How often the replica lag is measured (and an unreachable replica retried).
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+}
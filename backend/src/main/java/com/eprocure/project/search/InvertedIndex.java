@@ -0,0 +1,314 @@
+package com.eprocure.project.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * In-memory inverted index over project titles and descriptions, ranked with BM25.
+ * <p>
+ * Every indexed version of a project gets a new, increasing document number, so posting lists stay
+ * sorted by appending. Replaced and removed documents are only flagged as deleted; once enough of them
+ * have accumulated they are purged from the posting lists and the documents are renumbered densely.
+ * <p>
+ * Not thread-safe; {@link ProjectSearchIndex} serializes writers against readers.
+ */
+class InvertedIndex {
+
+    /**
+     * Title terms count this many times towards a document's term frequency.
+     */
+    static final int TITLE_WEIGHT = 3;
+
+    /**
+     * Maximum number of terms a query word expands to by prefix, keeping the most frequent.
+     */
+    static final int MAX_PREFIX_EXPANSIONS = 50;
+
+    /**
+     * Score factor of terms matched by prefix only, relative to exact matches.
+     */
+    static final float PREFIX_MATCH_FACTOR = 0.6f;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MIN_DELETED_BEFORE_COMPACTION = 10_000;
+
+    private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+    private final Map<UUID, Integer> documentsByProject = new HashMap<>();
+
+    private UUID[] projects = new UUID[1024];
+    private int[] lengths = new int[1024];
+    private int nextDocument;
+    private int liveDocuments;
+    private long totalLength;
+    private int deletedSinceCompaction;
+
+    /**
+     * Index a project, replacing any previously indexed version.
+     */
+    void put(UUID projectId, String title, String description) {
+        remove(projectId);
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : ProjectTokenizer.tokenize(title)) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : ProjectTokenizer.tokenize(description)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        int document = nextDocument++;
+        ensureCapacity(document + 1);
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            int frequency = Math.min(entry.getValue(), 255);
+            postings.computeIfAbsent(entry.getKey(), term -> new PostingList()).append(document, frequency);
+            length += frequency;
+        }
+        projects[document] = projectId;
+        lengths[document] = length;
+        documentsByProject.put(projectId, document);
+        liveDocuments++;
+        totalLength += length;
+    }
+
+    /**
+     * Remove a project from the index, if present.
+     */
+    void remove(UUID projectId) {
+        Integer document = documentsByProject.remove(projectId);
+        if (document == null) {
+            return;
+        }
+        projects[document] = null;
+        liveDocuments--;
+        totalLength -= lengths[document];
+        if (++deletedSinceCompaction >= Math.max(MIN_DELETED_BEFORE_COMPACTION, liveDocuments / 4)) {
+            compact();
+        }
+    }
+
+    int size() {
+        return liveDocuments;
+    }
+
+    /**
+     * Find the projects matching all query words, each word matching a term exactly or as a prefix.
+     *
+     * @param words the normalized query words
+     * @param limit maximum number of hits returned
+     * @param scratch per-query working memory
+     * @return the total number of matching projects and the best hits, most relevant first
+     */
+    ProjectSearchHits search(List<String> words, int limit, Scratch scratch) {
+        List<List<Expansion>> expandedWords = new ArrayList<>(words.size());
+        for (String word : words) {
+            List<Expansion> expansions = expand(word);
+            if (expansions.isEmpty()) {
+                return new ProjectSearchHits(0, List.of());
+            }
+            expandedWords.add(expansions);
+        }
+        // Start with the rarest word so that later words only touch surviving candidates' slots
+        expandedWords.sort(Comparator.comparingLong(InvertedIndex::postingCount));
+
+        scratch.ensureCapacity(nextDocument);
+        float averageLength = liveDocuments > 0 ? (float) totalLength / liveDocuments : 1f;
+        try {
+            for (int word = 0; word < expandedWords.size(); word++) {
+                for (Expansion expansion : expandedWords.get(word)) {
+                    accumulate(expansion, word, averageLength, scratch);
+                }
+            }
+            return collect(expandedWords.size(), limit, scratch);
+        } finally {
+            scratch.reset();
+        }
+    }
+
+    private void accumulate(Expansion expansion, int word, float averageLength, Scratch scratch) {
+        PostingList list = expansion.postings;
+        float idf = (float) Math.log(1 + (liveDocuments - list.size + 0.5) / (list.size + 0.5));
+        float weight = idf * expansion.factor;
+        byte matched = (byte) (word + 1);
+        for (int i = 0; i < list.size; i++) {
+            int document = list.documents[i];
+            byte previous = scratch.matchedWords[document];
+            if (previous == word) {
+                if (word == 0) {
+                    if (projects[document] == null) {
+                        continue;
+                    }
+                    scratch.touched[scratch.touchedCount++] = document;
+                }
+                scratch.matchedWords[document] = matched;
+            } else if (previous != matched) {
+                continue;
+            }
+            float frequency = list.frequencies[i] & 0xFF;
+            float norm = K1 * (1 - B + B * lengths[document] / averageLength);
+            scratch.scores[document] += weight * frequency * (K1 + 1) / (frequency + norm);
+        }
+    }
+
+    private ProjectSearchHits collect(int wordCount, int limit, Scratch scratch) {
+        PriorityQueue<ProjectSearchHit> best = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(ProjectSearchHit::getScore));
+        int total = 0;
+        for (int i = 0; i < scratch.touchedCount; i++) {
+            int document = scratch.touched[i];
+            if (scratch.matchedWords[document] != wordCount) {
+                continue;
+            }
+            total++;
+            float score = scratch.scores[document];
+            if (best.size() < limit) {
+                best.add(new ProjectSearchHit(projects[document], score));
+            } else if (limit > 0 && score > best.peek().getScore()) {
+                best.poll();
+                best.add(new ProjectSearchHit(projects[document], score));
+            }
+        }
+        List<ProjectSearchHit> hits = new ArrayList<>(best);
+        hits.sort(Comparator.comparingDouble(ProjectSearchHit::getScore).reversed());
+        return new ProjectSearchHits(total, hits);
+    }
+
+    private List<Expansion> expand(String word) {
+        List<Expansion> expansions = new ArrayList<>();
+        PostingList exact = postings.get(word);
+        if (exact != null) {
+            expansions.add(new Expansion(exact, 1f));
+        }
+        List<PostingList> prefixed = new ArrayList<>();
+        for (Map.Entry<String, PostingList> entry : postings.subMap(word, false, word + Character.MAX_VALUE, false).entrySet()) {
+            prefixed.add(entry.getValue());
+        }
+        if (prefixed.size() > MAX_PREFIX_EXPANSIONS) {
+            prefixed.sort(Comparator.comparingInt((PostingList list) -> list.size).reversed());
+            prefixed = prefixed.subList(0, MAX_PREFIX_EXPANSIONS);
+        }
+        for (PostingList list : prefixed) {
+            expansions.add(new Expansion(list, PREFIX_MATCH_FACTOR));
+        }
+        return expansions;
+    }
+
+    private static long postingCount(List<Expansion> expansions) {
+        long count = 0;
+        for (Expansion expansion : expansions) {
+            count += expansion.postings.size;
+        }
+        return count;
+    }
+
+    private void compact() {
+        // Renumber live documents in their current order, so posting lists stay sorted
+        int[] renumbered = new int[nextDocument];
+        int live = 0;
+        for (int document = 0; document < nextDocument; document++) {
+            if (projects[document] != null) {
+                renumbered[document] = live;
+                projects[live] = projects[document];
+                lengths[live] = lengths[document];
+                live++;
+            } else {
+                renumbered[document] = -1;
+            }
+        }
+        Arrays.fill(projects, live, nextDocument, null);
+        nextDocument = live;
+        documentsByProject.replaceAll((projectId, document) -> renumbered[document]);
+        postings.values().removeIf(list -> list.renumber(renumbered) == 0);
+        deletedSinceCompaction = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > projects.length) {
+            int newLength = Math.max(capacity, projects.length * 2);
+            projects = Arrays.copyOf(projects, newLength);
+            lengths = Arrays.copyOf(lengths, newLength);
+        }
+    }
+
+    private record Expansion(PostingList postings, float factor) {
+    }
+
+    /**
+     * Documents containing a term, in increasing document order, with the term's weighted frequency.
+     */
+    private static final class PostingList {
+
+        private int[] documents = new int[4];
+        private byte[] frequencies = new byte[4];
+        private int size;
+
+        void append(int document, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = (byte) frequency;
+            size++;
+        }
+
+        /**
+         * Drop deleted documents and apply the new numbering, shrinking the arrays to fit.
+         *
+         * @param renumbered new number of each document, -1 for deleted ones
+         * @return the remaining number of documents
+         */
+        int renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int document = renumbered[documents[i]];
+                if (document >= 0) {
+                    documents[kept] = document;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            documents = Arrays.copyOf(documents, Math.max(kept, 1));
+            frequencies = Arrays.copyOf(frequencies, Math.max(kept, 1));
+            return kept;
+        }
+    }
+
+    /**
+     * Reusable per-query accumulators indexed by document number, sized to the index.
+     * Only the slots of touched documents are reset after a query.
+     */
+    static final class Scratch {
+
+        private float[] scores = new float[0];
+        private byte[] matchedWords = new byte[0];
+        private int[] touched = new int[0];
+        private int touchedCount;
+
+        void ensureCapacity(int capacity) {
+            if (scores.length < capacity) {
+                int newLength = Math.max(capacity, scores.length + scores.length / 2);
+                scores = new float[newLength];
+                matchedWords = new byte[newLength];
+                touched = new int[newLength];
+            }
+        }
+
+        void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0;
+                matchedWords[touched[i]] = 0;
+            }
+            touchedCount = 0;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.eprocure.project.search;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * A project matching a search query, with its relevance score.
+ */
+@Value
+public class ProjectSearchHit {
+
+    UUID projectId;
+    float score;
+}
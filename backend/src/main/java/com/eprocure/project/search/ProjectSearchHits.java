@@ -0,0 +1,15 @@
+package com.eprocure.project.search;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Result of a search query: the total number of matching projects and the best hits.
+ */
+@Value
+public class ProjectSearchHits {
+
+    int totalHits;
+    List<ProjectSearchHit> hits;
+}
@@ -0,0 +1,168 @@
+package com.eprocure.project.search;
+
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.event.ProjectChangedEvent;
+import com.eprocure.project.repository.projection.SearchableProject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe, in-process full-text index of project titles and descriptions.
+ * Kept in sync with committed project changes and rebuilt from the database at startup;
+ * changes arriving during a rebuild are replayed onto the new index before it is swapped in.
+ */
+@Component
+@Slf4j
+public class ProjectSearchIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Queue<InvertedIndex.Scratch> scratchPool = new ConcurrentLinkedQueue<>();
+
+    private InvertedIndex index = new InvertedIndex();
+    private List<Consumer<InvertedIndex>> changesDuringRebuild;
+    private volatile boolean ready;
+
+    /**
+     * Index a project, replacing any previously indexed version.
+     *
+     * @param projectId the project id
+     * @param title the project title
+     * @param description the project description
+     */
+    public void put(UUID projectId, String title, String description) {
+        apply(target -> target.put(projectId, title, description));
+    }
+
+    /**
+     * Remove a project from the index.
+     *
+     * @param projectId the project id
+     */
+    public void remove(UUID projectId) {
+        apply(target -> target.remove(projectId));
+    }
+
+    private void apply(Consumer<InvertedIndex> change) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            change.accept(index);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Find the projects matching all query words.
+     *
+     * @param words the normalized query words (see {@link ProjectTokenizer})
+     * @param limit maximum number of hits returned
+     * @return the total number of matches and the best hits, most relevant first
+     */
+    public ProjectSearchHits search(List<String> words, int limit) {
+        InvertedIndex.Scratch scratch = scratchPool.poll();
+        if (scratch == null) {
+            scratch = new InvertedIndex.Scratch();
+        }
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return index.search(words, limit, scratch);
+        } finally {
+            readLock.unlock();
+            scratchPool.offer(scratch);
+        }
+    }
+
+    /**
+     * Replace the index contents with the given projects.
+     * Serves the previous contents until the new index is complete.
+     *
+     * @param projects all projects, consumed but not closed
+     * @return number of indexed projects
+     */
+    public int rebuild(Stream<SearchableProject> projects) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            writeLock.unlock();
+        }
+
+        InvertedIndex rebuilt = new InvertedIndex();
+        try {
+            projects.forEach(project -> rebuilt.put(project.getId(), project.getTitle(), project.getDescription()));
+        } catch (RuntimeException e) {
+            writeLock.lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                writeLock.unlock();
+            }
+            throw e;
+        }
+
+        writeLock.lock();
+        try {
+            changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            changesDuringRebuild = null;
+            index = rebuilt;
+            ready = true;
+            return rebuilt.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return true once the index has been built from the database
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return number of indexed projects
+     */
+    public int size() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return index.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        switch (event.getChangeType()) {
+            case CREATED, UPDATED -> {
+                ProjectDTO project = event.getProject();
+                if (project != null) {
+                    put(project.getId(), project.getTitle(), project.getDescription());
+                }
+            }
+            case DELETED -> remove(event.getProjectId());
+            case STATUS_CHANGED -> {
+                // Title and description are unchanged
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.eprocure.project.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits project text into normalized search terms.
+ * Terms are lower-cased runs of letters and digits with diacritics removed;
+ * single characters are dropped and long runs are truncated.
+ */
+public final class ProjectTokenizer {
+
+    static final int MIN_TOKEN_LENGTH = 2;
+    static final int MAX_TOKEN_LENGTH = 40;
+
+    private ProjectTokenizer() {
+    }
+
+    /**
+     * Tokenize a text.
+     *
+     * @param text the text (may be null)
+     * @return the terms in order of appearance, with duplicates
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                addToken(tokens, current);
+            }
+        }
+        addToken(tokens, current);
+        return tokens;
+    }
+
+    private static void addToken(List<String> tokens, StringBuilder current) {
+        if (current.length() >= MIN_TOKEN_LENGTH) {
+            tokens.add(current.length() > MAX_TOKEN_LENGTH
+                    ? current.substring(0, MAX_TOKEN_LENGTH)
+                    : current.toString());
+        }
+        current.setLength(0);
+    }
+}
@@ -0,0 +1,25 @@
+package com.eprocure.project.service;
+
+import com.eprocure.project.dto.response.ProjectChangesDTO;
+
+/**
+ * Service interface for delta sync: projects created, updated or deleted since a continuation token.
+ */
+public interface ProjectChangeFeedService {
+
+    /**
+     * Read the changes after a token, oldest first.
+     *
+     * @param since token returned by the previous call, or null to start with all existing projects
+     * @param limit maximum number of changes
+     * @return the changes and the token to continue from
+     */
+    ProjectChangesDTO getChanges(String since, int limit);
+
+    /**
+     * Remove tombstones older than the retention.
+     *
+     * @return number of tombstones removed
+     */
+    int purgeTombstones();
+}
@@ -0,0 +1,45 @@
+package com.eprocure.project.service;
+
+import com.eprocure.project.entity.Project;
+import com.eprocure.project.entity.ProjectRecord;
+import com.eprocure.project.entity.ProjectStatus;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the fields of a project that feed the precomputed statistics.
+ * A change is described by the contribution before and after the write.
+ */
+@Value
+public class ProjectContribution {
+
+    ProjectStatus status;
+    BigDecimal budget;
+    String currency;
+    UUID departmentId;
+    UUID projectManagerId;
+
+    /**
+     * Capture the current contribution of a project.
+     *
+     * @param project the project
+     * @return the contribution snapshot
+     */
+    public static ProjectContribution of(Project project) {
+        return new ProjectContribution(project.getStatus(), project.getBudget(), project.getCurrency(),
+                project.getDepartmentId(), project.getProjectManagerId());
+    }
+
+    /**
+     * Capture the current contribution of a project read by the reactive stack.
+     *
+     * @param record the project record
+     * @return the contribution snapshot
+     */
+    public static ProjectContribution of(ProjectRecord record) {
+        return new ProjectContribution(record.getStatus(), record.getBudget(), record.getCurrency(),
+                record.getDepartmentId(), record.getProjectManagerId());
+    }
+}
@@ -0,0 +1,24 @@
+package com.eprocure.project.service;
+
+import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for exporting projects.
+ */
+public interface ProjectExportService {
+
+    /**
+     * Stream projects to an output stream without loading them all into memory.
+     *
+     * @param status the project status to filter by (optional)
+     * @param format the export format
+     * @param outputStream the destination stream (not closed by this method)
+     * @return number of exported projects
+     * @throws IOException if the stream cannot be written
+     */
+    long exportProjects(ProjectStatus status, ExportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,41 @@
+package com.eprocure.project.service;
+
+import com.eprocure.project.dto.response.ImportJobDTO;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for bulk project imports.
+ */
+public interface ProjectImportService {
+
+    /**
+     * Accept a CSV upload for import and return without waiting for it.
+     * The upload is stored in a temporary file and imported by a background worker, reading it incrementally.
+     * The first record must be a header naming the columns of CreateProjectRequest;
+     * unknown columns are ignored. Invalid lines are reported and skipped.
+     *
+     * @param csv the CSV upload
+     * @return the queued job
+     * @throws com.eprocure.project.exception.PayloadTooLargeException if the upload exceeds the configured size
+     * @throws com.eprocure.project.exception.ServiceBusyException if too many imports are waiting already
+     */
+    ImportJobDTO importCsv(InputStream csv);
+
+    /**
+     * Get the progress of an import job.
+     *
+     * @param jobId the job ID
+     * @return the job DTO
+     */
+    ImportJobDTO getJob(UUID jobId);
+
+    /**
+     * List the import jobs retained by this replica, most recent first.
+     *
+     * @return the job DTOs
+     */
+    List<ImportJobDTO> listJobs();
+}
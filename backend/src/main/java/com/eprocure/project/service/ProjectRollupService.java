@@ -0,0 +1,62 @@
+package com.eprocure.project.service;
+
+import com.eprocure.project.dto.response.ProjectBudgetRollupDTO;
+import com.eprocure.project.entity.ProjectBudgetRollup;
+import com.eprocure.project.entity.RollupDimension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for the incrementally maintained per-department and per-manager budget rollups.
+ * Writes are driven by {@link ProjectStatisticsService}, which serializes them behind the global aggregate row.
+ */
+public interface ProjectRollupService {
+
+    /**
+     * Page through the rollups of a dimension, one entry per group and currency.
+     *
+     * @param dimension the rollup dimension
+     * @param currency restrict to one currency (optional)
+     * @param pageable pagination and sort information
+     * @return page of rollups
+     */
+    Page<ProjectBudgetRollupDTO> listRollups(RollupDimension dimension, String currency, Pageable pageable);
+
+    /**
+     * Get the rollups of a single department or project manager, one entry per currency.
+     *
+     * @param dimension the rollup dimension
+     * @param groupId the department or project manager id
+     * @return rollups of the group, empty if it has no projects
+     */
+    List<ProjectBudgetRollupDTO> getRollups(RollupDimension dimension, UUID groupId);
+
+    /**
+     * Apply the delta of project writes to the rollups.
+     * Must be called inside the transaction performing the writes.
+     *
+     * @param before contributions removed by the writes
+     * @param after contributions added by the writes
+     */
+    void applyChanges(Collection<ProjectContribution> before, Collection<ProjectContribution> after);
+
+    /**
+     * Recount the rollups from the projects table and compare them with the stored rows.
+     * Takes no locks; must be called in the same snapshot transaction that reads the statistics drift.
+     *
+     * @return one entry per rollup row that drifted, holding the difference to add to it
+     */
+    List<ProjectBudgetRollup> computeCorrections();
+
+    /**
+     * Add corrections computed by {@link #computeCorrections()} to the rollup rows.
+     * Must be called inside the transaction holding the statistics row lock.
+     *
+     * @param corrections the differences to add
+     */
+    void applyCorrections(Collection<ProjectBudgetRollup> corrections);
+}
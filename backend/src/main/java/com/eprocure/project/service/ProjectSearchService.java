@@ -0,0 +1,25 @@
+package com.eprocure.project.service;
+
+import com.eprocure.project.dto.response.ProjectSearchResultDTO;
+
+/**
+ * Service interface for full-text search over project titles and descriptions.
+ */
+public interface ProjectSearchService {
+
+    /**
+     * Search projects matching all words of a query; each word also matches as a prefix.
+     *
+     * @param query the search query
+     * @param limit maximum number of hits (1-100)
+     * @return the matching projects, most relevant first
+     */
+    ProjectSearchResultDTO search(String query, int limit);
+
+    /**
+     * Rebuild the search index from the projects table.
+     *
+     * @return number of indexed projects
+     */
+    int rebuildIndex();
+}
@@ -1,12 +1,19 @@
 package com.eprocure.project.service;
 
 import com.eprocure.project.dto.request.CreateProjectRequest;
+import com.eprocure.project.dto.request.ProjectFilterRequest;
+import com.eprocure.project.dto.response.BatchCreateResultDTO;
+import com.eprocure.project.dto.response.CursorPage;
 import com.eprocure.project.dto.response.ProjectDTO;
 import com.eprocure.project.dto.response.ProjectStatisticsDTO;
+import com.eprocure.project.dto.response.ProjectTrendDTO;
+import com.eprocure.project.dto.response.StatusTransitionResultDTO;
 import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.repository.projection.ProjectSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -22,6 +29,16 @@ public interface ProjectService {
      */
     ProjectDTO createProject(CreateProjectRequest request);
 
+    /**
+     * Create many projects at once.
+     * Each item is validated independently; valid items are persisted in chunks,
+     * one transaction per chunk, so a failing item or chunk does not abort the others.
+     *
+     * @param requests the project creation requests
+     * @return per-item results
+     */
+    BatchCreateResultDTO createProjects(List<CreateProjectRequest> requests);
+
     /**
      * Update an existing project.
      *
@@ -40,21 +57,54 @@ public interface ProjectService {
     ProjectDTO getProject(UUID id);
 
     /**
-     * List all projects with pagination.
+     * List projects matching any combination of criteria, in the order given by the pageable's sort.
      *
-     * @param pageable pagination information
+     * @param filter the criteria; unset criteria do not restrict the result
+     * @param pageable pagination and sort information
      * @return page of project DTOs
      */
-    Page<ProjectDTO> listProjects(Pageable pageable);
+    Page<ProjectDTO> filterProjects(ProjectFilterRequest filter, Pageable pageable);
 
     /**
-     * List projects by status with pagination.
+     * List summaries of the projects matching any combination of criteria, in the order given by the pageable's sort.
+     * Selects only the summary columns; no entity is loaded.
      *
-     * @param status the project status
-     * @param pageable pagination information
-     * @return page of project DTOs
+     * @param filter the criteria; unset criteria do not restrict the result
+     * @param pageable pagination and sort information
+     * @return page of project summaries
+     */
+    Page<ProjectSummary> filterProjectSummaries(ProjectFilterRequest filter, Pageable pageable);
+
+    /**
+     * List projects using keyset pagination, most recent first.
+     * Runs no count query and costs the same regardless of how deep the cursor is.
+     *
+     * @param cursor opaque cursor returned by the previous slice, or null for the first slice
+     * @param size maximum number of projects in the slice
+     * @param status the project status to filter by (optional)
+     * @return slice of project DTOs with the cursor of the next slice
+     */
+    CursorPage<ProjectDTO> listProjectsByCursor(String cursor, int size, ProjectStatus status);
+
+    /**
+     * Move a project to the given status with a single conditional update.
+     * The project must currently be in the status preceding the target one.
+     *
+     * @param id the project ID
+     * @param status the target status (ACTIVE or COMPLETED)
+     * @return the transition result
      */
-    Page<ProjectDTO> listProjectsByStatus(ProjectStatus status, Pageable pageable);
+    StatusTransitionResultDTO transitionStatus(UUID id, ProjectStatus status);
+
+    /**
+     * Move several projects to the given status with a single conditional update.
+     * Projects not in the preceding status are skipped; no entity is loaded.
+     *
+     * @param ids the project IDs
+     * @param status the target status (ACTIVE or COMPLETED)
+     * @return the transition result with the number of projects updated
+     */
+    StatusTransitionResultDTO transitionStatuses(List<UUID> ids, ProjectStatus status);
 
     /**
      * Delete a project by ID.
@@ -69,4 +119,12 @@ public interface ProjectService {
      * @return project statistics
      */
     ProjectStatisticsDTO getStatistics();
+
+    /**
+     * Get per-month counts and budgets by status of the projects created in the last months.
+     *
+     * @param months number of months in the window, including the current one
+     * @return the monthly trend
+     */
+    ProjectTrendDTO getTrend(int months);
 }
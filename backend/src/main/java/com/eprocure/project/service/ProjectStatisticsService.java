@@ -0,0 +1,53 @@
+package com.eprocure.project.service;
+
+import com.eprocure.project.dto.response.ProjectStatisticsDTO;
+import com.eprocure.project.dto.response.ProjectTrendDTO;
+
+import java.util.Collection;
+
+/**
+ * Service interface for the incrementally maintained project statistics.
+ */
+public interface ProjectStatisticsService {
+
+    /**
+     * Get dashboard statistics from the precomputed aggregate.
+     *
+     * @return project statistics
+     */
+    ProjectStatisticsDTO getStatistics();
+
+    /**
+     * Get per-month counts and budgets by status of the projects created in the last months.
+     * Served from a cache that is cleared by every project write.
+     *
+     * @param months number of months in the window, including the current one
+     * @return the monthly trend
+     */
+    ProjectTrendDTO getTrend(int months);
+
+    /**
+     * Apply the delta of a single project write to the aggregate.
+     * Must be called inside the transaction performing the write.
+     *
+     * @param before the contribution before the write, or null for a create
+     * @param after the contribution after the write, or null for a delete
+     */
+    void applyChange(ProjectContribution before, ProjectContribution after);
+
+    /**
+     * Apply the combined delta of several project writes with a single update.
+     * Must be called inside the transaction performing the writes.
+     *
+     * @param before contributions removed by the writes
+     * @param after contributions added by the writes
+     */
+    void applyChanges(Collection<ProjectContribution> before, Collection<ProjectContribution> after);
+
+    /**
+     * Recompute the aggregate, its per-currency rows and the budget rollups from the projects table,
+     * correcting any drift. The recount runs in its own snapshot transaction without locks; only the
+     * correction takes the aggregate row lock, in a short transaction of its own.
+     */
+    void reconcile();
+}
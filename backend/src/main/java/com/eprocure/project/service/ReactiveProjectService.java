@@ -0,0 +1,106 @@
+package com.eprocure.project.service;
+
+import com.eprocure.project.dto.request.CreateProjectRequest;
+import com.eprocure.project.dto.request.ProjectFilterRequest;
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.dto.response.ProjectStatisticsDTO;
+import com.eprocure.project.dto.response.StatusTransitionResultDTO;
+import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.repository.projection.ProjectSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of {@link ProjectService}, backed by R2DBC (reactive profile).
+ */
+public interface ReactiveProjectService {
+
+    /**
+     * Create a new project.
+     *
+     * @param request the create project request
+     * @return the created project DTO
+     */
+    Mono<ProjectDTO> createProject(CreateProjectRequest request);
+
+    /**
+     * Update an existing project.
+     *
+     * @param id the project ID
+     * @param request the update request
+     * @return the updated project DTO
+     */
+    Mono<ProjectDTO> updateProject(UUID id, CreateProjectRequest request);
+
+    /**
+     * Get a project by ID.
+     *
+     * @param id the project ID
+     * @return the project DTO
+     */
+    Mono<ProjectDTO> getProject(UUID id);
+
+    /**
+     * List projects matching the given criteria, with pagination and sort.
+     *
+     * @param filter the criteria; unset criteria do not restrict the result
+     * @param pageable pagination and sort information
+     * @return page of project DTOs
+     */
+    Mono<Page<ProjectDTO>> filterProjects(ProjectFilterRequest filter, Pageable pageable);
+
+    /**
+     * List the listing columns of projects matching the given criteria, with pagination and sort.
+     *
+     * @param filter the criteria; unset criteria do not restrict the result
+     * @param pageable pagination and sort information
+     * @return page of project summaries
+     */
+    Mono<Page<ProjectSummary>> filterProjectSummaries(ProjectFilterRequest filter, Pageable pageable);
+
+    /**
+     * Stream all projects matching the given criteria as they are read from the database.
+     *
+     * @param filter the criteria; unset criteria do not restrict the result
+     * @return the project DTOs
+     */
+    Flux<ProjectDTO> streamProjects(ProjectFilterRequest filter);
+
+    /**
+     * Move a project to the given status with a single conditional update.
+     *
+     * @param id the project ID
+     * @param status the target status (ACTIVE or COMPLETED)
+     * @return the transition result
+     */
+    Mono<StatusTransitionResultDTO> transitionStatus(UUID id, ProjectStatus status);
+
+    /**
+     * Move several projects to the given status with a single conditional update.
+     *
+     * @param ids the project IDs
+     * @param status the target status (ACTIVE or COMPLETED)
+     * @return the transition result with the number of projects updated
+     */
+    Mono<StatusTransitionResultDTO> transitionStatuses(List<UUID> ids, ProjectStatus status);
+
+    /**
+     * Delete a project by ID.
+     *
+     * @param id the project ID
+     * @return completion signal
+     */
+    Mono<Void> deleteProject(UUID id);
+
+    /**
+     * Get dashboard statistics.
+     *
+     * @return project statistics DTO
+     */
+    Mono<ProjectStatisticsDTO> getStatistics();
+}
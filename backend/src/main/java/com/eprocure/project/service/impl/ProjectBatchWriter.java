@@ -0,0 +1,71 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.dto.mapper.ProjectMapper;
+import com.eprocure.project.dto.request.CreateProjectRequest;
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.entity.Project;
+import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.event.ProjectChangeType;
+import com.eprocure.project.event.ProjectChangedEvent;
+import com.eprocure.project.repository.ProjectRepository;
+import com.eprocure.project.service.ProjectContribution;
+import com.eprocure.project.service.ProjectStatisticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Persists already validated project creations one chunk per transaction.
+ * Inserts of a chunk are sent as JDBC batches (see hibernate.jdbc.batch_size).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectBatchWriter {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMapper projectMapper;
+    private final ProjectStatisticsService statisticsService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Insert a chunk of projects in its own transaction.
+     *
+     * @param requests validated creation requests
+     * @return the created projects, in request order
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<ProjectDTO> writeChunk(List<CreateProjectRequest> requests) {
+        List<Project> projects = new ArrayList<>(requests.size());
+        for (CreateProjectRequest request : requests) {
+            Project project = projectMapper.toEntity(request);
+            project.setStatus(ProjectStatus.DRAFT);
+            project.setCreatedBy("system"); // TODO: Get from security context
+            project.setUpdatedBy("system");
+            projects.add(project);
+        }
+
+        List<Project> savedProjects = projectRepository.saveAll(projects);
+        projectRepository.flush();
+
+        List<ProjectContribution> contributions = new ArrayList<>(savedProjects.size());
+        List<ProjectDTO> createdProjects = new ArrayList<>(savedProjects.size());
+        for (Project savedProject : savedProjects) {
+            contributions.add(ProjectContribution.of(savedProject));
+            ProjectDTO createdProject = projectMapper.toDTO(savedProject);
+            createdProjects.add(createdProject);
+            eventPublisher.publishEvent(new ProjectChangedEvent(createdProject.getId(), ProjectChangeType.CREATED, createdProject));
+        }
+        statisticsService.applyChanges(Collections.emptyList(), contributions);
+
+        log.debug("Persisted chunk of {} projects", createdProjects.size());
+        return createdProjects;
+    }
+}
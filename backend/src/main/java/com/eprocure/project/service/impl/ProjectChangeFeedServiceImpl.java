@@ -0,0 +1,126 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.config.ProjectChangeFeedProperties;
+import com.eprocure.project.dto.mapper.ProjectMapper;
+import com.eprocure.project.dto.response.ProjectChangeDTO;
+import com.eprocure.project.dto.response.ProjectChangesDTO;
+import com.eprocure.project.entity.Project;
+import com.eprocure.project.entity.ProjectTombstone;
+import com.eprocure.project.event.ProjectChangeType;
+import com.eprocure.project.exception.ChangeTokenExpiredException;
+import com.eprocure.project.exception.InvalidProjectDataException;
+import com.eprocure.project.pagination.ProjectChangeToken;
+import com.eprocure.project.repository.ProjectRepository;
+import com.eprocure.project.repository.ProjectTombstoneRepository;
+import com.eprocure.project.service.ProjectChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Implementation of ProjectChangeFeedService reading two keysets: projects by modification time
+ * (which covers creates and updates) and tombstones by deletion time.
+ * <p>
+ * Both are read up to a settled horizon a few seconds in the past, because modification times are
+ * taken before commit: a slower transaction may still commit a change older than the newest one visible.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectChangeFeedServiceImpl implements ProjectChangeFeedService {
+
+    /**
+     * Lower bound of the first sync; no project is older.
+     */
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ProjectRepository projectRepository;
+    private final ProjectTombstoneRepository tombstoneRepository;
+    private final ProjectMapper projectMapper;
+    private final ProjectChangeFeedProperties properties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectChangesDTO getChanges(String since, int limit) {
+        log.debug("Reading project changes since: {}, limit: {}", since, limit);
+
+        if (limit < 1 || limit > properties.getMaxPageSize()) {
+            throw new InvalidProjectDataException("Limit must be between 1 and " + properties.getMaxPageSize());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = now.minus(properties.getSettleDelay());
+        // A first sync only needs the projects that exist; deletions matter from its start onwards
+        ProjectChangeToken token = since != null
+                ? ProjectChangeToken.decode(since)
+                : new ProjectChangeToken(BEGINNING, null, horizon, null);
+
+        if (token.getTombstonesAt().isBefore(now.minus(properties.getTombstoneRetention()))) {
+            throw new ChangeTokenExpiredException(
+                    "Change token is older than the tombstone retention, resynchronise without since");
+        }
+
+        Pageable slice = PageRequest.of(0, limit);
+        List<Project> projects = token.getProjectId() == null
+                ? projectRepository.findChangedFrom(token.getProjectsAt(), horizon, slice)
+                : projectRepository.findChangedAfter(token.getProjectsAt(), token.getProjectId(), horizon, slice);
+        List<ProjectTombstone> tombstones = token.getTombstoneId() == null
+                ? tombstoneRepository.findDeletedFrom(token.getTombstonesAt(), horizon, slice)
+                : tombstoneRepository.findDeletedAfter(token.getTombstonesAt(), token.getTombstoneId(), horizon, slice);
+
+        List<ProjectChangeDTO> changes = new ArrayList<>(projects.size() + tombstones.size());
+        for (Project project : projects) {
+            changes.add(ProjectChangeDTO.builder()
+                    .projectId(project.getId())
+                    .changeType(project.getCreatedAt().equals(project.getUpdatedAt())
+                            ? ProjectChangeType.CREATED : ProjectChangeType.UPDATED)
+                    .changedAt(project.getUpdatedAt())
+                    .project(projectMapper.toDTO(project))
+                    .build());
+        }
+        for (ProjectTombstone tombstone : tombstones) {
+            changes.add(ProjectChangeDTO.builder()
+                    .projectId(tombstone.getProjectId())
+                    .changeType(ProjectChangeType.DELETED)
+                    .changedAt(tombstone.getDeletedAt())
+                    .build());
+        }
+        changes.sort(Comparator.comparing(ProjectChangeDTO::getChangedAt));
+
+        // A full slice continues after its last row; a partial one has caught up with the horizon
+        boolean moreProjects = projects.size() == limit;
+        boolean moreTombstones = tombstones.size() == limit;
+        Project lastProject = moreProjects ? projects.get(projects.size() - 1) : null;
+        ProjectTombstone lastTombstone = moreTombstones ? tombstones.get(tombstones.size() - 1) : null;
+        ProjectChangeToken next = new ProjectChangeToken(
+                lastProject != null ? lastProject.getUpdatedAt() : horizon,
+                lastProject != null ? lastProject.getId() : null,
+                lastTombstone != null ? lastTombstone.getDeletedAt() : horizon,
+                lastTombstone != null ? lastTombstone.getProjectId() : null);
+
+        return ProjectChangesDTO.builder()
+                .changes(changes)
+                .nextToken(next.encode())
+                .hasMore(moreProjects || moreTombstones)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public int purgeTombstones() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.getTombstoneRetention());
+        int purged = tombstoneRepository.deleteDeletedBefore(before);
+        if (purged > 0) {
+            log.info("Purged {} project tombstones deleted before {}", purged, before);
+        }
+        return purged;
+    }
+}
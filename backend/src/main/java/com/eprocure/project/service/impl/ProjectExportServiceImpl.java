@@ -0,0 +1,75 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.dto.mapper.ProjectMapper;
+import com.eprocure.project.entity.Project;
+import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.export.CsvProjectExportWriter;
+import com.eprocure.project.export.ExportFormat;
+import com.eprocure.project.export.NdjsonProjectExportWriter;
+import com.eprocure.project.export.ProjectExportWriter;
+import com.eprocure.project.repository.ProjectRepository;
+import com.eprocure.project.service.ProjectExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of ProjectExportService reading from a forward-only JDBC cursor.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ProjectExportServiceImpl implements ProjectExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMapper projectMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Override
+    public long exportProjects(ProjectStatus status, ExportFormat format, OutputStream outputStream) throws IOException {
+        log.debug("Exporting projects as {} with status: {}", format, status);
+
+        ProjectExportWriter writer = createWriter(format, outputStream);
+        writer.writeHeader();
+
+        long count = 0;
+        try (Stream<Project> projects = status != null
+                ? projectRepository.streamByStatus(status)
+                : projectRepository.streamAll()) {
+            Iterator<Project> iterator = projects.iterator();
+            while (iterator.hasNext()) {
+                Project project = iterator.next();
+                writer.writeRow(project);
+                // Keep the persistence context (and heap) constant regardless of row count
+                entityManager.detach(project);
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+
+        log.info("Exported {} projects as {}", count, format);
+        return count;
+    }
+
+    private ProjectExportWriter createWriter(ExportFormat format, OutputStream outputStream) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvProjectExportWriter(outputStream);
+            case NDJSON -> new NdjsonProjectExportWriter(outputStream, objectMapper, projectMapper);
+        };
+    }
+}
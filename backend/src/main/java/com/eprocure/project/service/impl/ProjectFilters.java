@@ -0,0 +1,38 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.dto.request.ProjectFilterRequest;
+import com.eprocure.project.exception.InvalidProjectDataException;
+
+/**
+ * Validation of the listing criteria, shared by the servlet and the reactive services so that both
+ * reject the same filters.
+ */
+final class ProjectFilters {
+
+    private ProjectFilters() {
+    }
+
+    /**
+     * Check that the criteria can match anything at all.
+     *
+     * @param filter the criteria
+     * @throws InvalidProjectDataException if the currency is malformed or a range ends before it begins
+     */
+    static void validate(ProjectFilterRequest filter) {
+        if (filter.getCurrency() != null && !filter.getCurrency().matches("^[A-Z]{3}$")) {
+            throw new InvalidProjectDataException("Currency must be 3 uppercase letters (e.g., EUR, USD)");
+        }
+        if (filter.getMinBudget() != null && filter.getMaxBudget() != null
+                && filter.getMinBudget().compareTo(filter.getMaxBudget()) > 0) {
+            throw new InvalidProjectDataException("Minimum budget must not exceed maximum budget");
+        }
+        if (filter.getStartDateFrom() != null && filter.getStartDateTo() != null
+                && filter.getStartDateFrom().isAfter(filter.getStartDateTo())) {
+            throw new InvalidProjectDataException("Start date window must not end before it begins");
+        }
+        if (filter.getEndDateFrom() != null && filter.getEndDateTo() != null
+                && filter.getEndDateFrom().isAfter(filter.getEndDateTo())) {
+            throw new InvalidProjectDataException("End date window must not end before it begins");
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.config.ProjectBatchProperties;
+import com.eprocure.project.dto.request.CreateProjectRequest;
+import com.eprocure.project.dto.response.ImportJobDTO;
+import com.eprocure.project.exception.ImportJobNotFoundException;
+import com.eprocure.project.exception.PayloadTooLargeException;
+import com.eprocure.project.exception.ServiceBusyException;
+import com.eprocure.project.imports.CsvRecord;
+import com.eprocure.project.imports.CsvRecordReader;
+import com.eprocure.project.imports.ImportJob;
+import com.eprocure.project.imports.ImportJobRegistry;
+import com.eprocure.project.imports.ImportProperties;
+import com.eprocure.project.service.ProjectImportService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Implementation of ProjectImportService.
+ * The upload is copied to a temporary file and the request returns; a bounded pool of import workers
+ * then parses the file record by record and persists it in chunks through {@link ProjectBatchWriter},
+ * so heap use stays flat whatever the size of the upload.
+ */
+@Service
+@Slf4j
+public class ProjectImportServiceImpl implements ProjectImportService {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "title", "description", "budget", "currency", "startDate", "endDate", "departmentId", "projectManagerId");
+
+    private final ProjectBatchWriter batchWriter;
+    private final ProjectRequestValidator requestValidator;
+    private final ProjectBatchProperties batchProperties;
+    private final ImportProperties importProperties;
+    private final ImportJobRegistry jobRegistry;
+    private final ThreadPoolExecutor workers;
+
+    public ProjectImportServiceImpl(ProjectBatchWriter batchWriter,
+                                    ProjectRequestValidator requestValidator,
+                                    ProjectBatchProperties batchProperties,
+                                    ImportProperties importProperties,
+                                    ImportJobRegistry jobRegistry) {
+        this.batchWriter = batchWriter;
+        this.requestValidator = requestValidator;
+        this.batchProperties = batchProperties;
+        this.importProperties = importProperties;
+        this.jobRegistry = jobRegistry;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("project-import-");
+        threadFactory.setDaemon(true);
+        this.workers = new ThreadPoolExecutor(
+                importProperties.getMaxConcurrentJobs(), importProperties.getMaxConcurrentJobs(),
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(importProperties.getMaxQueuedJobs()),
+                threadFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    @Override
+    public ImportJobDTO importCsv(InputStream csv) {
+        Path upload = spool(csv);
+        ImportJob job = jobRegistry.create();
+        try {
+            workers.execute(() -> run(job, upload));
+        } catch (RejectedExecutionException e) {
+            jobRegistry.remove(job);
+            deleteUpload(upload);
+            throw new ServiceBusyException("Too many imports in progress, retry later");
+        }
+        log.info("Queued project import job {}", job.getId());
+        return job.toDTO();
+    }
+
+    /**
+     * Copy the upload to a temporary file, so that the request does not wait for the import.
+     *
+     * @throws PayloadTooLargeException if the upload exceeds the configured size
+     */
+    private Path spool(InputStream csv) {
+        long maxUploadSize = importProperties.getMaxUploadSize().toBytes();
+        Path upload = null;
+        try {
+            upload = Files.createTempFile("project-import-", ".csv");
+            long copied;
+            try (OutputStream out = Files.newOutputStream(upload)) {
+                // Reading one byte past the limit tells an upload of exactly the limit from a larger one
+                copied = StreamUtils.copyRange(csv, out, 0, maxUploadSize);
+            }
+            if (copied > maxUploadSize) {
+                deleteUpload(upload);
+                throw new PayloadTooLargeException("Upload exceeds " + importProperties.getMaxUploadSize());
+            }
+            return upload;
+        } catch (IOException e) {
+            if (upload != null) {
+                deleteUpload(upload);
+            }
+            throw new UncheckedIOException("Upload could not be stored", e);
+        }
+    }
+
+    private void run(ImportJob job, Path upload) {
+        try {
+            job.start();
+            log.info("Starting project import job {}", job.getId());
+            try (InputStream csv = Files.newInputStream(upload)) {
+                process(job, csv);
+            } catch (IOException e) {
+                log.warn("Project import job {} could not open its upload", job.getId(), e);
+                job.fail("Upload could not be read: " + e.getMessage());
+            }
+        } catch (RuntimeException e) {
+            log.error("Project import job {} failed", job.getId(), e);
+            job.fail("Import failed unexpectedly");
+        } finally {
+            deleteUpload(upload);
+        }
+    }
+
+    private void deleteUpload(Path upload) {
+        try {
+            Files.deleteIfExists(upload);
+        } catch (IOException e) {
+            log.warn("Could not delete import upload {}", upload, e);
+        }
+    }
+
+    private void process(ImportJob job, InputStream csv) {
+        try (CsvRecordReader reader = new CsvRecordReader(
+                new InputStreamReader(csv, StandardCharsets.UTF_8), importProperties.getMaxRecordLength())) {
+            CsvRecord header = reader.readRecord();
+            if (header == null || !header.isValid()) {
+                job.fail("Missing or unreadable header record");
+                return;
+            }
+
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.getFields().size(); i++) {
+                columns.putIfAbsent(header.getFields().get(i).trim(), i);
+            }
+            List<String> missingColumns = REQUIRED_COLUMNS.stream()
+                    .filter(column -> !columns.containsKey(column))
+                    .toList();
+            if (!missingColumns.isEmpty()) {
+                job.fail("Missing columns: " + String.join(", ", missingColumns));
+                return;
+            }
+
+            List<CreateProjectRequest> chunk = new ArrayList<>(batchProperties.getChunkSize());
+            List<Long> chunkLines = new ArrayList<>(batchProperties.getChunkSize());
+
+            CsvRecord record;
+            while ((record = reader.readRecord()) != null) {
+                job.recordRead();
+                if (!record.isValid()) {
+                    job.recordFailure(record.getLineNumber(), Map.of("record", record.getError()));
+                    continue;
+                }
+
+                Map<String, String> errors = new LinkedHashMap<>();
+                CreateProjectRequest request = parse(record, columns, errors);
+                if (errors.isEmpty()) {
+                    errors.putAll(requestValidator.validate(request));
+                }
+                if (!errors.isEmpty()) {
+                    job.recordFailure(record.getLineNumber(), errors);
+                    continue;
+                }
+
+                chunk.add(request);
+                chunkLines.add(record.getLineNumber());
+                if (chunk.size() == batchProperties.getChunkSize()) {
+                    writeChunk(job, chunk, chunkLines);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(job, chunk, chunkLines);
+            }
+            job.complete();
+        } catch (IOException e) {
+            log.warn("Project import job {} aborted while reading the upload", job.getId(), e);
+            job.fail("Upload could not be read: " + e.getMessage());
+        }
+
+        ImportJobDTO result = job.toDTO();
+        log.info("Finished project import job {}: {} created, {} failed", job.getId(), result.getCreated(), result.getFailed());
+    }
+
+    @Override
+    public ImportJobDTO getJob(UUID jobId) {
+        return jobRegistry.find(jobId)
+                .map(ImportJob::toDTO)
+                .orElseThrow(() -> new ImportJobNotFoundException(jobId));
+    }
+
+    @Override
+    public List<ImportJobDTO> listJobs() {
+        return jobRegistry.findAll().stream()
+                .map(ImportJob::toDTO)
+                .toList();
+    }
+
+    /**
+     * Persist a chunk and record its outcome, then reset the chunk buffers.
+     * When the chunk fails as a whole, its lines are retried one by one so that only the bad lines fail.
+     */
+    private void writeChunk(ImportJob job, List<CreateProjectRequest> chunk, List<Long> chunkLines) {
+        try {
+            job.recordCreated(batchWriter.writeChunk(chunk).size());
+        } catch (DataAccessException | IllegalArgumentException e) {
+            if (chunk.size() == 1) {
+                recordPersistenceFailure(job, chunkLines.get(0), e);
+            } else {
+                log.warn("Import job {} failed to persist chunk of {} projects, retrying its lines one by one",
+                        job.getId(), chunk.size(), e);
+                for (int i = 0; i < chunk.size(); i++) {
+                    writeLine(job, chunk.get(i), chunkLines.get(i));
+                }
+            }
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    /**
+     * Persist a single line of a failed chunk in its own transaction and record its outcome.
+     */
+    private void writeLine(ImportJob job, CreateProjectRequest request, long line) {
+        try {
+            job.recordCreated(batchWriter.writeChunk(List.of(request)).size());
+        } catch (DataAccessException | IllegalArgumentException e) {
+            recordPersistenceFailure(job, line, e);
+        }
+    }
+
+    private void recordPersistenceFailure(ImportJob job, long line, RuntimeException e) {
+        log.warn("Import job {} failed to persist line {}", job.getId(), line, e);
+        // Entity checks report what is wrong with the line; database errors are not exposed to clients
+        job.recordFailure(line, Map.of("record", e instanceof IllegalArgumentException && e.getMessage() != null
+                ? e.getMessage()
+                : "Project could not be persisted"));
+    }
+
+    private CreateProjectRequest parse(CsvRecord record, Map<String, Integer> columns, Map<String, String> errors) {
+        return CreateProjectRequest.builder()
+                .title(value(record, columns, "title"))
+                .description(value(record, columns, "description"))
+                .budget(convert(record, columns, "budget", BigDecimal::new, "Budget must be a number", errors))
+                .currency(value(record, columns, "currency"))
+                .startDate(convert(record, columns, "startDate", LocalDate::parse, "Start date must be an ISO date (yyyy-MM-dd)", errors))
+                .endDate(convert(record, columns, "endDate", LocalDate::parse, "End date must be an ISO date (yyyy-MM-dd)", errors))
+                .departmentId(convert(record, columns, "departmentId", UUID::fromString, "Department ID must be a UUID", errors))
+                .projectManagerId(convert(record, columns, "projectManagerId", UUID::fromString, "Project Manager ID must be a UUID", errors))
+                .build();
+    }
+
+    private String value(CsvRecord record, Map<String, Integer> columns, String column) {
+        int index = columns.get(column);
+        if (index >= record.getFields().size()) {
+            return null;
+        }
+        String value = record.getFields().get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private <T> T convert(CsvRecord record, Map<String, Integer> columns, String column,
+                          Function<String, T> converter, String message, Map<String, String> errors) {
+        String value = value(record, columns, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return converter.apply(value);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            errors.put(column, message);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.dto.request.CreateProjectRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Validates creation requests item by item for bulk operations,
+ * applying the same rules as the single-item endpoints.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectRequestValidator {
+
+    private final Validator validator;
+
+    /**
+     * Validate a creation request.
+     *
+     * @param request the request to validate (may be null)
+     * @return field name to error message, empty if the request is valid
+     */
+    public Map<String, String> validate(CreateProjectRequest request) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (request == null) {
+            errors.put("request", "Project is required");
+            return errors;
+        }
+
+        for (ConstraintViolation<CreateProjectRequest> violation : validator.validate(request)) {
+            errors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+
+        if (request.getStartDate() != null && request.getEndDate() != null
+                && request.getEndDate().isBefore(request.getStartDate())) {
+            errors.putIfAbsent("endDate", "End date must be equal to or after start date");
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,132 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.dto.response.ProjectBudgetRollupDTO;
+import com.eprocure.project.entity.ProjectBudgetRollup;
+import com.eprocure.project.entity.ProjectBudgetRollupId;
+import com.eprocure.project.entity.RollupDimension;
+import com.eprocure.project.exception.InvalidProjectDataException;
+import com.eprocure.project.repository.ProjectBudgetRollupRepository;
+import com.eprocure.project.repository.ProjectRepository;
+import com.eprocure.project.repository.projection.RollupTotals;
+import com.eprocure.project.service.ProjectContribution;
+import com.eprocure.project.service.ProjectRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of ProjectRollupService backed by the project_budget_rollups table.
+ * Reads touch only the rollup rows, so they cost the same whatever the number of projects.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectRollupServiceImpl implements ProjectRollupService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ProjectRepository projectRepository;
+    private final ProjectBudgetRollupRepository rollupRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjectBudgetRollupDTO> listRollups(RollupDimension dimension, String currency, Pageable pageable) {
+        log.debug("Listing {} rollups, currency: {}, page: {}, size: {}",
+                dimension, currency, pageable.getPageNumber(), pageable.getPageSize());
+
+        if (pageable.getPageSize() > MAX_PAGE_SIZE) {
+            throw new InvalidProjectDataException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (currency != null && !currency.matches("^[A-Z]{3}$")) {
+            throw new InvalidProjectDataException("Currency must be 3 uppercase letters (e.g., EUR, USD)");
+        }
+
+        Page<ProjectBudgetRollup> rollups = currency != null
+                ? rollupRepository.findByIdDimensionAndIdCurrency(dimension, currency, pageable)
+                : rollupRepository.findByIdDimension(dimension, pageable);
+        return rollups.map(ProjectRollupServiceImpl::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectBudgetRollupDTO> getRollups(RollupDimension dimension, UUID groupId) {
+        log.debug("Getting {} rollups of group: {}", dimension, groupId);
+
+        return rollupRepository.findByIdDimensionAndIdGroupIdOrderByIdCurrency(dimension, groupId).stream()
+                .map(ProjectRollupServiceImpl::toDTO)
+                .toList();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyChanges(Collection<ProjectContribution> before, Collection<ProjectContribution> after) {
+        apply(RollupDeltas.of(before, after));
+    }
+
+    private void apply(RollupDeltas deltas) {
+        // Callers hold the lock on the global statistics row, so no two writers race to insert the same rollup row
+        for (ProjectBudgetRollup delta : deltas.toRollups()) {
+            ProjectBudgetRollupId key = delta.getId();
+            int updated = rollupRepository.applyDelta(key, delta.getTotalProjects(), delta.getDraftProjects(),
+                    delta.getActiveProjects(), delta.getCompletedProjects(), delta.getTotalBudget(),
+                    delta.getDraftBudget(), delta.getActiveBudget(), delta.getCompletedBudget());
+            if (updated == 0) {
+                if (delta.getTotalProjects() > 0) {
+                    rollupRepository.save(delta);
+                } else {
+                    log.debug("Rollup {} missing for a removal, left to reconciliation", key);
+                }
+            } else if (delta.getTotalProjects() < 0) {
+                rollupRepository.deleteIfEmpty(key);
+            }
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<ProjectBudgetRollup> computeCorrections() {
+        RollupDeltas deltas = new RollupDeltas();
+        for (RollupTotals totals : projectRepository.summarizeForRollups()) {
+            deltas.add(totals.getDepartmentId(), totals.getProjectManagerId(), totals.getCurrency(),
+                    totals.getStatus(), totals.getProjectCount(), totals.getTotalBudget());
+        }
+        for (ProjectBudgetRollup rollup : rollupRepository.findAll()) {
+            deltas.subtract(rollup);
+        }
+        return deltas.toRollups();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyCorrections(Collection<ProjectBudgetRollup> corrections) {
+        RollupDeltas deltas = new RollupDeltas();
+        corrections.forEach(deltas::add);
+        apply(deltas);
+        if (!corrections.isEmpty()) {
+            log.info("Corrected {} drifted project budget rollups", corrections.size());
+        }
+    }
+
+    private static ProjectBudgetRollupDTO toDTO(ProjectBudgetRollup rollup) {
+        return ProjectBudgetRollupDTO.builder()
+                .groupId(rollup.getId().getGroupId())
+                .currency(rollup.getId().getCurrency())
+                .totalProjects(rollup.getTotalProjects())
+                .totalBudget(rollup.getTotalBudget())
+                .draftProjects(rollup.getDraftProjects())
+                .draftBudget(rollup.getDraftBudget())
+                .activeProjects(rollup.getActiveProjects())
+                .activeBudget(rollup.getActiveBudget())
+                .completedProjects(rollup.getCompletedProjects())
+                .completedBudget(rollup.getCompletedBudget())
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.dto.mapper.ProjectMapper;
+import com.eprocure.project.dto.response.ProjectSearchHitDTO;
+import com.eprocure.project.dto.response.ProjectSearchResultDTO;
+import com.eprocure.project.entity.Project;
+import com.eprocure.project.exception.InvalidProjectDataException;
+import com.eprocure.project.repository.ProjectRepository;
+import com.eprocure.project.repository.projection.SearchableProject;
+import com.eprocure.project.search.ProjectSearchHit;
+import com.eprocure.project.search.ProjectSearchHits;
+import com.eprocure.project.search.ProjectSearchIndex;
+import com.eprocure.project.search.ProjectTokenizer;
+import com.eprocure.project.service.ProjectSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of ProjectSearchService backed by the in-process {@link ProjectSearchIndex}.
+ * The index only yields ids; the projects of the returned hits are loaded with a single query.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ProjectSearchServiceImpl implements ProjectSearchService {
+
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_QUERY_WORDS = 10;
+
+    private final ProjectSearchIndex searchIndex;
+    private final ProjectRepository projectRepository;
+    private final ProjectMapper projectMapper;
+
+    @Override
+    public ProjectSearchResultDTO search(String query, int limit) {
+        log.debug("Searching projects for: {}, limit: {}", query, limit);
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidProjectDataException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        List<String> words = ProjectTokenizer.tokenize(query).stream()
+                .distinct()
+                .limit(MAX_QUERY_WORDS)
+                .toList();
+        if (words.isEmpty()) {
+            throw new InvalidProjectDataException("Search query must contain a word of at least two letters or digits");
+        }
+
+        ProjectSearchHits result = searchIndex.search(words, limit);
+
+        List<UUID> ids = result.getHits().stream().map(ProjectSearchHit::getProjectId).toList();
+        Map<UUID, Project> projects = projectRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        List<ProjectSearchHitDTO> hits = new ArrayList<>(ids.size());
+        for (ProjectSearchHit hit : result.getHits()) {
+            Project project = projects.get(hit.getProjectId());
+            // Skips projects deleted between the index lookup and the load
+            if (project != null) {
+                hits.add(new ProjectSearchHitDTO(hit.getScore(), projectMapper.toDTO(project)));
+            }
+        }
+
+        return ProjectSearchResultDTO.builder()
+                .query(query)
+                .totalHits(result.getTotalHits())
+                .hits(hits)
+                .complete(searchIndex.isReady())
+                .build();
+    }
+
+    @Override
+    public int rebuildIndex() {
+        log.debug("Rebuilding project search index");
+
+        long start = System.nanoTime();
+        int indexed;
+        try (Stream<SearchableProject> projects = projectRepository.streamSearchableText()) {
+            indexed = searchIndex.rebuild(projects);
+        }
+        log.info("Rebuilt project search index with {} projects in {} ms", indexed, (System.nanoTime() - start) / 1_000_000);
+        return indexed;
+    }
+}
@@ -1,24 +1,54 @@
 package com.eprocure.project.service.impl;
 
+import com.eprocure.project.cache.ProjectCache;
+import com.eprocure.project.concurrency.Coalesced;
+import com.eprocure.project.config.ProjectBatchProperties;
 import com.eprocure.project.dto.mapper.ProjectMapper;
 import com.eprocure.project.dto.request.CreateProjectRequest;
+import com.eprocure.project.dto.request.ProjectFilterRequest;
+import com.eprocure.project.dto.response.BatchCreateResultDTO;
+import com.eprocure.project.dto.response.BatchItemResultDTO;
+import com.eprocure.project.dto.response.CursorPage;
 import com.eprocure.project.dto.response.ProjectDTO;
 import com.eprocure.project.dto.response.ProjectStatisticsDTO;
+import com.eprocure.project.dto.response.ProjectTrendDTO;
+import com.eprocure.project.dto.response.StatusTransitionResultDTO;
 import com.eprocure.project.entity.Project;
 import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.entity.ProjectTombstone;
+import com.eprocure.project.event.ProjectChangeType;
+import com.eprocure.project.event.ProjectChangedEvent;
 import com.eprocure.project.exception.InvalidProjectDataException;
 import com.eprocure.project.exception.ProjectNotFoundException;
+import com.eprocure.project.exception.ProjectStatusConflictException;
+import com.eprocure.project.pagination.ProjectCursor;
 import com.eprocure.project.repository.ProjectRepository;
+import com.eprocure.project.repository.ProjectTombstoneRepository;
+import com.eprocure.project.repository.ProjectSpecifications;
+import com.eprocure.project.repository.projection.ProjectSummary;
+import com.eprocure.project.repository.projection.TransitionCandidate;
+import com.eprocure.project.service.ProjectContribution;
 import com.eprocure.project.service.ProjectService;
+import com.eprocure.project.service.ProjectStatisticsService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -28,10 +58,20 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
+@Timed(value = "eprocure.project.service", description = "ProjectService method latency")
 public class ProjectServiceImpl implements ProjectService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ProjectRepository projectRepository;
+    private final ProjectTombstoneRepository tombstoneRepository;
     private final ProjectMapper projectMapper;
+    private final ProjectStatisticsService statisticsService;
+    private final ProjectCache projectCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectRequestValidator requestValidator;
+    private final ProjectBatchWriter batchWriter;
+    private final ProjectBatchProperties batchProperties;
 
     @Override
     public ProjectDTO createProject(CreateProjectRequest request) {
@@ -49,9 +89,123 @@ public class ProjectServiceImpl implements ProjectService {
         project.setUpdatedBy("system");
 
         Project savedProject = projectRepository.save(project);
+        statisticsService.applyChange(null, ProjectContribution.of(savedProject));
         log.info("Created project with id: {}", savedProject.getId());
 
-        return projectMapper.toDTO(savedProject);
+        ProjectDTO createdProject = projectMapper.toDTO(savedProject);
+        eventPublisher.publishEvent(new ProjectChangedEvent(createdProject.getId(), ProjectChangeType.CREATED, createdProject));
+        return createdProject;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchCreateResultDTO createProjects(List<CreateProjectRequest> requests) {
+        log.debug("Creating batch of {} projects", requests.size());
+
+        if (requests.isEmpty()) {
+            throw new InvalidProjectDataException("Batch must contain at least one project");
+        }
+        if (requests.size() > batchProperties.getMaxItems()) {
+            throw new InvalidProjectDataException("Batch must not contain more than " + batchProperties.getMaxItems() + " projects");
+        }
+
+        BatchItemResultDTO[] results = new BatchItemResultDTO[requests.size()];
+        List<CreateProjectRequest> chunk = new ArrayList<>(batchProperties.getChunkSize());
+        List<Integer> chunkIndexes = new ArrayList<>(batchProperties.getChunkSize());
+
+        for (int index = 0; index < requests.size(); index++) {
+            CreateProjectRequest request = requests.get(index);
+            Map<String, String> errors = requestValidator.validate(request);
+            if (!errors.isEmpty()) {
+                results[index] = failedItem(index, errors);
+                continue;
+            }
+
+            chunk.add(request);
+            chunkIndexes.add(index);
+            if (chunk.size() == batchProperties.getChunkSize()) {
+                writeChunk(chunk, chunkIndexes, results);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, chunkIndexes, results);
+        }
+
+        int created = 0;
+        for (BatchItemResultDTO result : results) {
+            if (result.isSuccess()) {
+                created++;
+            }
+        }
+        log.info("Created {} of {} projects in batch", created, requests.size());
+
+        return BatchCreateResultDTO.builder()
+                .requested(requests.size())
+                .created(created)
+                .failed(requests.size() - created)
+                .items(List.of(results))
+                .build();
+    }
+
+    /**
+     * Persist a chunk and record the outcome of its items, then reset the chunk buffers.
+     * When the chunk fails as a whole, its items are retried one by one so that each reports its own outcome.
+     */
+    private void writeChunk(List<CreateProjectRequest> chunk, List<Integer> chunkIndexes, BatchItemResultDTO[] results) {
+        try {
+            List<ProjectDTO> createdProjects = batchWriter.writeChunk(chunk);
+            for (int i = 0; i < createdProjects.size(); i++) {
+                int index = chunkIndexes.get(i);
+                results[index] = createdItem(index, createdProjects.get(i));
+            }
+        } catch (DataAccessException | IllegalArgumentException e) {
+            if (chunk.size() == 1) {
+                log.warn("Failed to persist batch item {}", chunkIndexes.get(0), e);
+                results[chunkIndexes.get(0)] = failedItem(chunkIndexes.get(0), persistenceErrors(e));
+            } else {
+                log.warn("Failed to persist chunk of {} projects, retrying its items one by one", chunk.size(), e);
+                for (int i = 0; i < chunk.size(); i++) {
+                    writeItem(chunk.get(i), chunkIndexes.get(i), results);
+                }
+            }
+        }
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+
+    /**
+     * Persist a single item of a failed chunk in its own transaction and record its outcome.
+     */
+    private void writeItem(CreateProjectRequest request, int index, BatchItemResultDTO[] results) {
+        try {
+            results[index] = createdItem(index, batchWriter.writeChunk(List.of(request)).get(0));
+        } catch (DataAccessException | IllegalArgumentException e) {
+            log.warn("Failed to persist batch item {}", index, e);
+            results[index] = failedItem(index, persistenceErrors(e));
+        }
+    }
+
+    private static Map<String, String> persistenceErrors(RuntimeException e) {
+        // Entity checks report what is wrong with the item; database errors are not exposed to clients
+        return Map.of("request", e instanceof IllegalArgumentException && e.getMessage() != null
+                ? e.getMessage()
+                : "Project could not be persisted");
+    }
+
+    private BatchItemResultDTO createdItem(int index, ProjectDTO createdProject) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .id(createdProject.getId())
+                .success(true)
+                .build();
+    }
+
+    private BatchItemResultDTO failedItem(int index, Map<String, String> errors) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .success(false)
+                .errors(errors)
+                .build();
     }
 
     @Override
@@ -67,121 +221,197 @@ public class ProjectServiceImpl implements ProjectService {
         Project existingProject = projectRepository.findById(id)
                 .orElseThrow(() -> new ProjectNotFoundException(id));
 
+        ProjectContribution before = ProjectContribution.of(existingProject);
+
         // Update fields from request
         projectMapper.updateEntityFromRequest(request, existingProject);
         existingProject.setUpdatedBy("system"); // TODO: Get from security context
 
         Project updatedProject = projectRepository.save(existingProject);
+        statisticsService.applyChange(before, ProjectContribution.of(updatedProject));
         log.info("Updated project with id: {}", id);
 
-        return projectMapper.toDTO(updatedProject);
+        ProjectDTO updatedProjectDTO = projectMapper.toDTO(updatedProject);
+        eventPublisher.publishEvent(new ProjectChangedEvent(id, ProjectChangeType.UPDATED, updatedProjectDTO));
+        return updatedProjectDTO;
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ProjectDTO getProject(UUID id) {
         log.debug("Fetching project with id: {}", id);
 
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new ProjectNotFoundException(id));
-
-        return projectMapper.toDTO(project);
+        // No surrounding transaction: a cache hit must not acquire a connection
+        return projectCache.get(id, key -> projectRepository.findById(key)
+                .map(projectMapper::toDTO)
+                .orElseThrow(() -> new ProjectNotFoundException(key)));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ProjectDTO> listProjects(Pageable pageable) {
-        log.debug("Listing projects with page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
+    @Coalesced
+    public Page<ProjectDTO> filterProjects(ProjectFilterRequest filter, Pageable pageable) {
+        log.debug("Filtering projects with: {}, page: {}, size: {}, sort: {}",
+                filter, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
 
-        Page<Project> projectPage = projectRepository.findAllByOrderByCreatedAtDesc(pageable);
+        Page<Project> projectPage = projectRepository.findAll(filterSpecification(filter), pageable);
         return projectPage.map(projectMapper::toDTO);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ProjectDTO> listProjectsByStatus(ProjectStatus status, Pageable pageable) {
-        log.debug("Listing projects with status: {}", status);
+    @Coalesced
+    public Page<ProjectSummary> filterProjectSummaries(ProjectFilterRequest filter, Pageable pageable) {
+        log.debug("Filtering project summaries with: {}, page: {}, size: {}, sort: {}",
+                filter, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
 
-        Page<Project> projectPage = projectRepository.findByStatus(status, pageable);
-        return projectPage.map(projectMapper::toDTO);
+        return projectRepository.findSummaries(filterSpecification(filter), pageable);
+    }
+
+    private Specification<Project> filterSpecification(ProjectFilterRequest filter) {
+        ProjectFilters.validate(filter);
+        return Specification.allOf(
+                ProjectSpecifications.hasStatus(filter.getStatus()),
+                ProjectSpecifications.inDepartment(filter.getDepartmentId()),
+                ProjectSpecifications.managedBy(filter.getProjectManagerId()),
+                ProjectSpecifications.hasCurrency(filter.getCurrency()),
+                ProjectSpecifications.budgetBetween(filter.getMinBudget(), filter.getMaxBudget()),
+                ProjectSpecifications.startDateBetween(filter.getStartDateFrom(), filter.getStartDateTo()),
+                ProjectSpecifications.endDateBetween(filter.getEndDateFrom(), filter.getEndDateTo()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectDTO> listProjectsByCursor(String cursor, int size, ProjectStatus status) {
+        log.debug("Listing projects after cursor: {}, size: {}, status: {}", cursor, size, status);
+
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidProjectDataException("Size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        // Fetch one extra row to learn whether another slice follows
+        Pageable limit = PageRequest.of(0, size + 1);
+        ProjectCursor position = cursor != null ? ProjectCursor.decode(cursor) : null;
+
+        List<Project> projects;
+        if (position == null) {
+            projects = status != null
+                    ? projectRepository.findKeysetFirstByStatus(status, limit)
+                    : projectRepository.findKeysetFirst(limit);
+        } else {
+            projects = status != null
+                    ? projectRepository.findKeysetAfterByStatus(status, position.getCreatedAt(), position.getId(), limit)
+                    : projectRepository.findKeysetAfter(position.getCreatedAt(), position.getId(), limit);
+        }
+
+        boolean hasNext = projects.size() > size;
+        if (hasNext) {
+            projects = projects.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Project last = projects.get(projects.size() - 1);
+            nextCursor = new ProjectCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPage.<ProjectDTO>builder()
+                .content(projects.stream().map(projectMapper::toDTO).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    public StatusTransitionResultDTO transitionStatus(UUID id, ProjectStatus status) {
+        log.debug("Transitioning project {} to status: {}", id, status);
+
+        StatusTransitionResultDTO result = transitionStatuses(List.of(id), status);
+        if (result.getUpdated() == 0) {
+            if (!projectRepository.existsById(id)) {
+                throw new ProjectNotFoundException(id);
+            }
+            throw new ProjectStatusConflictException(
+                    "Project " + id + " must be " + result.getFrom() + " to become " + status);
+        }
+        return result;
+    }
+
+    @Override
+    public StatusTransitionResultDTO transitionStatuses(List<UUID> ids, ProjectStatus status) {
+        log.debug("Transitioning {} projects to status: {}", ids.size(), status);
+
+        ProjectStatus from = status.requiredPredecessor();
+        if (from == null) {
+            throw new InvalidProjectDataException("Projects cannot be moved to status " + status);
+        }
+
+        Set<UUID> uniqueIds = new LinkedHashSet<>(ids);
+        // Lock the eligible rows first, so that the update, the statistics and the events cover exactly them
+        List<TransitionCandidate> candidates = projectRepository.findTransitionCandidatesForUpdate(uniqueIds, from);
+        int updated = 0;
+        if (!candidates.isEmpty()) {
+            List<UUID> transitionedIds = candidates.stream().map(TransitionCandidate::getId).toList();
+            updated = projectRepository.transitionStatus(transitionedIds, status, LocalDateTime.now(), "system"); // TODO: Get from security context
+
+            List<ProjectContribution> before = new ArrayList<>(candidates.size());
+            List<ProjectContribution> after = new ArrayList<>(candidates.size());
+            for (TransitionCandidate candidate : candidates) {
+                before.add(new ProjectContribution(from, candidate.getBudget(), candidate.getCurrency(),
+                        candidate.getDepartmentId(), candidate.getProjectManagerId()));
+                after.add(new ProjectContribution(status, candidate.getBudget(), candidate.getCurrency(),
+                        candidate.getDepartmentId(), candidate.getProjectManagerId()));
+            }
+            statisticsService.applyChanges(before, after);
+            for (UUID transitionedId : transitionedIds) {
+                eventPublisher.publishEvent(new ProjectChangedEvent(transitionedId, ProjectChangeType.STATUS_CHANGED, null));
+            }
+        }
+        log.info("Transitioned {} of {} projects from {} to {}", updated, uniqueIds.size(), from, status);
+
+        return StatusTransitionResultDTO.builder()
+                .from(from)
+                .to(status)
+                .requested(uniqueIds.size())
+                .updated(updated)
+                .build();
     }
 
     @Override
     public void deleteProject(UUID id) {
         log.debug("Deleting project with id: {}", id);
 
-        if (!projectRepository.existsById(id)) {
-            throw new ProjectNotFoundException(id);
-        }
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new ProjectNotFoundException(id));
 
-        projectRepository.deleteById(id);
+        projectRepository.delete(project);
+        // Recorded in the same transaction so that delta sync consumers cannot miss the deletion
+        tombstoneRepository.save(ProjectTombstone.builder()
+                .projectId(id)
+                .deletedAt(LocalDateTime.now())
+                .deletedBy("system") // TODO: Get from security context
+                .build());
+        statisticsService.applyChange(ProjectContribution.of(project), null);
+        eventPublisher.publishEvent(new ProjectChangedEvent(id, ProjectChangeType.DELETED, null));
         log.info("Deleted project with id: {}", id);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Coalesced
     public ProjectStatisticsDTO getStatistics() {
-        log.debug("Calculating project statistics");
-
-        // Count total projects
-        long totalProjects = projectRepository.count();
-
-        // Count by status
-        long activeProjects = projectRepository.countByStatus(ProjectStatus.ACTIVE);
-        long completedProjects = projectRepository.countByStatus(ProjectStatus.COMPLETED);
-        long draftProjects = projectRepository.countByStatus(ProjectStatus.DRAFT);
-
-        // Calculate total budget
-        BigDecimal totalBudget = projectRepository.sumTotalBudget();
-
-        // Calculate percentage change for active projects (vs last month)
-        Double activeProjectsChangePercent = calculateActiveProjectsChangePercent();
-
-        return ProjectStatisticsDTO.builder()
-                .totalProjects(totalProjects)
-                .activeProjects(activeProjects)
-                .activeProjectsChangePercent(activeProjectsChangePercent)
-                .completedProjects(completedProjects)
-                .draftProjects(draftProjects)
-                .totalBudget(totalBudget != null ? totalBudget : BigDecimal.ZERO)
-                .currency("EUR") // Default currency for display
-                .build();
+        log.debug("Fetching project statistics");
+
+        return statisticsService.getStatistics();
     }
 
-    /**
-     * Calculate the percentage change in active projects compared to last month.
-     *
-     * @return percentage change, or null if cannot calculate
-     */
-    private Double calculateActiveProjectsChangePercent() {
-        try {
-            LocalDateTime oneMonthAgo = LocalDateTime.now().minusMonths(1);
-
-            // Count active projects from last month
-            long activeProjectsLastMonth = projectRepository.countByStatusAndCreatedAtAfter(
-                    ProjectStatus.ACTIVE,
-                    oneMonthAgo.minusMonths(1)
-            ) - projectRepository.countByStatusAndCreatedAtAfter(
-                    ProjectStatus.ACTIVE,
-                    oneMonthAgo
-            );
-
-            // Count active projects from this month
-            long activeProjectsThisMonth = projectRepository.countByStatusAndCreatedAtAfter(
-                    ProjectStatus.ACTIVE,
-                    oneMonthAgo
-            );
-
-            // Calculate percentage change
-            if (activeProjectsLastMonth == 0) {
-                return activeProjectsThisMonth > 0 ? 100.0 : 0.0;
-            }
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    @Coalesced
+    public ProjectTrendDTO getTrend(int months) {
+        log.debug("Fetching project trend for {} months", months);
 
-            double change = ((double) (activeProjectsThisMonth - activeProjectsLastMonth) / activeProjectsLastMonth) * 100;
-            return Math.round(change * 10.0) / 10.0; // Round to 1 decimal place
-        } catch (Exception e) {
-            log.warn("Error calculating active projects change percent", e);
-            return null;
-        }
+        return statisticsService.getTrend(months);
     }
 }
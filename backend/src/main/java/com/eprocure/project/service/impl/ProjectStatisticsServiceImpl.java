@@ -0,0 +1,420 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.cache.ProjectTrendCache;
+import com.eprocure.project.dto.response.ProjectStatisticsDTO;
+import com.eprocure.project.dto.response.ProjectTrendDTO;
+import com.eprocure.project.dto.response.ProjectTrendPointDTO;
+import com.eprocure.project.entity.ProjectBudgetRollup;
+import com.eprocure.project.entity.ProjectStatisticsAggregate;
+import com.eprocure.project.entity.ProjectStatisticsCurrency;
+import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.exception.InvalidProjectDataException;
+import com.eprocure.project.fx.FxRateTable;
+import com.eprocure.project.fx.ReportingTotal;
+import com.eprocure.project.repository.ProjectRepository;
+import com.eprocure.project.repository.ProjectStatisticsCurrencyRepository;
+import com.eprocure.project.repository.ProjectStatisticsRepository;
+import com.eprocure.project.repository.projection.CurrencyTotals;
+import com.eprocure.project.repository.projection.MonthlyTotals;
+import com.eprocure.project.repository.projection.StatusTotals;
+import com.eprocure.project.service.ProjectContribution;
+import com.eprocure.project.service.ProjectRollupService;
+import com.eprocure.project.service.ProjectStatisticsService;
+import com.eprocure.project.service.impl.StatisticsDelta.CurrencyDelta;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Implementation of ProjectStatisticsService backed by a single precomputed aggregate row and its
+ * per-currency rows, which also drives the per-department and per-manager rollups.
+ */
+@Service
+@Slf4j
+@Transactional
+public class ProjectStatisticsServiceImpl implements ProjectStatisticsService {
+
+    private static final int MAX_TREND_MONTHS = 60;
+
+    private final ProjectRepository projectRepository;
+    private final ProjectStatisticsRepository statisticsRepository;
+    private final ProjectStatisticsCurrencyRepository currencyRepository;
+    private final ProjectRollupService rollupService;
+    private final FxRateTable fxRateTable;
+    private final ProjectTrendCache trendCache;
+    private final TransactionTemplate snapshotTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    public ProjectStatisticsServiceImpl(ProjectRepository projectRepository,
+                                        ProjectStatisticsRepository statisticsRepository,
+                                        ProjectStatisticsCurrencyRepository currencyRepository,
+                                        ProjectRollupService rollupService,
+                                        FxRateTable fxRateTable,
+                                        ProjectTrendCache trendCache,
+                                        PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.statisticsRepository = statisticsRepository;
+        this.currencyRepository = currencyRepository;
+        this.rollupService = rollupService;
+        this.fxRateTable = fxRateTable;
+        this.trendCache = trendCache;
+        // Not read-only on purpose: read-only transactions may be routed to a lagging replica,
+        // and the recount must see the same rows as the primary it corrects
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectStatisticsDTO getStatistics() {
+        log.debug("Reading precomputed project statistics");
+
+        // One aggregate row plus one row per currency in use, whatever the number of projects
+        return statisticsRepository.findById(ProjectStatisticsAggregate.GLOBAL_ID)
+                .map(aggregate -> toDTO(aggregate, budgetByCurrency(currencyRepository.findAll())))
+                .orElseGet(() -> {
+                    // Aggregate not initialized yet (reconciliation pending): compute on the fly
+                    log.debug("Statistics aggregate missing, computing from projects table");
+                    Recount recount = recount();
+                    ProjectStatisticsAggregate aggregate = recount.toAggregate();
+                    aggregate.setActiveProjectsChangePercent(calculateActiveProjectsChangePercent());
+                    return toDTO(aggregate, recount.budgetByCurrency());
+                });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyChange(ProjectContribution before, ProjectContribution after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        applyChanges(before != null ? List.of(before) : List.of(), after != null ? List.of(after) : List.of());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyChanges(Collection<ProjectContribution> before, Collection<ProjectContribution> after) {
+        if (before.isEmpty() && after.isEmpty()) {
+            return;
+        }
+        if (apply(StatisticsDelta.of(before, after))) {
+            rollupService.applyChanges(before, after);
+        }
+    }
+
+    /**
+     * Add a delta to the global aggregate row. The update also locks the row until commit, which
+     * serializes the rollup deltas that follow it and orders all writes against reconciliation.
+     *
+     * @return false if the aggregate has not been initialized yet
+     */
+    private boolean apply(StatisticsDelta delta) {
+        int updated = statisticsRepository.applyDelta(
+                ProjectStatisticsAggregate.GLOBAL_ID,
+                delta.getTotal(),
+                delta.getDraft(),
+                delta.getActive(),
+                delta.getCompleted(),
+                delta.getBudget()
+        );
+
+        if (updated == 0) {
+            log.debug("Statistics aggregate not initialized yet, delta left to reconciliation");
+            return false;
+        }
+        applyCurrencies(delta.getCurrencies());
+        return true;
+    }
+
+    /**
+     * Add per-currency deltas to the currency rows, inserting and deleting rows as currencies come and go.
+     * Callers hold the lock on the global aggregate row, so no two writers race to insert the same row.
+     */
+    private void applyCurrencies(Map<String, CurrencyDelta> currencies) {
+        for (Map.Entry<String, CurrencyDelta> entry : currencies.entrySet()) {
+            String currency = entry.getKey();
+            CurrencyDelta delta = entry.getValue();
+            if (delta.isEmpty()) {
+                continue;
+            }
+
+            int updated = currencyRepository.applyDelta(currency, delta.getTotal(), delta.getBudget());
+            if (updated == 0) {
+                if (delta.getTotal() > 0) {
+                    currencyRepository.save(ProjectStatisticsCurrency.builder()
+                            .currency(currency)
+                            .totalProjects(delta.getTotal())
+                            .totalBudget(delta.getBudget())
+                            .newRow(true)
+                            .build());
+                } else {
+                    log.debug("Statistics of currency {} missing for a removal, left to reconciliation", currency);
+                }
+            } else if (delta.getTotal() < 0) {
+                currencyRepository.deleteIfEmpty(currency);
+            }
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcile() {
+        log.debug("Reconciling project statistics");
+
+        // Recount in one snapshot without locking anything, so that writes carry on during the full scans
+        Drift drift = snapshotTransaction.execute(status -> computeDrift());
+        // Then add the drift in a short transaction that takes the aggregate row lock like any other write
+        writeTransaction.executeWithoutResult(status -> applyDrift(drift));
+
+        log.info("Reconciled project statistics: {} projects, {} drifted currencies, {} drifted rollups",
+                drift.recount.getTotal(), drift.currencies.size(), drift.rollups.size());
+    }
+
+    /**
+     * Compare the stored statistics with a recount of the projects table. Stored rows and recount come
+     * from the same snapshot, so the difference stays exact when concurrent writes add their own deltas
+     * before it is applied.
+     */
+    private Drift computeDrift() {
+        Optional<ProjectStatisticsAggregate> stored = statisticsRepository.findById(ProjectStatisticsAggregate.GLOBAL_ID);
+        Recount recount = recount();
+
+        Map<String, CurrencyDelta> currencies = new TreeMap<>();
+        recount.getCurrencies().forEach((currency, totals) -> currencies.put(currency, totals.copy()));
+        for (ProjectStatisticsCurrency row : currencyRepository.findAll()) {
+            currencies.computeIfAbsent(row.getCurrency(), currency -> new CurrencyDelta())
+                    .add(-row.getTotalProjects(), row.getTotalBudget().negate());
+        }
+        currencies.values().removeIf(CurrencyDelta::isEmpty);
+
+        return new Drift(stored.isPresent(), recount, currencies, rollupService.computeCorrections(),
+                calculateActiveProjectsChangePercent(),
+                stored.map(aggregate -> StatisticsDelta.between(aggregate, recount)).orElse(null));
+    }
+
+    private void applyDrift(Drift drift) {
+        LocalDateTime now = LocalDateTime.now();
+        if (drift.aggregatePresent) {
+            // Locks the aggregate row until commit, ordering the corrections against concurrent deltas
+            apply(drift.aggregate);
+            statisticsRepository.markReconciled(ProjectStatisticsAggregate.GLOBAL_ID, drift.activeProjectsChangePercent, now);
+        } else {
+            ProjectStatisticsAggregate aggregate = drift.recount.toAggregate();
+            aggregate.setActiveProjectsChangePercent(drift.activeProjectsChangePercent);
+            aggregate.setReconciledAt(now);
+            statisticsRepository.saveAndFlush(aggregate);
+        }
+        applyCurrencies(drift.currencies);
+        rollupService.applyCorrections(drift.rollups);
+    }
+
+    /**
+     * Recount the statistics with two grouped queries over the projects table.
+     */
+    private Recount recount() {
+        Recount recount = new Recount();
+        for (StatusTotals statusTotals : projectRepository.summarizeByStatus()) {
+            recount.add(statusTotals.getStatus(), statusTotals.getProjectCount(), statusTotals.getTotalBudget());
+        }
+        for (CurrencyTotals currencyTotals : projectRepository.summarizeByCurrency()) {
+            recount.addCurrency(currencyTotals.getCurrency(), currencyTotals.getProjectCount(), currencyTotals.getTotalBudget());
+        }
+        return recount;
+    }
+
+    private static Map<String, BigDecimal> budgetByCurrency(List<ProjectStatisticsCurrency> rows) {
+        Map<String, BigDecimal> budgetByCurrency = new TreeMap<>();
+        for (ProjectStatisticsCurrency row : rows) {
+            budgetByCurrency.put(row.getCurrency(), row.getTotalBudget());
+        }
+        return budgetByCurrency;
+    }
+
+    private ProjectStatisticsDTO toDTO(ProjectStatisticsAggregate aggregate, Map<String, BigDecimal> budgetByCurrency) {
+        ReportingTotal totalBudget = fxRateTable.toReportingTotal(budgetByCurrency);
+
+        return ProjectStatisticsDTO.builder()
+                .totalProjects(aggregate.getTotalProjects())
+                .activeProjects(aggregate.getActiveProjects())
+                .activeProjectsChangePercent(aggregate.getActiveProjectsChangePercent())
+                .completedProjects(aggregate.getCompletedProjects())
+                .draftProjects(aggregate.getDraftProjects())
+                .totalBudget(totalBudget.getAmount())
+                .currency(totalBudget.getCurrency())
+                .budgetByCurrency(budgetByCurrency)
+                .unconvertedCurrencies(totalBudget.getUnconvertedCurrencies())
+                .build();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ProjectTrendDTO getTrend(int months) {
+        log.debug("Reading project trend for the last {} months", months);
+
+        if (months < 1 || months > MAX_TREND_MONTHS) {
+            throw new InvalidProjectDataException("Months must be between 1 and " + MAX_TREND_MONTHS);
+        }
+
+        YearMonth to = YearMonth.now();
+        YearMonth from = to.minusMonths(months - 1L);
+        Map<YearMonth, ProjectTrendPointDTO> points = new LinkedHashMap<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            points.put(month, ProjectTrendPointDTO.builder()
+                    .month(month)
+                    .totalBudget(BigDecimal.ZERO)
+                    .draftBudget(BigDecimal.ZERO)
+                    .activeBudget(BigDecimal.ZERO)
+                    .completedBudget(BigDecimal.ZERO)
+                    .build());
+        }
+
+        Set<String> unconverted = new TreeSet<>();
+        for (MonthlyTotals totals : monthlyTotals(from)) {
+            ProjectTrendPointDTO point = points.get(YearMonth.of(totals.getBucketYear(), totals.getBucketMonth()));
+            if (point == null) {
+                continue;
+            }
+            BigDecimal budget = fxRateTable.toReporting(totals.getCurrency(), totals.getTotalBudget());
+            if (budget == null) {
+                unconverted.add(totals.getCurrency());
+                budget = BigDecimal.ZERO;
+            }
+            addToTrendPoint(point, totals.getStatus(), totals.getProjectCount(), budget);
+        }
+
+        List<ProjectTrendPointDTO> trend = new ArrayList<>(points.values());
+        for (ProjectTrendPointDTO point : trend) {
+            point.setTotalBudget(point.getTotalBudget().setScale(2, RoundingMode.HALF_EVEN));
+            point.setDraftBudget(point.getDraftBudget().setScale(2, RoundingMode.HALF_EVEN));
+            point.setActiveBudget(point.getActiveBudget().setScale(2, RoundingMode.HALF_EVEN));
+            point.setCompletedBudget(point.getCompletedBudget().setScale(2, RoundingMode.HALF_EVEN));
+        }
+        return ProjectTrendDTO.builder()
+                .currency(fxRateTable.getReportingCurrency())
+                .unconvertedCurrencies(List.copyOf(unconverted))
+                .months(trend)
+                .build();
+    }
+
+    private static void addToTrendPoint(ProjectTrendPointDTO point, ProjectStatus status, long count, BigDecimal budget) {
+        point.setTotalProjects(point.getTotalProjects() + count);
+        point.setTotalBudget(point.getTotalBudget().add(budget));
+        switch (status) {
+            case DRAFT -> {
+                point.setDraftProjects(point.getDraftProjects() + count);
+                point.setDraftBudget(point.getDraftBudget().add(budget));
+            }
+            case ACTIVE -> {
+                point.setActiveProjects(point.getActiveProjects() + count);
+                point.setActiveBudget(point.getActiveBudget().add(budget));
+            }
+            case COMPLETED -> {
+                point.setCompletedProjects(point.getCompletedProjects() + count);
+                point.setCompletedBudget(point.getCompletedBudget().add(budget));
+            }
+        }
+    }
+
+    /**
+     * Monthly totals of the projects created since the start of the given month, from the trend cache.
+     */
+    private List<MonthlyTotals> monthlyTotals(YearMonth from) {
+        return trendCache.get(from, () -> projectRepository.summarizeByMonth(from.atDay(1).atStartOfDay()));
+    }
+
+    /**
+     * Calculate the percentage change in active projects created this calendar month compared to last month.
+     * Only evaluated during reconciliation, not on every dashboard read.
+     *
+     * @return percentage change, or null if cannot calculate
+     */
+    private Double calculateActiveProjectsChangePercent() {
+        try {
+            YearMonth thisMonth = YearMonth.now();
+            long activeProjectsThisMonth = 0;
+            long activeProjectsLastMonth = 0;
+            for (MonthlyTotals totals : monthlyTotals(thisMonth.minusMonths(1))) {
+                if (totals.getStatus() != ProjectStatus.ACTIVE) {
+                    continue;
+                }
+                if (YearMonth.of(totals.getBucketYear(), totals.getBucketMonth()).equals(thisMonth)) {
+                    activeProjectsThisMonth += totals.getProjectCount();
+                } else {
+                    activeProjectsLastMonth += totals.getProjectCount();
+                }
+            }
+
+            // Calculate percentage change
+            if (activeProjectsLastMonth == 0) {
+                return activeProjectsThisMonth > 0 ? 100.0 : 0.0;
+            }
+
+            double change = ((double) (activeProjectsThisMonth - activeProjectsLastMonth) / activeProjectsLastMonth) * 100;
+            return Math.round(change * 10.0) / 10.0; // Round to 1 decimal place
+        } catch (Exception e) {
+            log.warn("Error calculating active projects change percent", e);
+            return null;
+        }
+    }
+
+    /**
+     * Statistics recounted from the projects table.
+     */
+    private static final class Recount extends StatisticsDelta {
+
+        Map<String, BigDecimal> budgetByCurrency() {
+            Map<String, BigDecimal> budgetByCurrency = new TreeMap<>();
+            getCurrencies().forEach((currency, totals) -> budgetByCurrency.put(currency, totals.getBudget()));
+            return budgetByCurrency;
+        }
+
+        ProjectStatisticsAggregate toAggregate() {
+            return ProjectStatisticsAggregate.builder()
+                    .id(ProjectStatisticsAggregate.GLOBAL_ID)
+                    .totalProjects(getTotal())
+                    .draftProjects(getDraft())
+                    .activeProjects(getActive())
+                    .completedProjects(getCompleted())
+                    .totalBudget(getBudget())
+                    .build();
+        }
+    }
+
+    /**
+     * Difference between the stored statistics and a recount, taken from one snapshot.
+     *
+     * @param aggregatePresent whether the aggregate row existed in the snapshot
+     * @param recount the recounted statistics, inserted as is when the aggregate row is missing
+     * @param currencies corrections of the currency rows
+     * @param rollups corrections of the rollup rows
+     * @param activeProjectsChangePercent the recomputed month-over-month change of active projects
+     * @param aggregate correction of the aggregate row, null when it is missing
+     */
+    private record Drift(boolean aggregatePresent,
+                         Recount recount,
+                         Map<String, CurrencyDelta> currencies,
+                         List<ProjectBudgetRollup> rollups,
+                         Double activeProjectsChangePercent,
+                         StatisticsDelta aggregate) {
+    }
+}
@@ -0,0 +1,329 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.dto.mapper.ProjectMapper;
+import com.eprocure.project.dto.request.CreateProjectRequest;
+import com.eprocure.project.dto.request.ProjectFilterRequest;
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.dto.response.ProjectStatisticsDTO;
+import com.eprocure.project.dto.response.StatusTransitionResultDTO;
+import com.eprocure.project.entity.ProjectBudgetRollup;
+import com.eprocure.project.entity.ProjectRecord;
+import com.eprocure.project.entity.ProjectStatisticsAggregate;
+import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.entity.id.UuidV7;
+import com.eprocure.project.event.ProjectChangeType;
+import com.eprocure.project.event.ProjectChangedEvent;
+import com.eprocure.project.exception.InvalidProjectDataException;
+import com.eprocure.project.fx.FxRateTable;
+import com.eprocure.project.fx.ReportingTotal;
+import com.eprocure.project.exception.ProjectNotFoundException;
+import com.eprocure.project.exception.ProjectStatusConflictException;
+import com.eprocure.project.repository.projection.ProjectSummary;
+import com.eprocure.project.repository.reactive.ReactiveProjectCriteria;
+import com.eprocure.project.repository.reactive.ReactiveProjectListingRepository;
+import com.eprocure.project.repository.reactive.ReactiveProjectRepository;
+import com.eprocure.project.repository.reactive.ReactiveProjectStatisticsRepository;
+import com.eprocure.project.service.ProjectContribution;
+import com.eprocure.project.service.ReactiveProjectService;
+import com.eprocure.project.service.impl.StatisticsDelta.CurrencyDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * R2DBC implementation of ReactiveProjectService.
+ * Keeps the precomputed statistics and budget rollups up to date in the same transaction as each write,
+ * and publishes {@link ProjectChangedEvent}s once the transaction has committed.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveProjectServiceImpl implements ReactiveProjectService {
+
+    private final ReactiveProjectRepository projectRepository;
+    private final ReactiveProjectListingRepository listingRepository;
+    private final ReactiveProjectStatisticsRepository statisticsRepository;
+    private final ProjectMapper projectMapper;
+    private final FxRateTable fxRateTable;
+    private final TransactionalOperator transactionalOperator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public Mono<ProjectDTO> createProject(CreateProjectRequest request) {
+        log.debug("Creating new project: {}", request.getTitle());
+
+        return Mono.fromCallable(() -> {
+                    validateDates(request);
+                    LocalDateTime now = LocalDateTime.now();
+                    ProjectRecord record = projectMapper.toRecord(request);
+                    record.setId(UuidV7.randomUuid());
+                    record.setStatus(ProjectStatus.DRAFT);
+                    record.setCreatedAt(now);
+                    record.setCreatedBy("system"); // TODO: Get from security context
+                    record.setUpdatedAt(now);
+                    record.setUpdatedBy("system");
+                    record.setNewRecord(true);
+                    return record;
+                })
+                .flatMap(projectRepository::save)
+                .flatMap(saved -> applyChanges(List.of(), List.of(ProjectContribution.of(saved))).thenReturn(saved))
+                .as(transactionalOperator::transactional)
+                .map(projectMapper::toDTO)
+                .doOnNext(dto -> {
+                    log.info("Created project with id: {}", dto.getId());
+                    eventPublisher.publishEvent(new ProjectChangedEvent(dto.getId(), ProjectChangeType.CREATED, dto));
+                });
+    }
+
+    @Override
+    public Mono<ProjectDTO> updateProject(UUID id, CreateProjectRequest request) {
+        log.debug("Updating project with id: {}", id);
+
+        return Mono.fromRunnable(() -> validateDates(request))
+                .then(projectRepository.findById(id))
+                .switchIfEmpty(Mono.error(() -> new ProjectNotFoundException(id)))
+                .flatMap(existing -> {
+                    ProjectContribution before = ProjectContribution.of(existing);
+                    projectMapper.updateRecordFromRequest(request, existing);
+                    existing.setUpdatedAt(LocalDateTime.now());
+                    existing.setUpdatedBy("system"); // TODO: Get from security context
+                    return projectRepository.save(existing)
+                            .flatMap(saved -> applyChanges(List.of(before), List.of(ProjectContribution.of(saved)))
+                                    .thenReturn(saved));
+                })
+                .as(transactionalOperator::transactional)
+                .map(projectMapper::toDTO)
+                .doOnNext(dto -> {
+                    log.info("Updated project with id: {}", id);
+                    eventPublisher.publishEvent(new ProjectChangedEvent(id, ProjectChangeType.UPDATED, dto));
+                });
+    }
+
+    @Override
+    public Mono<ProjectDTO> getProject(UUID id) {
+        log.debug("Fetching project with id: {}", id);
+
+        return projectRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ProjectNotFoundException(id)))
+                .map(projectMapper::toDTO);
+    }
+
+    @Override
+    public Mono<Page<ProjectDTO>> filterProjects(ProjectFilterRequest filter, Pageable pageable) {
+        log.debug("Filtering projects with: {}, page: {}, size: {}, sort: {}",
+                filter, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+
+        return Mono.fromCallable(() -> filterCriteria(filter))
+                .flatMap(criteria -> listingRepository.findAll(criteria, pageable))
+                .map(projects -> projects.map(projectMapper::toDTO));
+    }
+
+    @Override
+    public Mono<Page<ProjectSummary>> filterProjectSummaries(ProjectFilterRequest filter, Pageable pageable) {
+        log.debug("Filtering project summaries with: {}, page: {}, size: {}, sort: {}",
+                filter, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+
+        return Mono.fromCallable(() -> filterCriteria(filter))
+                .flatMap(criteria -> listingRepository.findSummaries(criteria, pageable));
+    }
+
+    @Override
+    public Flux<ProjectDTO> streamProjects(ProjectFilterRequest filter) {
+        log.debug("Streaming projects with: {}", filter);
+
+        return Mono.fromCallable(() -> filterCriteria(filter))
+                .flatMapMany(listingRepository::findAll)
+                .map(projectMapper::toDTO);
+    }
+
+    private static Criteria filterCriteria(ProjectFilterRequest filter) {
+        ProjectFilters.validate(filter);
+        return ReactiveProjectCriteria.allOf(
+                ReactiveProjectCriteria.hasStatus(filter.getStatus()),
+                ReactiveProjectCriteria.inDepartment(filter.getDepartmentId()),
+                ReactiveProjectCriteria.managedBy(filter.getProjectManagerId()),
+                ReactiveProjectCriteria.hasCurrency(filter.getCurrency()),
+                ReactiveProjectCriteria.budgetBetween(filter.getMinBudget(), filter.getMaxBudget()),
+                ReactiveProjectCriteria.startDateBetween(filter.getStartDateFrom(), filter.getStartDateTo()),
+                ReactiveProjectCriteria.endDateBetween(filter.getEndDateFrom(), filter.getEndDateTo()));
+    }
+
+    @Override
+    public Mono<StatusTransitionResultDTO> transitionStatus(UUID id, ProjectStatus status) {
+        log.debug("Transitioning project {} to status: {}", id, status);
+
+        return transitionStatuses(List.of(id), status)
+                .flatMap(result -> result.getUpdated() > 0
+                        ? Mono.just(result)
+                        : projectRepository.existsById(id).flatMap(exists -> Mono.error(exists
+                                ? new ProjectStatusConflictException(
+                                        "Project " + id + " must be " + result.getFrom() + " to become " + status)
+                                : new ProjectNotFoundException(id))));
+    }
+
+    @Override
+    public Mono<StatusTransitionResultDTO> transitionStatuses(List<UUID> ids, ProjectStatus status) {
+        log.debug("Transitioning {} projects to status: {}", ids.size(), status);
+
+        ProjectStatus from = status.requiredPredecessor();
+        if (from == null) {
+            return Mono.error(new InvalidProjectDataException("Projects cannot be moved to status " + status));
+        }
+
+        Set<UUID> uniqueIds = new LinkedHashSet<>(ids);
+        // Lock the eligible rows first, so that the update, the statistics and the events cover exactly them
+        return projectRepository.findByIdsAndStatusForUpdate(uniqueIds, from.name())
+                .collectList()
+                .flatMap(candidates -> {
+                    if (candidates.isEmpty()) {
+                        return Mono.just(List.<UUID>of());
+                    }
+                    List<UUID> transitionedIds = candidates.stream().map(ProjectRecord::getId).toList();
+                    List<ProjectContribution> before = candidates.stream().map(ProjectContribution::of).toList();
+                    List<ProjectContribution> after = before.stream()
+                            .map(contribution -> new ProjectContribution(status, contribution.getBudget(),
+                                    contribution.getCurrency(), contribution.getDepartmentId(), contribution.getProjectManagerId()))
+                            .toList();
+                    return projectRepository.transitionStatus(transitionedIds, status.name(), LocalDateTime.now(), "system") // TODO: Get from security context
+                            .then(applyChanges(before, after))
+                            .thenReturn(transitionedIds);
+                })
+                .as(transactionalOperator::transactional)
+                .map(transitionedIds -> {
+                    transitionedIds.forEach(transitionedId -> eventPublisher.publishEvent(
+                            new ProjectChangedEvent(transitionedId, ProjectChangeType.STATUS_CHANGED, null)));
+                    log.info("Transitioned {} of {} projects from {} to {}", transitionedIds.size(), uniqueIds.size(), from, status);
+                    return StatusTransitionResultDTO.builder()
+                            .from(from)
+                            .to(status)
+                            .requested(uniqueIds.size())
+                            .updated(transitionedIds.size())
+                            .build();
+                });
+    }
+
+    @Override
+    public Mono<Void> deleteProject(UUID id) {
+        log.debug("Deleting project with id: {}", id);
+
+        return projectRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ProjectNotFoundException(id)))
+                .flatMap(project -> projectRepository.delete(project)
+                        .then(projectRepository.insertTombstone(id, LocalDateTime.now(), "system")) // TODO: Get from security context
+                        .then(applyChanges(List.of(ProjectContribution.of(project)), List.of())))
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(ignored -> {
+                    log.info("Deleted project with id: {}", id);
+                    eventPublisher.publishEvent(new ProjectChangedEvent(id, ProjectChangeType.DELETED, null));
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<ProjectStatisticsDTO> getStatistics() {
+        log.debug("Reading precomputed project statistics");
+
+        // The aggregate row is created by the statistics reconciliation job at startup
+        return Mono.zip(
+                        statisticsRepository.findById(ProjectStatisticsAggregate.GLOBAL_ID)
+                                .defaultIfEmpty(ProjectStatisticsAggregate.builder().build()),
+                        statisticsRepository.findBudgetByCurrency())
+                .map(tuple -> {
+                    ProjectStatisticsAggregate aggregate = tuple.getT1();
+                    ReportingTotal totalBudget = fxRateTable.toReportingTotal(tuple.getT2());
+                    return ProjectStatisticsDTO.builder()
+                            .totalProjects(aggregate.getTotalProjects())
+                            .activeProjects(aggregate.getActiveProjects())
+                            .activeProjectsChangePercent(aggregate.getActiveProjectsChangePercent())
+                            .completedProjects(aggregate.getCompletedProjects())
+                            .draftProjects(aggregate.getDraftProjects())
+                            .totalBudget(totalBudget.getAmount())
+                            .currency(totalBudget.getCurrency())
+                            .budgetByCurrency(tuple.getT2())
+                            .unconvertedCurrencies(totalBudget.getUnconvertedCurrencies())
+                            .build();
+                });
+    }
+
+    /**
+     * Apply the delta of project writes to the aggregate, its per-currency rows and the budget rollups,
+     * like {@link com.eprocure.project.service.ProjectStatisticsService#applyChanges}. The aggregate update
+     * comes first: it locks the aggregate row until commit, which serializes the upserts that follow it.
+     */
+    private Mono<Void> applyChanges(List<ProjectContribution> before, List<ProjectContribution> after) {
+        if (before.equals(after)) {
+            return Mono.empty();
+        }
+        StatisticsDelta delta = StatisticsDelta.of(before, after);
+
+        return statisticsRepository.applyDelta(ProjectStatisticsAggregate.GLOBAL_ID,
+                        delta.getTotal(), delta.getDraft(), delta.getActive(), delta.getCompleted(), delta.getBudget())
+                .flatMap(updated -> {
+                    if (updated == 0) {
+                        log.debug("Statistics aggregate not initialized yet, delta left to reconciliation");
+                        return Mono.empty();
+                    }
+                    return applyCurrencies(delta.getCurrencies())
+                            .then(applyRollups(RollupDeltas.of(before, after).toRollups()));
+                });
+    }
+
+    private Mono<Void> applyCurrencies(Map<String, CurrencyDelta> currencies) {
+        return Flux.fromIterable(currencies.entrySet())
+                .filter(entry -> !entry.getValue().isEmpty())
+                .concatMap(entry -> {
+                    String currency = entry.getKey();
+                    CurrencyDelta delta = entry.getValue();
+                    return statisticsRepository.applyCurrencyDelta(currency, delta.getTotal(), delta.getBudget())
+                            .flatMap(updated -> {
+                                if (updated == 0) {
+                                    if (delta.getTotal() > 0) {
+                                        return statisticsRepository.insertCurrency(currency, delta.getTotal(), delta.getBudget());
+                                    }
+                                    log.debug("Statistics of currency {} missing for a removal, left to reconciliation", currency);
+                                    return Mono.empty();
+                                }
+                                return delta.getTotal() < 0 ? statisticsRepository.deleteCurrencyIfEmpty(currency) : Mono.empty();
+                            });
+                })
+                .then();
+    }
+
+    private Mono<Void> applyRollups(List<ProjectBudgetRollup> deltas) {
+        return Flux.fromIterable(deltas)
+                .concatMap(delta -> statisticsRepository.applyRollupDelta(delta)
+                        .flatMap(updated -> {
+                            if (updated == 0) {
+                                if (delta.getTotalProjects() > 0) {
+                                    return statisticsRepository.insertRollup(delta);
+                                }
+                                log.debug("Rollup {} missing for a removal, left to reconciliation", delta.getId());
+                                return Mono.empty();
+                            }
+                            return delta.getTotalProjects() < 0 ? statisticsRepository.deleteRollupIfEmpty(delta.getId()) : Mono.empty();
+                        }))
+                .then();
+    }
+
+    private static void validateDates(CreateProjectRequest request) {
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new InvalidProjectDataException("End date must be equal to or after start date");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.entity.ProjectBudgetRollup;
+import com.eprocure.project.entity.ProjectBudgetRollupId;
+import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.entity.RollupDimension;
+import com.eprocure.project.service.ProjectContribution;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Deltas of every budget rollup row touched by a set of writes or corrections.
+ * Each project contributes to one department row and one project manager row.
+ * Computed here for both the servlet and the reactive services, which only differ in how they store them.
+ */
+final class RollupDeltas {
+
+    private final Map<ProjectBudgetRollupId, Delta> byKey = new LinkedHashMap<>();
+
+    /**
+     * Deltas of a set of writes.
+     *
+     * @param before the contributions of the written projects before the writes
+     * @param after their contributions after the writes
+     * @return the deltas
+     */
+    static RollupDeltas of(Collection<ProjectContribution> before, Collection<ProjectContribution> after) {
+        RollupDeltas deltas = new RollupDeltas();
+        for (ProjectContribution contribution : before) {
+            deltas.add(contribution.getDepartmentId(), contribution.getProjectManagerId(), contribution.getCurrency(),
+                    contribution.getStatus(), -1, contribution.getBudget().negate());
+        }
+        for (ProjectContribution contribution : after) {
+            deltas.add(contribution.getDepartmentId(), contribution.getProjectManagerId(), contribution.getCurrency(),
+                    contribution.getStatus(), 1, contribution.getBudget());
+        }
+        return deltas;
+    }
+
+    /**
+     * The non-empty deltas, each as a new rollup row holding the amounts to add.
+     */
+    List<ProjectBudgetRollup> toRollups() {
+        return byKey.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(entry -> entry.getValue().toRollup(entry.getKey()))
+                .toList();
+    }
+
+    void add(UUID departmentId, UUID projectManagerId, String currency, ProjectStatus status, long count, BigDecimal budget) {
+        delta(new ProjectBudgetRollupId(RollupDimension.DEPARTMENT, departmentId, currency)).add(status, count, budget);
+        delta(new ProjectBudgetRollupId(RollupDimension.PROJECT_MANAGER, projectManagerId, currency)).add(status, count, budget);
+    }
+
+    void add(ProjectBudgetRollup rollup) {
+        delta(rollup.getId()).add(rollup, 1);
+    }
+
+    void subtract(ProjectBudgetRollup rollup) {
+        delta(rollup.getId()).add(rollup, -1);
+    }
+
+    private Delta delta(ProjectBudgetRollupId id) {
+        return byKey.computeIfAbsent(id, key -> new Delta());
+    }
+
+    /**
+     * Mutable accumulator for the count and budget deltas of one rollup row.
+     */
+    private static final class Delta {
+
+        private long total;
+        private long draft;
+        private long active;
+        private long completed;
+        private BigDecimal totalBudget = BigDecimal.ZERO;
+        private BigDecimal draftBudget = BigDecimal.ZERO;
+        private BigDecimal activeBudget = BigDecimal.ZERO;
+        private BigDecimal completedBudget = BigDecimal.ZERO;
+
+        void add(ProjectStatus status, long count, BigDecimal amount) {
+            total += count;
+            totalBudget = totalBudget.add(amount);
+            switch (status) {
+                case DRAFT -> {
+                    draft += count;
+                    draftBudget = draftBudget.add(amount);
+                }
+                case ACTIVE -> {
+                    active += count;
+                    activeBudget = activeBudget.add(amount);
+                }
+                case COMPLETED -> {
+                    completed += count;
+                    completedBudget = completedBudget.add(amount);
+                }
+            }
+        }
+
+        void add(ProjectBudgetRollup rollup, int sign) {
+            BigDecimal factor = BigDecimal.valueOf(sign);
+            total += sign * rollup.getTotalProjects();
+            draft += sign * rollup.getDraftProjects();
+            active += sign * rollup.getActiveProjects();
+            completed += sign * rollup.getCompletedProjects();
+            totalBudget = totalBudget.add(rollup.getTotalBudget().multiply(factor));
+            draftBudget = draftBudget.add(rollup.getDraftBudget().multiply(factor));
+            activeBudget = activeBudget.add(rollup.getActiveBudget().multiply(factor));
+            completedBudget = completedBudget.add(rollup.getCompletedBudget().multiply(factor));
+        }
+
+        boolean isEmpty() {
+            return total == 0 && draft == 0 && active == 0 && completed == 0
+                    && totalBudget.signum() == 0 && draftBudget.signum() == 0
+                    && activeBudget.signum() == 0 && completedBudget.signum() == 0;
+        }
+
+        ProjectBudgetRollup toRollup(ProjectBudgetRollupId key) {
+            return ProjectBudgetRollup.builder()
+                    .id(key)
+                    .totalProjects(total)
+                    .draftProjects(draft)
+                    .activeProjects(active)
+                    .completedProjects(completed)
+                    .totalBudget(totalBudget)
+                    .draftBudget(draftBudget)
+                    .activeBudget(activeBudget)
+                    .completedBudget(completedBudget)
+                    .newRow(true)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.entity.ProjectStatisticsAggregate;
+import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.service.ProjectContribution;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Change of the precomputed statistics: project counts per status and total budget for the aggregate row,
+ * project count and budget per currency for the currency rows.
+ * Computed here for both the servlet and the reactive services, which only differ in how they store it.
+ */
+class StatisticsDelta {
+
+    private long total;
+    private long draft;
+    private long active;
+    private long completed;
+    private BigDecimal budget = BigDecimal.ZERO;
+    private final Map<String, CurrencyDelta> currencies = new TreeMap<>();
+
+    /**
+     * Delta of a set of writes.
+     *
+     * @param before the contributions of the written projects before the writes
+     * @param after their contributions after the writes
+     * @return the delta
+     */
+    static StatisticsDelta of(Collection<ProjectContribution> before, Collection<ProjectContribution> after) {
+        StatisticsDelta delta = new StatisticsDelta();
+        for (ProjectContribution contribution : before) {
+            delta.add(contribution.getStatus(), -1, contribution.getBudget().negate());
+            delta.addCurrency(contribution.getCurrency(), -1, contribution.getBudget().negate());
+        }
+        for (ProjectContribution contribution : after) {
+            delta.add(contribution.getStatus(), 1, contribution.getBudget());
+            delta.addCurrency(contribution.getCurrency(), 1, contribution.getBudget());
+        }
+        return delta;
+    }
+
+    /**
+     * Delta correcting a stored aggregate row to a recount. The currency rows are left out.
+     *
+     * @param stored the stored aggregate row
+     * @param recount the recounted statistics
+     * @return the correction of the aggregate row
+     */
+    static StatisticsDelta between(ProjectStatisticsAggregate stored, StatisticsDelta recount) {
+        StatisticsDelta delta = new StatisticsDelta();
+        delta.total = recount.total - stored.getTotalProjects();
+        delta.draft = recount.draft - stored.getDraftProjects();
+        delta.active = recount.active - stored.getActiveProjects();
+        delta.completed = recount.completed - stored.getCompletedProjects();
+        delta.budget = recount.budget.subtract(stored.getTotalBudget());
+        return delta;
+    }
+
+    void add(ProjectStatus status, long count, BigDecimal amount) {
+        total += count;
+        switch (status) {
+            case DRAFT -> draft += count;
+            case ACTIVE -> active += count;
+            case COMPLETED -> completed += count;
+        }
+        budget = budget.add(amount);
+    }
+
+    void addCurrency(String currency, long count, BigDecimal amount) {
+        currencies.computeIfAbsent(currency, key -> new CurrencyDelta()).add(count, amount);
+    }
+
+    long getTotal() {
+        return total;
+    }
+
+    long getDraft() {
+        return draft;
+    }
+
+    long getActive() {
+        return active;
+    }
+
+    long getCompleted() {
+        return completed;
+    }
+
+    BigDecimal getBudget() {
+        return budget;
+    }
+
+    /**
+     * Deltas per currency, including the ones that cancel out.
+     */
+    Map<String, CurrencyDelta> getCurrencies() {
+        return Collections.unmodifiableMap(currencies);
+    }
+
+    /**
+     * Count and budget delta of one currency.
+     */
+    static final class CurrencyDelta {
+
+        private long total;
+        private BigDecimal budget = BigDecimal.ZERO;
+
+        CurrencyDelta() {
+        }
+
+        CurrencyDelta(long total, BigDecimal budget) {
+            this.total = total;
+            this.budget = budget;
+        }
+
+        void add(long count, BigDecimal amount) {
+            total += count;
+            budget = budget.add(amount);
+        }
+
+        long getTotal() {
+            return total;
+        }
+
+        BigDecimal getBudget() {
+            return budget;
+        }
+
+        boolean isEmpty() {
+            return total == 0 && budget.signum() == 0;
+        }
+
+        CurrencyDelta copy() {
+            return new CurrencyDelta(total, budget);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.eprocure.project.stream;
+
+import com.eprocure.project.dto.response.ProjectChangeDTO;
+import com.eprocure.project.dto.response.ProjectStatisticsDTO;
+import com.eprocure.project.event.ProjectChangedEvent;
+import com.eprocure.project.exception.ServiceBusyException;
+import com.eprocure.project.service.ProjectService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans project changes out to the clients of {@code GET /v1/projects/events} as Server-Sent Events.
+ * <p>
+ * Each committed write becomes a {@code project-changed} event. Writes are also coalesced into one
+ * {@code statistics-changed} event per debounce window, computed once for all clients. Events are encoded
+ * once and queued per client in a bounded buffer; a client whose buffer overflows is disconnected and
+ * resynchronises when its EventSource reconnects. Only writes made by this instance are streamed.
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+public class ProjectEventBroadcaster implements MeterBinder {
+
+    static final String PROJECT_CHANGED = "project-changed";
+    static final String STATISTICS_CHANGED = "statistics-changed";
+
+    private final Set<ProjectEventSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final AtomicBoolean statisticsPending = new AtomicBoolean();
+    private final ProjectEventProperties properties;
+    private final ProjectService projectService;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService debouncer;
+    private Counter droppedSubscribers;
+
+    public ProjectEventBroadcaster(ProjectEventProperties properties,
+                                   ProjectService projectService,
+                                   ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.projectService = projectService;
+        this.objectMapper = objectMapper;
+        this.dispatcher = Executors.newFixedThreadPool(properties.getDispatchThreads(),
+                daemonThreads("project-events-"));
+        this.debouncer = Executors.newSingleThreadScheduledExecutor(daemonThreads("project-events-debounce-"));
+    }
+
+    /**
+     * Register a new client.
+     *
+     * @return the emitter to return from the controller
+     * @throws ServiceBusyException if the maximum number of clients is connected
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            throw new ServiceBusyException("Too many event stream clients, retry later");
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getConnectionTimeout().toMillis());
+        ProjectEventSubscriber subscriber = new ProjectEventSubscriber(emitter, properties.getBufferSize(), dispatcher);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> unsubscribe(subscriber));
+        subscribers.add(subscriber);
+
+        // Flushes the response headers and tells the browser how soon to reconnect
+        subscriber.offer(SseEmitter.event()
+                .reconnectTime(properties.getReconnectDelay().toMillis())
+                .comment("connected")
+                .build());
+        log.debug("Event stream client connected ({} connected)", subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Number of connected clients.
+     *
+     * @return the client count
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        ProjectChangeDTO change = ProjectChangeDTO.builder()
+                .projectId(event.getProjectId())
+                .changeType(event.getChangeType())
+                .project(event.getProject())
+                .build();
+        broadcast(PROJECT_CHANGED, change);
+
+        if (statisticsPending.compareAndSet(false, true)) {
+            debouncer.schedule(this::publishStatistics, properties.getStatisticsDebounce().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${eprocure.events.heartbeat-interval:PT25S}",
+            fixedDelayString = "${eprocure.events.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            publish(SseEmitter.event().comment("heartbeat").build());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("eprocure.events.subscribers", subscribers, Set::size)
+                .description("Connected project event stream clients")
+                .register(registry);
+        droppedSubscribers = Counter.builder("eprocure.events.dropped")
+                .description("Event stream clients disconnected because they fell behind")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        debouncer.shutdownNow();
+        subscribers.forEach(ProjectEventSubscriber::close);
+        subscribers.clear();
+        dispatcher.shutdown();
+    }
+
+    private void publishStatistics() {
+        // Cleared before reading so that a write committing during the read schedules another event
+        statisticsPending.set(false);
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            ProjectStatisticsDTO statistics = projectService.getStatistics();
+            broadcast(STATISTICS_CHANGED, statistics);
+        } catch (RuntimeException e) {
+            log.warn("Could not publish project statistics to event stream clients", e);
+        }
+    }
+
+    private void broadcast(String name, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not encode {} event", name, e);
+            return;
+        }
+        publish(SseEmitter.event()
+                .id(Long.toString(eventIds.incrementAndGet()))
+                .name(name)
+                .data(json, MediaType.APPLICATION_JSON)
+                .build());
+    }
+
+    private void publish(Set<DataWithMediaType> event) {
+        for (ProjectEventSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(event)) {
+                log.info("Disconnecting event stream client that fell {} events behind", properties.getBufferSize());
+                if (droppedSubscribers != null) {
+                    droppedSubscribers.increment();
+                }
+                unsubscribe(subscriber);
+            }
+        }
+    }
+
+    private void unsubscribe(ProjectEventSubscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.close();
+        }
+    }
+
+    private static CustomizableThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
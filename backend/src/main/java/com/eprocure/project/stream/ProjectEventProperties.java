@@ -0,0 +1,49 @@
+package com.eprocure.project.stream;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the project change event stream.
+ */
+@Data
+@ConfigurationProperties(prefix = "eprocure.events")
+public class ProjectEventProperties {
+
+    /**
+     * Maximum number of concurrently connected clients; further connections are rejected with 503.
+     */
+    private int maxSubscribers = 10_000;
+
+    /**
+     * Events buffered per client; a client that falls further behind is disconnected.
+     */
+    private int bufferSize = 1_024;
+
+    /**
+     * Threads writing buffered events to clients.
+     */
+    private int dispatchThreads = 8;
+
+    /**
+     * Interval of the keep-alive comments that also detect dead connections.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(25);
+
+    /**
+     * Window in which project writes are coalesced into a single statistics event.
+     */
+    private Duration statisticsDebounce = Duration.ofSeconds(1);
+
+    /**
+     * Lifetime of a connection; clients reconnect automatically when it ends.
+     */
+    private Duration connectionTimeout = Duration.ofMinutes(30);
+
+    /**
+     * Reconnection delay suggested to clients.
+     */
+    private Duration reconnectDelay = Duration.ofSeconds(3);
+}
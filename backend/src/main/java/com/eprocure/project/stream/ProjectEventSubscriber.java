@@ -0,0 +1,99 @@
+package com.eprocure.project.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One connected event stream client: a bounded queue of encoded events drained onto its emitter.
+ * <p>
+ * Publishers only enqueue, so they never wait on a client's socket or on the emitter's lock.
+ * At most one drain task per client is scheduled at a time, which keeps the events in order.
+ */
+@Slf4j
+class ProjectEventSubscriber {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<DataWithMediaType>> queue;
+    private final Executor dispatcher;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    ProjectEventSubscriber(SseEmitter emitter, int bufferSize, Executor dispatcher) {
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.dispatcher = dispatcher;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * Queue an event for delivery.
+     *
+     * @param event the encoded event
+     * @return false if the buffer is full (the caller should drop this client)
+     */
+    boolean offer(Set<DataWithMediaType> event) {
+        if (closed) {
+            return true;
+        }
+        if (!queue.offer(event)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * Stop delivering and end the response once the drain task gets to it.
+     */
+    void close() {
+        closed = true;
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            dispatcher.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            if (closed) {
+                queue.clear();
+                completeQuietly();
+                return;
+            }
+            Set<DataWithMediaType> event;
+            while (!closed && (event = queue.poll()) != null) {
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // Client went away or the response already completed; the emitter callbacks unregister it
+                    log.debug("Dropping disconnected event stream client: {}", e.getMessage());
+                    closed = true;
+                }
+            }
+            draining.set(false);
+            // Re-check after releasing the flag so an event offered meanwhile is not stranded
+        } while ((closed || !queue.isEmpty()) && draining.compareAndSet(false, true));
+    }
+
+    private void completeQuietly() {
+        try {
+            emitter.complete();
+        } catch (RuntimeException e) {
+            log.debug("Event stream client already completed: {}", e.getMessage());
+        }
+    }
+}
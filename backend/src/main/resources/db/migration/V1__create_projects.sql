@@ -0,0 +1,19 @@
+-- Projects table as deployed before versioned migrations were introduced.
+-- Existing databases are baselined at version 1 and skip this script (spring.flyway.baseline-on-migrate).
+CREATE TABLE projects (
+    id                 UUID           NOT NULL,
+    title              VARCHAR(255)   NOT NULL,
+    description        VARCHAR(2000)  NOT NULL,
+    budget             NUMERIC(12, 2) NOT NULL,
+    currency           VARCHAR(3)     NOT NULL,
+    start_date         DATE           NOT NULL,
+    end_date           DATE           NOT NULL,
+    status             VARCHAR(20)    NOT NULL CHECK (status IN ('DRAFT', 'ACTIVE', 'COMPLETED')),
+    department_id      UUID           NOT NULL,
+    project_manager_id UUID           NOT NULL,
+    created_at         TIMESTAMP(6)   NOT NULL,
+    created_by         VARCHAR(255)   NOT NULL,
+    updated_at         TIMESTAMP(6)   NOT NULL,
+    updated_by         VARCHAR(255)   NOT NULL,
+    CONSTRAINT pk_projects PRIMARY KEY (id)
+);
@@ -0,0 +1,21 @@
+-- Precomputed dashboard statistics: one global aggregate row and one row per currency in use,
+-- maintained by project writes and corrected by the statistics reconciliation job.
+-- The aggregate row is created by the first reconciliation after startup.
+CREATE TABLE project_statistics (
+    id                             INTEGER        NOT NULL,
+    total_projects                 BIGINT         NOT NULL,
+    draft_projects                 BIGINT         NOT NULL,
+    active_projects                BIGINT         NOT NULL,
+    completed_projects             BIGINT         NOT NULL,
+    total_budget                   NUMERIC(19, 2) NOT NULL,
+    active_projects_change_percent DOUBLE PRECISION,
+    reconciled_at                  TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_project_statistics PRIMARY KEY (id)
+);
+
+CREATE TABLE project_statistics_currencies (
+    currency       VARCHAR(3)     NOT NULL,
+    total_projects BIGINT         NOT NULL,
+    total_budget   NUMERIC(19, 2) NOT NULL,
+    CONSTRAINT pk_project_statistics_currencies PRIMARY KEY (currency)
+);
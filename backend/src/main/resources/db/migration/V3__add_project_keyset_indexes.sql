@@ -0,0 +1,3 @@
+-- Keyset pagination of the project listing, newest first, optionally by status.
+CREATE INDEX idx_projects_created_at_id ON projects (created_at DESC, id DESC);
+CREATE INDEX idx_projects_status_created_at_id ON projects (status, created_at DESC, id DESC);
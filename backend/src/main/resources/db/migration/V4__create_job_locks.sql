@@ -0,0 +1,12 @@
+-- Leases of the scheduled jobs, so that only one replica runs a job at a time.
+-- A job's row is inserted by its first acquisition.
+CREATE TABLE job_locks (
+    name         VARCHAR(100) NOT NULL,
+    locked_until TIMESTAMP(6) NOT NULL,
+    locked_at    TIMESTAMP(6) NOT NULL,
+    locked_by    VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_job_locks PRIMARY KEY (name)
+);
+
+-- Lookup of the active projects past their end date by the project completion job.
+CREATE INDEX idx_projects_status_end_date ON projects (status, end_date);
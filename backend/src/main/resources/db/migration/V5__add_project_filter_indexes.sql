@@ -0,0 +1,7 @@
+-- Filtered project listing (ProjectSpecifications): equality columns lead, then the default sort or the range.
+CREATE INDEX idx_projects_department_status_created_at ON projects (department_id, status, created_at DESC);
+CREATE INDEX idx_projects_manager_status_created_at ON projects (project_manager_id, status, created_at DESC);
+CREATE INDEX idx_projects_currency_budget ON projects (currency, budget);
+CREATE INDEX idx_projects_budget ON projects (budget);
+CREATE INDEX idx_projects_start_date ON projects (start_date);
+CREATE INDEX idx_projects_end_date ON projects (end_date);
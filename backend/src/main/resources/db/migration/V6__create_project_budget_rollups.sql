@@ -0,0 +1,21 @@
+-- Precomputed project counts and budgets per department and per project manager, in each currency,
+-- maintained by project writes and corrected by the statistics reconciliation job.
+-- The table starts empty: the first reconciliation after startup fills it from the projects table.
+CREATE TABLE project_budget_rollups (
+    dimension          VARCHAR(20)    NOT NULL,
+    group_id           UUID           NOT NULL,
+    currency           VARCHAR(3)     NOT NULL,
+    total_projects     BIGINT         NOT NULL,
+    draft_projects     BIGINT         NOT NULL,
+    active_projects    BIGINT         NOT NULL,
+    completed_projects BIGINT         NOT NULL,
+    total_budget       NUMERIC(19, 2) NOT NULL,
+    draft_budget       NUMERIC(19, 2) NOT NULL,
+    active_budget      NUMERIC(19, 2) NOT NULL,
+    completed_budget   NUMERIC(19, 2) NOT NULL,
+    CONSTRAINT pk_project_budget_rollups PRIMARY KEY (dimension, group_id, currency)
+);
+
+-- Top-N listings: ORDER BY total_budget DESC within a dimension, optionally per currency.
+CREATE INDEX idx_rollups_dimension_total_budget ON project_budget_rollups (dimension, total_budget DESC);
+CREATE INDEX idx_rollups_dimension_currency_total_budget ON project_budget_rollups (dimension, currency, total_budget DESC);
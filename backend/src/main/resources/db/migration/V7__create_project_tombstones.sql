@@ -0,0 +1,11 @@
+-- Deleted projects, kept for the change feed until older than its retention.
+CREATE TABLE project_tombstones (
+    project_id UUID         NOT NULL,
+    deleted_at TIMESTAMP(6) NOT NULL,
+    deleted_by VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_project_tombstones PRIMARY KEY (project_id)
+);
+
+-- Change feed: tombstones and changed projects are each read in (time, id) order with a seek predicate.
+CREATE INDEX idx_project_tombstones_deleted_at_id ON project_tombstones (deleted_at, project_id);
+CREATE INDEX idx_projects_updated_at_id ON projects (updated_at, id);
@@ -0,0 +1,125 @@
+package com.eprocure.project;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Applies the versioned migrations to an empty database, as in production, and checks the resulting schema.
+ */
+class DatabaseMigrationTest {
+
+    private static JdbcDataSource dataSource;
+
+    @BeforeAll
+    static void migrate() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:migrations;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void createsTables() throws SQLException {
+        assertThat(tables()).contains(
+                "projects",
+                "project_statistics",
+                "project_statistics_currencies",
+                "job_locks",
+                "project_budget_rollups",
+                "project_tombstones");
+    }
+
+    @Test
+    void createsProjectIndexes() throws SQLException {
+        assertThat(indexes("projects")).contains(
+                "idx_projects_created_at_id",
+                "idx_projects_status_created_at_id",
+                "idx_projects_updated_at_id",
+                "idx_projects_status_end_date",
+                "idx_projects_department_status_created_at",
+                "idx_projects_manager_status_created_at",
+                "idx_projects_currency_budget",
+                "idx_projects_budget",
+                "idx_projects_start_date",
+                "idx_projects_end_date");
+    }
+
+    @Test
+    void createsRollupIndexes() throws SQLException {
+        assertThat(indexes("project_budget_rollups")).contains(
+                "idx_rollups_dimension_total_budget",
+                "idx_rollups_dimension_currency_total_budget");
+    }
+
+    @Test
+    void createsTombstoneIndexes() throws SQLException {
+        assertThat(indexes("project_tombstones")).contains("idx_project_tombstones_deleted_at_id");
+    }
+
+    @Test
+    void matchesEntityMappings() {
+        // Same check as the prod profile at startup (ddl-auto: validate), with Spring Boot's naming strategies
+        LocalContainerEntityManagerFactoryBean entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(dataSource);
+        entityManagerFactory.setPackagesToScan("com.eprocure.project.entity");
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setJpaPropertyMap(Map.of(
+                AvailableSettings.HBM2DDL_AUTO, "validate",
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName()));
+
+        assertThatCode(entityManagerFactory::afterPropertiesSet).doesNotThrowAnyException();
+        entityManagerFactory.destroy();
+    }
+
+    @Test
+    void isUpToDateAfterMigrating() {
+        Flyway flyway = Flyway.configure().dataSource(dataSource).load();
+
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.migrate().migrationsExecuted).isZero();
+    }
+
+    private static Set<String> tables() throws SQLException {
+        Set<String> tables = new TreeSet<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet rows = connection.getMetaData().getTables(null, "public", null, new String[]{"TABLE"})) {
+            while (rows.next()) {
+                tables.add(rows.getString("TABLE_NAME"));
+            }
+        }
+        return tables;
+    }
+
+    private static Set<String> indexes(String table) throws SQLException {
+        Set<String> indexes = new TreeSet<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet rows = connection.getMetaData().getIndexInfo(null, "public", table, false, false)) {
+            while (rows.next()) {
+                indexes.add(rows.getString("INDEX_NAME"));
+            }
+        }
+        return indexes;
+    }
+}
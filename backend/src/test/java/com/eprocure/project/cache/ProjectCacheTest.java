@@ -0,0 +1,109 @@
+package com.eprocure.project.cache;
+
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.routing.ReplicaLagMonitor;
+import com.eprocure.project.routing.ReplicaRoutingContext;
+import com.eprocure.project.routing.ReplicaRoutingProperties;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectCacheTest {
+
+    private static final UUID PROJECT_ID = UUID.fromString("018e0a4c-7b2a-7cde-8f00-0123456789ab");
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<UUID, ProjectDTO> loader = id -> {
+        loads.incrementAndGet();
+        return ProjectDTO.builder().id(id).build();
+    };
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    void fillsFromReadsWithoutReplicaRouting() {
+        ProjectCache cache = cache(null);
+
+        ProjectDTO first = cache.get(PROJECT_ID, loader);
+
+        assertThat(cache.get(PROJECT_ID, loader)).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void doesNotFillFromReplicaReads() {
+        ProjectCache cache = cache(replicaLagMonitor(true));
+
+        cache.get(PROJECT_ID, loader);
+        cache.get(PROJECT_ID, loader);
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats().loadCount()).isZero();
+    }
+
+    @Test
+    void fillsFromReadsPinnedToThePrimary() {
+        ProjectCache cache = cache(replicaLagMonitor(true));
+        ReplicaRoutingContext.pinToPrimary();
+
+        ProjectDTO first = cache.get(PROJECT_ID, loader);
+
+        assertThat(cache.get(PROJECT_ID, loader)).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void fillsWhileTheReplicaIsUnusable() {
+        ProjectCache cache = cache(replicaLagMonitor(false));
+
+        ProjectDTO first = cache.get(PROJECT_ID, loader);
+
+        assertThat(cache.get(PROJECT_ID, loader)).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void servesPrimaryEntriesToReplicaReads() {
+        ProjectCache cache = cache(replicaLagMonitor(true));
+        ReplicaRoutingContext.pinToPrimary();
+        ProjectDTO cached = cache.get(PROJECT_ID, loader);
+        ReplicaRoutingContext.clear();
+
+        assertThat(cache.get(PROJECT_ID, loader)).isSameAs(cached);
+        assertThat(loads).hasValue(1);
+    }
+
+    private static ProjectCache cache(ReplicaLagMonitor replicaLagMonitor) {
+        StaticListableBeanFactory beanFactory = replicaLagMonitor == null
+                ? new StaticListableBeanFactory()
+                : new StaticListableBeanFactory(Map.of("replicaLagMonitor", replicaLagMonitor));
+        return new ProjectCache(new ProjectCacheProperties(), new LocalProjectCacheInvalidationChannel(),
+                beanFactory.getBeanProvider(ReplicaLagMonitor.class));
+    }
+
+    /**
+     * A monitor over an in-memory database, usable once it has measured the (absent) lag.
+     */
+    private static ReplicaLagMonitor replicaLagMonitor(boolean usable) {
+        JdbcDataSource replica = new JdbcDataSource();
+        replica.setURL("jdbc:h2:mem:replica");
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+        properties.setLagQuery("");
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, properties);
+        if (usable) {
+            monitor.check();
+        }
+        return monitor;
+    }
+}
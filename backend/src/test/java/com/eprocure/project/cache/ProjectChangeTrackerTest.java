@@ -0,0 +1,90 @@
+package com.eprocure.project.cache;
+
+import com.eprocure.project.event.ProjectChangeType;
+import com.eprocure.project.event.ProjectChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectChangeTrackerTest {
+
+    private static final UUID PROJECT_ID = UUID.fromString("018e0a4c-7b2a-7cde-8f00-0123456789ab");
+
+    private AnnotationConfigApplicationContext context;
+    private ProjectChangeTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        // Only the tracker listens, so nothing re-announces events on the invalidation channel
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(TransactionalEventListenerFactory.class);
+        context.registerBean(LocalProjectCacheInvalidationChannel.class);
+        context.registerBean(ProjectChangeTracker.class);
+        context.refresh();
+        tracker = context.getBean(ProjectChangeTracker.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ProjectChangeType.class)
+    void advancesOnEveryChangeType(ProjectChangeType changeType) {
+        String version = tracker.getVersion();
+
+        context.publishEvent(new ProjectChangedEvent(PROJECT_ID, changeType, null));
+
+        assertThat(tracker.getVersion()).isNotEqualTo(version);
+    }
+
+    @Test
+    void advancesOnlyOnceTheWriteHasCommitted() {
+        String version = tracker.getVersion();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            context.publishEvent(new ProjectChangedEvent(PROJECT_ID, ProjectChangeType.UPDATED, null));
+            assertThat(tracker.getVersion()).isEqualTo(version);
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(tracker.getVersion()).isNotEqualTo(version);
+    }
+
+    @Test
+    void advancesOnWritesOfOtherReplicas() {
+        String version = tracker.getVersion();
+
+        context.getBean(ProjectCacheInvalidationChannel.class).publish(PROJECT_ID);
+
+        assertThat(tracker.getVersion()).isNotEqualTo(version);
+    }
+
+    @Test
+    void advancesOnExplicitChanges() {
+        String version = tracker.getVersion();
+
+        tracker.advance();
+
+        assertThat(tracker.getVersion()).isNotEqualTo(version);
+    }
+}
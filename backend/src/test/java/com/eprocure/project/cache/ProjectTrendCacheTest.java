@@ -0,0 +1,112 @@
+package com.eprocure.project.cache;
+
+import com.eprocure.project.event.ProjectChangeType;
+import com.eprocure.project.event.ProjectChangedEvent;
+import com.eprocure.project.repository.projection.MonthlyTotals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ProjectTrendCacheTest {
+
+    private static final UUID PROJECT_ID = UUID.fromString("018e0a4c-7b2a-7cde-8f00-0123456789ab");
+    private static final YearMonth FROM = YearMonth.of(2026, 1);
+
+    private final List<UUID> published = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private AnnotationConfigApplicationContext context;
+    private ProjectTrendCache cache;
+
+    @BeforeEach
+    void setUp() {
+        LocalProjectCacheInvalidationChannel channel = new LocalProjectCacheInvalidationChannel();
+        channel.subscribe(published::add);
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(TransactionalEventListenerFactory.class);
+        context.registerBean(ProjectCacheInvalidationChannel.class, () -> channel);
+        context.registerBean(ProjectTrendCache.class);
+        context.refresh();
+        cache = context.getBean(ProjectTrendCache.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void keepsTotalsUntilInvalidated() {
+        List<MonthlyTotals> first = cache.get(FROM, this::load);
+
+        assertThat(cache.get(FROM, this::load)).isSameAs(first);
+        cache.invalidate();
+        assertThat(cache.get(FROM, this::load)).isNotSameAs(first);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void neverServesLoadThatOverlappedAWrite() {
+        Supplier<List<MonthlyTotals>> overlapped = () -> {
+            List<MonthlyTotals> totals = load();
+            // A write commits after the query read its rows, before the result is stored
+            cache.invalidate();
+            return totals;
+        };
+        List<MonthlyTotals> stale = cache.get(FROM, overlapped);
+
+        assertThat(cache.get(FROM, this::load)).isNotSameAs(stale);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void olderLoadDoesNotReplaceNewerEntry() {
+        List<MonthlyTotals> newer = new ArrayList<>();
+        Supplier<List<MonthlyTotals>> slow = () -> {
+            cache.invalidate();
+            // A faster load of the next generation stores its result first
+            newer.addAll(cache.get(FROM, this::load));
+            return load();
+        };
+        cache.get(FROM, slow);
+
+        assertThat(cache.get(FROM, this::load)).isEqualTo(newer);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidatesOnLocalCreatesWithoutBroadcasting() {
+        List<MonthlyTotals> first = cache.get(FROM, this::load);
+
+        context.publishEvent(new ProjectChangedEvent(PROJECT_ID, ProjectChangeType.CREATED, null));
+
+        assertThat(cache.get(FROM, this::load)).isNotSameAs(first);
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    void invalidatesOnChangesOfOtherReplicas() {
+        List<MonthlyTotals> first = cache.get(FROM, this::load);
+
+        context.getBean(ProjectCacheInvalidationChannel.class).publish(PROJECT_ID);
+
+        assertThat(cache.get(FROM, this::load)).isNotSameAs(first);
+    }
+
+    private List<MonthlyTotals> load() {
+        loads.incrementAndGet();
+        return List.of(mock(MonthlyTotals.class));
+    }
+}
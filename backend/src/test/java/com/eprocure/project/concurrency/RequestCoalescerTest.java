@@ -0,0 +1,210 @@
+package com.eprocure.project.concurrency;
+
+import com.eprocure.project.cache.LocalProjectCacheInvalidationChannel;
+import com.eprocure.project.cache.ProjectChangeTracker;
+import com.eprocure.project.routing.ReplicaLagMonitor;
+import com.eprocure.project.routing.ReplicaRoutingContext;
+import com.eprocure.project.routing.ReplicaRoutingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class RequestCoalescerTest {
+
+    private final ProjectChangeTracker changeTracker = new ProjectChangeTracker(new LocalProjectCacheInvalidationChannel());
+    private final CountingReads target = new CountingReads();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.clear();
+        target.gate.complete(null);
+    }
+
+    @Test
+    void sharesInFlightExecutionWithJoinedCallers() throws Exception {
+        Reads reads = coalesced(null);
+        target.gate = new CompletableFuture<>();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> reads.read("draft"));
+        awaitCalls("executed", 1);
+        CompletableFuture<String> joined = CompletableFuture.supplyAsync(() -> reads.read("draft"));
+        awaitCalls("joined", 1);
+        target.gate.complete(null);
+
+        assertThat(joined.get(10, TimeUnit.SECONDS)).isSameAs(first.get(10, TimeUnit.SECONDS));
+        assertThat(target.executions).hasValue(1);
+    }
+
+    @Test
+    void propagatesFailureToJoinedCallers() throws Exception {
+        Reads reads = coalesced(null);
+        IllegalStateException failure = new IllegalStateException("connection reset");
+        target.gate = new CompletableFuture<>();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> reads.read("draft"));
+        awaitCalls("executed", 1);
+        CompletableFuture<String> joined = CompletableFuture.supplyAsync(() -> reads.read("draft"));
+        awaitCalls("joined", 1);
+        target.gate.completeExceptionally(failure);
+
+        assertThatThrownBy(() -> first.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+        // The joined caller receives the executing call's exception itself, not a wrapper
+        assertThatThrownBy(() -> joined.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isSameAs(failure);
+        assertThat(target.executions).hasValue(1);
+    }
+
+    @Test
+    void doesNotReuseFailedExecution() {
+        Reads reads = coalesced(null);
+        target.gate = CompletableFuture.failedFuture(new IllegalStateException("connection reset"));
+        assertThatThrownBy(() -> reads.read("draft")).isInstanceOf(IllegalStateException.class);
+
+        target.gate = CompletableFuture.completedFuture(null);
+
+        assertThat(reads.read("draft")).isEqualTo("draft#2");
+    }
+
+    @Test
+    void doesNotCoalesceInsideTransaction() {
+        Reads reads = coalesced(null);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            reads.read("draft");
+            reads.read("draft");
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        assertThat(target.executions).hasValue(2);
+    }
+
+    @Test
+    void reusesCompletedResultWithinFreshness() {
+        Reads reads = coalesced(null);
+
+        String first = reads.read("draft");
+
+        assertThat(reads.read("draft")).isSameAs(first);
+        assertThat(target.executions).hasValue(1);
+    }
+
+    @Test
+    void separatesCallsByArguments() {
+        Reads reads = coalesced(null);
+
+        reads.read("draft");
+        reads.read("active");
+
+        assertThat(target.executions).hasValue(2);
+    }
+
+    @Test
+    void startsFreshFlightAfterProjectChange() {
+        Reads reads = coalesced(null);
+        reads.read("draft");
+
+        changeTracker.advance();
+        reads.read("draft");
+
+        assertThat(target.executions).hasValue(2);
+    }
+
+    @Test
+    void doesNotHandReplicaResultsToCallersPinnedToThePrimary() {
+        Reads reads = coalesced(replicaLagMonitor(true));
+        String replicaResult = reads.read("draft");
+
+        ReplicaRoutingContext.pinToPrimary();
+        String primaryResult = reads.read("draft");
+
+        assertThat(primaryResult).isNotSameAs(replicaResult);
+        assertThat(target.executions).hasValue(2);
+    }
+
+    @Test
+    void sharesPrimaryFlightsWhileTheReplicaIsUnusable() {
+        Reads reads = coalesced(replicaLagMonitor(false));
+        String first = reads.read("draft");
+
+        ReplicaRoutingContext.pinToPrimary();
+
+        assertThat(reads.read("draft")).isSameAs(first);
+        assertThat(target.executions).hasValue(1);
+    }
+
+    private Reads coalesced(ReplicaLagMonitor replicaLagMonitor) {
+        StaticListableBeanFactory beanFactory = replicaLagMonitor == null
+                ? new StaticListableBeanFactory()
+                : new StaticListableBeanFactory(Map.of("replicaLagMonitor", replicaLagMonitor));
+        RequestCoalescer coalescer = new RequestCoalescer(new CoalescingProperties(), changeTracker,
+                beanFactory.getBeanProvider(ReplicaLagMonitor.class), meterRegistry);
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(coalescer);
+        return proxyFactory.getProxy();
+    }
+
+    private void awaitCalls(String outcome, int count) {
+        await().atMost(Duration.ofSeconds(10)).until(() ->
+                meterRegistry.get("eprocure.coalescing.calls").tag("outcome", outcome).counter().count() >= count);
+    }
+
+    /**
+     * A monitor over an in-memory database, usable once it has measured the (absent) lag.
+     */
+    private static ReplicaLagMonitor replicaLagMonitor(boolean usable) {
+        JdbcDataSource replica = new JdbcDataSource();
+        replica.setURL("jdbc:h2:mem:replica");
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+        properties.setLagQuery("");
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, properties);
+        if (usable) {
+            monitor.check();
+        }
+        return monitor;
+    }
+
+    interface Reads {
+
+        String read(String status);
+    }
+
+    static class CountingReads implements Reads {
+
+        final AtomicInteger executions = new AtomicInteger();
+        volatile CompletableFuture<Void> gate = CompletableFuture.completedFuture(null);
+
+        @Override
+        @Coalesced
+        public String read(String status) {
+            int execution = executions.incrementAndGet();
+            try {
+                gate.join();
+            } catch (CompletionException e) {
+                throw (RuntimeException) e.getCause();
+            }
+            return status + "#" + execution;
+        }
+    }
+}
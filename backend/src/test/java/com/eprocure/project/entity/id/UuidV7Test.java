@@ -0,0 +1,114 @@
+package com.eprocure.project.entity.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    private static final int SEQUENCE_VALUES = 1 << 12;
+
+    /**
+     * The generator state is global, so every test starts from a millisecond later than any used before.
+     */
+    private static final AtomicLong CLOCK = new AtomicLong(System.currentTimeMillis());
+
+    @Test
+    void setsVersionAndVariant() {
+        UUID id = UuidV7.randomUuid();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void startsWithTheTimestamp() {
+        long now = nextMillisecond();
+
+        assertThat(timestamp(UuidV7.randomUuid(now))).isEqualTo(now);
+    }
+
+    @Test
+    void startsEachMillisecondInLowerHalfOfSequence() {
+        long now = nextMillisecond();
+
+        assertThat(sequence(UuidV7.randomUuid(now))).isLessThan(SEQUENCE_VALUES / 2);
+    }
+
+    @Test
+    void carriesSequenceOverflowIntoTimestamp() {
+        long now = nextMillisecond();
+        List<UUID> ids = new ArrayList<>();
+        // More ids than sequence values in one millisecond forces at least one overflow
+        for (int i = 0; i <= SEQUENCE_VALUES; i++) {
+            ids.add(UuidV7.randomUuid(now));
+        }
+
+        UUID first = ids.get(0);
+        UUID last = ids.get(ids.size() - 1);
+        int carry = firstIndexWithTimestamp(ids, now + 1);
+        assertThat(carry).isPositive();
+        assertThat(sequence(ids.get(carry - 1))).isEqualTo(SEQUENCE_VALUES - 1);
+        assertThat(sequence(ids.get(carry))).isZero();
+        assertThat(timestamp(last)).isEqualTo(now + 1);
+        assertThat(sequence(last)).isEqualTo(sequence(first) - 1 + (ids.size() - SEQUENCE_VALUES));
+        assertThat(last.version()).isEqualTo(7);
+        assertStrictlyIncreasing(ids);
+    }
+
+    @Test
+    void staysIncreasingWhenClockMovesBack() {
+        long now = nextMillisecond();
+        UUID before = UuidV7.randomUuid(now);
+
+        UUID after = UuidV7.randomUuid(now - 5_000);
+
+        assertThat(timestamp(after)).isEqualTo(now);
+        assertThat(after.getMostSignificantBits()).isGreaterThan(before.getMostSignificantBits());
+    }
+
+    @Test
+    void generatesIncreasingIdsAcrossMilliseconds() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UuidV7.randomUuid());
+        }
+
+        assertStrictlyIncreasing(ids);
+    }
+
+    private static long nextMillisecond() {
+        return CLOCK.addAndGet(60_000);
+    }
+
+    private static void assertStrictlyIncreasing(List<UUID> ids) {
+        for (int i = 1; i < ids.size(); i++) {
+            // The 48-bit timestamp keeps the sign bit clear, so a signed comparison orders the ids
+            assertThat(ids.get(i).getMostSignificantBits())
+                    .as("id %d", i)
+                    .isGreaterThan(ids.get(i - 1).getMostSignificantBits());
+        }
+    }
+
+    private static int firstIndexWithTimestamp(List<UUID> ids, long timestamp) {
+        for (int i = 0; i < ids.size(); i++) {
+            if (timestamp(ids.get(i)) == timestamp) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long timestamp(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    private static int sequence(UUID id) {
+        return (int) (id.getMostSignificantBits() & 0xFFF);
+    }
+}
@@ -0,0 +1,133 @@
+package com.eprocure.project.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    private static final String KEY = "3f1c9a52-8d0e-4c7b-9a61-2b5f0e7d4c18";
+    private static final String BODY = "{\"title\":\"Road works\"}";
+
+    private final IdempotencyProperties properties = new IdempotencyProperties();
+    private final List<String> receivedBodies = new ArrayList<>();
+    private final FilterChain chain = (request, response) -> {
+        receivedBodies.add(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        ((HttpServletResponse) response).setStatus(201);
+        response.getOutputStream().write(("{\"created\":" + receivedBodies.size() + "}").getBytes(StandardCharsets.UTF_8));
+    };
+
+    @Test
+    void passesBufferedBodyToTheChain() throws Exception {
+        MockHttpServletResponse response = filter(post(KEY, BODY));
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(receivedBodies).containsExactly(BODY);
+    }
+
+    @Test
+    void replaysResponseToRepeatedRequest() throws Exception {
+        IdempotencyFilter filter = filter();
+        filter.doFilter(post(KEY, BODY), new MockHttpServletResponse(), chain);
+
+        MockHttpServletResponse repeat = new MockHttpServletResponse();
+        filter.doFilter(post(KEY, BODY), repeat, chain);
+
+        assertThat(repeat.getStatus()).isEqualTo(201);
+        assertThat(repeat.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(repeat.getContentAsString()).isEqualTo("{\"created\":1}");
+        assertThat(receivedBodies).hasSize(1);
+    }
+
+    @Test
+    void rejectsKeyReusedWithDifferentBody() throws Exception {
+        IdempotencyFilter filter = filter();
+        filter.doFilter(post(KEY, BODY), new MockHttpServletResponse(), chain);
+
+        MockHttpServletResponse repeat = new MockHttpServletResponse();
+        filter.doFilter(post(KEY, "{\"title\":\"Bridge repair\"}"), repeat, chain);
+
+        assertThat(repeat.getStatus()).isEqualTo(422);
+        assertThat(receivedBodies).hasSize(1);
+    }
+
+    @Test
+    void rejectsDeclaredBodyOverLimit() throws Exception {
+        properties.setMaxBodySize(DataSize.ofBytes(16));
+
+        MockHttpServletResponse response = filter(post(KEY, BODY));
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(receivedBodies).isEmpty();
+    }
+
+    @Test
+    void rejectsUndeclaredBodyOverLimit() throws Exception {
+        properties.setMaxBodySize(DataSize.ofBytes(16));
+        // Chunked upload: no Content-Length, so only the bounded read notices
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/projects") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, KEY);
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+
+        MockHttpServletResponse response = filter(request);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(receivedBodies).isEmpty();
+    }
+
+    @Test
+    void acceptsBodyOfExactlyTheLimit() throws Exception {
+        properties.setMaxBodySize(DataSize.ofBytes(BODY.length()));
+
+        MockHttpServletResponse response = filter(post(KEY, BODY));
+
+        assertThat(response.getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    void leavesRequestsWithoutKeyAlone() throws Exception {
+        properties.setMaxBodySize(DataSize.ofBytes(16));
+
+        MockHttpServletResponse response = filter(post(null, BODY));
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(receivedBodies).containsExactly(BODY);
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter().doFilter(request, response, chain);
+        return response;
+    }
+
+    private IdempotencyFilter filter() {
+        return new IdempotencyFilter(new LocalIdempotencyStore(properties), properties, new ObjectMapper().findAndRegisterModules());
+    }
+
+    private static MockHttpServletRequest post(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/projects");
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,127 @@
+package com.eprocure.project.idempotency;
+
+import com.eprocure.project.exception.IdempotencyKeyInProgressException;
+import com.eprocure.project.exception.IdempotencyKeyMismatchException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class LocalIdempotencyStoreTest {
+
+    private static final String KEY = "3f1c9a52-8d0e-4c7b-9a61-2b5f0e7d4c18";
+
+    private final IdempotencyProperties properties = new IdempotencyProperties();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void replaysRecordedResponseForSameRequest() {
+        LocalIdempotencyStore store = new LocalIdempotencyStore(properties);
+
+        IdempotentResponse first = store.execute(KEY, "fingerprint", respond(201));
+        IdempotentResponse repeat = store.execute(KEY, "fingerprint", respond(201));
+
+        assertThat(repeat).isSameAs(first);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void rejectsKeyReusedForDifferentRequest() {
+        LocalIdempotencyStore store = new LocalIdempotencyStore(properties);
+        store.execute(KEY, "fingerprint", respond(201));
+
+        assertThatThrownBy(() -> store.execute(KEY, "other fingerprint", respond(201)))
+                .isInstanceOf(IdempotencyKeyMismatchException.class)
+                .hasMessageContaining(KEY);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void keepsKeysApart() {
+        LocalIdempotencyStore store = new LocalIdempotencyStore(properties);
+
+        store.execute(KEY, "fingerprint", respond(201));
+        store.execute("another key", "other fingerprint", respond(201));
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void forgetsServerErrors() {
+        LocalIdempotencyStore store = new LocalIdempotencyStore(properties);
+        store.execute(KEY, "fingerprint", respond(503));
+
+        IdempotentResponse retry = store.execute(KEY, "fingerprint", respond(201));
+
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void forgetsFailedRequests() {
+        LocalIdempotencyStore store = new LocalIdempotencyStore(properties);
+
+        assertThatThrownBy(() -> store.execute(KEY, "fingerprint", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+        IdempotentResponse retry = store.execute(KEY, "fingerprint", respond(201));
+
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void rejectsRepeatWhileFirstRequestOutlastsInFlightTimeout() throws Exception {
+        properties.setInFlightTimeout(Duration.ofMillis(50));
+        LocalIdempotencyStore store = new LocalIdempotencyStore(properties);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        CompletableFuture<IdempotentResponse> first = CompletableFuture.supplyAsync(() ->
+                store.execute(KEY, "fingerprint", () -> {
+                    started.countDown();
+                    release.join();
+                    return respond(201).get();
+                }));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> store.execute(KEY, "fingerprint", respond(201)))
+                .isInstanceOf(IdempotencyKeyInProgressException.class);
+
+        release.complete(null);
+        assertThat(first.get(10, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void evictsByResponseSize() {
+        properties.setMaximumWeight(DataSize.ofKilobytes(10));
+        LocalIdempotencyStore store = new LocalIdempotencyStore(properties);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        store.bindTo(registry);
+
+        // Far below any count limit, but three 4 KB bodies do not fit into 10 KB
+        for (int i = 0; i < 3; i++) {
+            store.execute(KEY + i, "fingerprint", () -> new IdempotentResponse(201, "application/json", new byte[4096]));
+        }
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(registry.get("cache.evictions").functionCounter().count()).isPositive());
+    }
+
+    private Supplier<IdempotentResponse> respond(int status) {
+        return () -> {
+            executions.incrementAndGet();
+            return new IdempotentResponse(status, "application/json", "{}".getBytes());
+        };
+    }
+}
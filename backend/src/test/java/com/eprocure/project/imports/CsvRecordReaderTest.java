@@ -0,0 +1,144 @@
+package com.eprocure.project.imports;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRecordReaderTest {
+
+    private static final int MAX_RECORD_LENGTH = 64;
+
+    @Test
+    void splitsUnquotedFields() throws IOException {
+        List<CsvRecord> records = readAll("title,budget,currency\nAlpha,100.00,EUR\n");
+
+        assertThat(records).extracting(CsvRecord::getFields).containsExactly(
+                List.of("title", "budget", "currency"),
+                List.of("Alpha", "100.00", "EUR"));
+    }
+
+    @Test
+    void keepsEmptyFields() throws IOException {
+        assertThat(readAll(",a,,\n").get(0).getFields()).containsExactly("", "a", "", "");
+    }
+
+    @Test
+    void readsSeparatorsQuotesAndLineBreaksInsideQuotedFields() throws IOException {
+        List<CsvRecord> records = readAll("\"a,b\",\"say \"\"hi\"\"\",\"line 1\r\nline 2\"\nnext\n");
+
+        assertThat(records.get(0).getFields()).containsExactly("a,b", "say \"hi\"", "line 1\r\nline 2");
+        assertThat(records.get(1).getFields()).containsExactly("next");
+    }
+
+    @Test
+    void keepsQuotedEmptyFieldAsRecord() throws IOException {
+        List<CsvRecord> records = readAll("\"\"\n");
+
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getFields()).containsExactly("");
+    }
+
+    @Test
+    void treatsQuoteInsideUnquotedFieldAsLiteral() throws IOException {
+        assertThat(readAll("5\" pipe,x\n").get(0).getFields()).containsExactly("5\" pipe", "x");
+    }
+
+    @Test
+    void acceptsCrLfCrAndLfLineEndings() throws IOException {
+        List<CsvRecord> records = readAll("a\r\nb\rc\nd");
+
+        assertThat(records).extracting(CsvRecord::getFields)
+                .containsExactly(List.of("a"), List.of("b"), List.of("c"), List.of("d"));
+        assertThat(records).extracting(CsvRecord::getLineNumber).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void skipsBlankLinesAndCountsThem() throws IOException {
+        List<CsvRecord> records = readAll("a\n\n   \nb\n");
+
+        assertThat(records).extracting(CsvRecord::getFields).containsExactly(List.of("a"), List.of("b"));
+        assertThat(records).extracting(CsvRecord::getLineNumber).containsExactly(1L, 4L);
+    }
+
+    @Test
+    void reportsStartLineOfMultiLineRecord() throws IOException {
+        List<CsvRecord> records = readAll("\"1\n2\n3\",x\nnext\n");
+
+        assertThat(records).extracting(CsvRecord::getLineNumber).containsExactly(1L, 4L);
+    }
+
+    @Test
+    void stripsLeadingByteOrderMark() throws IOException {
+        assertThat(readAll("\uFEFFtitle,budget\n").get(0).getFields()).containsExactly("title", "budget");
+    }
+
+    @Test
+    void keepsByteOrderMarkAfterFirstCharacter() throws IOException {
+        assertThat(readAll("a\n\uFEFFb\n").get(1).getFields()).containsExactly("\uFEFFb");
+    }
+
+    @Test
+    void returnsNullForEmptyInput() throws IOException {
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(""), MAX_RECORD_LENGTH)) {
+            assertThat(reader.readRecord()).isNull();
+        }
+    }
+
+    @Test
+    void rejectsRecordLongerThanLimitAndResumesAtNextRecord() throws IOException {
+        String tooLong = "x".repeat(MAX_RECORD_LENGTH + 1);
+        List<CsvRecord> records = readAll("ok\n" + tooLong + ",y\nafter\n");
+
+        assertThat(records).hasSize(3);
+        assertThat(records.get(1).isValid()).isFalse();
+        assertThat(records.get(1).getError()).isEqualTo("Record exceeds " + MAX_RECORD_LENGTH + " characters");
+        assertThat(records.get(1).getFields()).isEmpty();
+        assertThat(records.get(1).getLineNumber()).isEqualTo(2L);
+        assertThat(records.get(2).getFields()).containsExactly("after");
+    }
+
+    @Test
+    void acceptsRecordOfExactlyTheLimit() throws IOException {
+        String exact = "x".repeat(MAX_RECORD_LENGTH);
+
+        CsvRecord record = readAll(exact + "\n").get(0);
+
+        assertThat(record.isValid()).isTrue();
+        assertThat(record.getFields()).containsExactly(exact);
+    }
+
+    @Test
+    void consumesOverlongQuotedRecordUpToItsEnd() throws IOException {
+        String tooLong = "\"" + "x\n".repeat(MAX_RECORD_LENGTH) + "\",y";
+        List<CsvRecord> records = readAll(tooLong + "\nafter\n");
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).isValid()).isFalse();
+        assertThat(records.get(1).getFields()).containsExactly("after");
+        assertThat(records.get(1).getLineNumber()).isEqualTo(MAX_RECORD_LENGTH + 2L);
+    }
+
+    @Test
+    void rejectsUnterminatedQuotedField() throws IOException {
+        List<CsvRecord> records = readAll("a,\"never closed\nb\n");
+
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getError()).isEqualTo("Unterminated quoted field");
+    }
+
+    private static List<CsvRecord> readAll(String input) throws IOException {
+        List<CsvRecord> records = new ArrayList<>();
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(input), MAX_RECORD_LENGTH)) {
+            CsvRecord record;
+            while ((record = reader.readRecord()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,99 @@
+package com.eprocure.project.pagination;
+
+import com.eprocure.project.exception.InvalidProjectDataException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProjectChangeTokenTest {
+
+    private static final LocalDateTime PROJECTS_AT = LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123_456_000);
+    private static final UUID PROJECT_ID = UUID.fromString("018e0a4c-7b2a-7cde-8f00-0123456789ab");
+    private static final LocalDateTime TOMBSTONES_AT = LocalDateTime.of(2024, 3, 1, 9, 0);
+    private static final UUID TOMBSTONE_ID = UUID.fromString("018e0a4c-7b2a-7cde-8f00-ba9876543210");
+
+    @Test
+    void roundTripsThroughToken() {
+        ProjectChangeToken token = new ProjectChangeToken(PROJECTS_AT, PROJECT_ID, TOMBSTONES_AT, TOMBSTONE_ID);
+
+        assertThat(ProjectChangeToken.decode(token.encode())).isEqualTo(token);
+    }
+
+    @Test
+    void roundTripsPositionsWithoutId() {
+        ProjectChangeToken token = new ProjectChangeToken(PROJECTS_AT, null, TOMBSTONES_AT, null);
+
+        ProjectChangeToken decoded = ProjectChangeToken.decode(token.encode());
+
+        assertThat(decoded).isEqualTo(token);
+        assertThat(decoded.getProjectId()).isNull();
+        assertThat(decoded.getTombstoneId()).isNull();
+    }
+
+    @Test
+    void encodesUrlSafeTokenWithoutPadding() {
+        assertThat(new ProjectChangeToken(PROJECTS_AT, PROJECT_ID, TOMBSTONES_AT, TOMBSTONE_ID).encode())
+                .matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not a token!", "abc=def", "a+b/c"})
+    void rejectsTokenThatIsNotUrlSafeBase64(String token) {
+        assertThatThrownBy(() -> ProjectChangeToken.decode(token))
+                .isInstanceOf(InvalidProjectDataException.class);
+    }
+
+    @Test
+    void rejectsMissingPosition() {
+        assertThatThrownBy(() -> ProjectChangeToken.decode(token("2024-03-01T10:15:30|" + PROJECT_ID)))
+                .isInstanceOf(InvalidProjectDataException.class);
+    }
+
+    @Test
+    void rejectsExtraSeparator() {
+        assertThatThrownBy(() -> ProjectChangeToken.decode(
+                token("2024-03-01T10:15:30|" + PROJECT_ID + "|2024-03-01T09:00||x")))
+                .isInstanceOf(InvalidProjectDataException.class);
+    }
+
+    @Test
+    void rejectsTamperedTimestamp() {
+        assertThatThrownBy(() -> ProjectChangeToken.decode(token("2024-03-01T10:15:30||2024-02-30T09:00|")))
+                .isInstanceOf(InvalidProjectDataException.class);
+    }
+
+    @Test
+    void rejectsMissingTimestamp() {
+        assertThatThrownBy(() -> ProjectChangeToken.decode(token("|" + PROJECT_ID + "|2024-03-01T09:00|")))
+                .isInstanceOf(InvalidProjectDataException.class);
+    }
+
+    @Test
+    void rejectsTamperedId() {
+        assertThatThrownBy(() -> ProjectChangeToken.decode(token("2024-03-01T10:15:30||2024-03-01T09:00|' OR 1=1 --")))
+                .isInstanceOf(InvalidProjectDataException.class);
+    }
+
+    @Test
+    void decodesEditedPositionAsPlainKeyset() {
+        // The token is not signed: an edited but well-formed position only moves where the feed resumes
+        ProjectChangeToken edited = ProjectChangeToken.decode(token("2030-01-01T00:00|" + PROJECT_ID + "|2024-03-01T09:00|"));
+
+        assertThat(edited.getProjectsAt()).isEqualTo(LocalDateTime.of(2030, 1, 1, 0, 0));
+        assertThat(edited.getProjectId()).isEqualTo(PROJECT_ID);
+        assertThat(edited.getTombstonesAt()).isEqualTo(TOMBSTONES_AT);
+        assertThat(edited.getTombstoneId()).isNull();
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,75 @@
+package com.eprocure.project.pagination;
+
+import com.eprocure.project.exception.InvalidProjectDataException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProjectCursorTest {
+
+    private static final ProjectCursor CURSOR = new ProjectCursor(
+            LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123_456_000),
+            UUID.fromString("018e0a4c-7b2a-7cde-8f00-0123456789ab"));
+
+    @Test
+    void roundTripsThroughToken() {
+        assertThat(ProjectCursor.decode(CURSOR.encode())).isEqualTo(CURSOR);
+    }
+
+    @Test
+    void encodesUrlSafeTokenWithoutPadding() {
+        assertThat(CURSOR.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not a token!", "abc=def", "a+b/c"})
+    void rejectsTokenThatIsNotUrlSafeBase64(String token) {
+        assertThatThrownBy(() -> ProjectCursor.decode(token))
+                .isInstanceOf(InvalidProjectDataException.class);
+    }
+
+    @Test
+    void rejectsTokenWithoutSeparator() {
+        assertThatThrownBy(() -> ProjectCursor.decode(token("2024-03-01T10:15:30" + CURSOR.getId())))
+                .isInstanceOf(InvalidProjectDataException.class);
+    }
+
+    @Test
+    void rejectsTamperedTimestamp() {
+        assertThatThrownBy(() -> ProjectCursor.decode(token("2024-13-01T10:15:30|" + CURSOR.getId())))
+                .isInstanceOf(InvalidProjectDataException.class);
+    }
+
+    @Test
+    void rejectsTamperedId() {
+        assertThatThrownBy(() -> ProjectCursor.decode(token("2024-03-01T10:15:30|' OR 1=1 --")))
+                .isInstanceOf(InvalidProjectDataException.class);
+    }
+
+    @Test
+    void rejectsExtraSeparator() {
+        assertThatThrownBy(() -> ProjectCursor.decode(token("2024-03-01T10:15:30|" + CURSOR.getId() + "|x")))
+                .isInstanceOf(InvalidProjectDataException.class);
+    }
+
+    @Test
+    void decodesEditedPositionAsPlainKeyset() {
+        // The token is not signed: an edited but well-formed position only moves the page boundary
+        ProjectCursor edited = ProjectCursor.decode(token("2030-01-01T00:00|" + CURSOR.getId()));
+
+        assertThat(edited.getCreatedAt()).isEqualTo(LocalDateTime.of(2030, 1, 1, 0, 0));
+        assertThat(edited.getId()).isEqualTo(CURSOR.getId());
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,143 @@
+package com.eprocure.project.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private static final UUID ROAD = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID BRIDGE = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID SCHOOL = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    private final InvertedIndex index = new InvertedIndex();
+    private final InvertedIndex.Scratch scratch = new InvertedIndex.Scratch();
+
+    @Test
+    void matchesProjectsContainingEveryWord() {
+        index.put(ROAD, "Road resurfacing", "Resurfacing of the ring road");
+        index.put(BRIDGE, "Bridge repair", "Repair of the river bridge next to the ring road");
+        index.put(SCHOOL, "School extension", "New classrooms");
+
+        assertThat(ids(search("ring", "road"))).containsExactlyInAnyOrder(ROAD, BRIDGE);
+        assertThat(ids(search("bridge", "road"))).containsExactly(BRIDGE);
+        assertThat(search("bridge", "classrooms").getTotalHits()).isZero();
+    }
+
+    @Test
+    void returnsNothingWhenAWordIsUnknown() {
+        index.put(ROAD, "Road resurfacing", "Resurfacing of the ring road");
+
+        ProjectSearchHits result = search("road", "airport");
+
+        assertThat(result.getTotalHits()).isZero();
+        assertThat(result.getHits()).isEmpty();
+    }
+
+    @Test
+    void matchesWordsAsPrefixes() {
+        index.put(ROAD, "Network infrastructure", "Fibre backbone");
+        index.put(BRIDGE, "Infra audit", "Yearly review");
+
+        assertThat(ids(search("infra"))).containsExactlyInAnyOrder(ROAD, BRIDGE);
+        assertThat(ids(search("infrastr"))).containsExactly(ROAD);
+    }
+
+    @Test
+    void ranksExactMatchesAbovePrefixMatches() {
+        index.put(ROAD, "Network infrastructure", "Fibre backbone");
+        index.put(BRIDGE, "Infra audit", "Yearly review");
+
+        assertThat(ids(search("infra"))).containsExactly(BRIDGE, ROAD);
+    }
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        index.put(ROAD, "Ring road", "Resurfacing works");
+        index.put(BRIDGE, "River crossing", "Bridge next to the ring road");
+
+        assertThat(ids(search("road"))).containsExactly(ROAD, BRIDGE);
+    }
+
+    @Test
+    void replacesPreviousVersionOfAProject() {
+        index.put(ROAD, "Road resurfacing", "Resurfacing of the ring road");
+
+        index.put(ROAD, "Bridge repair", "Repair of the river bridge");
+
+        assertThat(index.size()).isOne();
+        assertThat(search("road").getTotalHits()).isZero();
+        assertThat(ids(search("bridge"))).containsExactly(ROAD);
+    }
+
+    @Test
+    void removesProjects() {
+        index.put(ROAD, "Road resurfacing", "Resurfacing of the ring road");
+        index.put(BRIDGE, "Road bridge", "Repair of the river bridge");
+
+        index.remove(ROAD);
+        index.remove(SCHOOL);
+
+        assertThat(index.size()).isOne();
+        assertThat(ids(search("road"))).containsExactly(BRIDGE);
+    }
+
+    @Test
+    void countsAllMatchesButReturnsAtMostTheLimit() {
+        for (int i = 0; i < 20; i++) {
+            index.put(UUID.randomUUID(), "Road " + i, "Resurfacing");
+        }
+
+        ProjectSearchHits result = index.search(List.of("road"), 5, scratch);
+
+        assertThat(result.getTotalHits()).isEqualTo(20);
+        assertThat(result.getHits()).hasSize(5);
+        assertThat(result.getHits()).extracting(ProjectSearchHit::getScore).isSortedAccordingTo((a, b) -> Float.compare(b, a));
+    }
+
+    @Test
+    void reusesScratchAcrossQueries() {
+        index.put(ROAD, "Road resurfacing", "Resurfacing of the ring road");
+        index.put(BRIDGE, "Bridge repair", "Repair of the river bridge");
+
+        ProjectSearchHits first = search("road");
+        search("bridge");
+        ProjectSearchHits again = search("road");
+
+        assertThat(again).isEqualTo(first);
+    }
+
+    @Test
+    void keepsResultsAcrossCompaction() {
+        List<UUID> removed = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = UUID.randomUUID();
+            index.put(id, "Road " + i, "Resurfacing");
+            removed.add(id);
+        }
+        index.put(ROAD, "Road resurfacing", "Resurfacing of the ring road");
+        index.put(BRIDGE, "Bridge repair", "Repair of the river bridge");
+
+        // The last removal purges the deleted documents and renumbers the live ones
+        removed.forEach(index::remove);
+        index.put(SCHOOL, "School access road", "New classrooms");
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(ids(search("road"))).containsExactlyInAnyOrder(ROAD, SCHOOL);
+        assertThat(ids(search("bridge"))).containsExactly(BRIDGE);
+        index.remove(ROAD);
+        assertThat(ids(search("road"))).containsExactly(SCHOOL);
+    }
+
+    private ProjectSearchHits search(String... words) {
+        return index.search(List.of(words), 10, scratch);
+    }
+
+    private static List<UUID> ids(ProjectSearchHits result) {
+        return result.getHits().stream().map(ProjectSearchHit::getProjectId).toList();
+    }
+}
@@ -0,0 +1,137 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.config.ProjectBatchProperties;
+import com.eprocure.project.dto.request.CreateProjectRequest;
+import com.eprocure.project.dto.response.ImportJobDTO;
+import com.eprocure.project.dto.response.ImportLineErrorDTO;
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.exception.PayloadTooLargeException;
+import com.eprocure.project.imports.ImportJobRegistry;
+import com.eprocure.project.imports.ImportJobStatus;
+import com.eprocure.project.imports.ImportProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectImportServiceImplTest {
+
+    private static final String HEADER = "title,description,budget,currency,startDate,endDate,departmentId,projectManagerId\n";
+    private static final String IDS = ",123e4567-e89b-12d3-a456-426614174000,123e4567-e89b-12d3-a456-426614174001\n";
+
+    @Mock
+    private ProjectBatchWriter batchWriter;
+    @Mock
+    private ProjectRequestValidator requestValidator;
+
+    private ImportProperties importProperties;
+    private ProjectImportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        importProperties = new ImportProperties();
+        importProperties.setMaxUploadSize(DataSize.ofKilobytes(1));
+        importProperties.setMaxConcurrentJobs(1);
+        importProperties.setMaxQueuedJobs(1);
+        service = new ProjectImportServiceImpl(batchWriter, requestValidator, new ProjectBatchProperties(),
+                importProperties, new ImportJobRegistry(importProperties));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void returnsQueuedJobAndImportsInBackground() throws InterruptedException {
+        when(batchWriter.writeChunk(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        ImportJobDTO accepted = service.importCsv(csv(HEADER + line("Alpha") + line("Beta")));
+
+        assertThat(accepted.getStatus()).isIn(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING);
+        ImportJobDTO finished = awaitFinished(accepted);
+        assertThat(finished.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(finished.getCreated()).isEqualTo(2);
+    }
+
+    @Test
+    void retriesLinesOfFailedChunkOneByOne() throws InterruptedException {
+        when(batchWriter.writeChunk(anyList())).thenAnswer(invocation -> {
+            List<CreateProjectRequest> chunk = invocation.getArgument(0);
+            if (chunk.stream().anyMatch(request -> request.getTitle().equals("Broken"))) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            return created(chunk);
+        });
+
+        ImportJobDTO finished = awaitFinished(service.importCsv(
+                csv(HEADER + line("Alpha") + line("Broken") + line("Gamma"))));
+
+        assertThat(finished.getCreated()).isEqualTo(2);
+        assertThat(finished.getFailed()).isEqualTo(1);
+        assertThat(finished.getErrors()).extracting(ImportLineErrorDTO::getLine).containsExactly(3L);
+        assertThat(finished.getErrors().get(0).getErrors())
+                .isEqualTo(Map.of("record", "Project could not be persisted"));
+    }
+
+    @Test
+    void rejectsUploadLargerThanLimit() {
+        InputStream upload = csv(HEADER + "x".repeat(1024));
+
+        assertThatThrownBy(() -> service.importCsv(upload)).isInstanceOf(PayloadTooLargeException.class);
+        assertThat(service.listJobs()).isEmpty();
+        verify(batchWriter, never()).writeChunk(anyList());
+    }
+
+    @Test
+    void failsJobWithMissingColumns() throws InterruptedException {
+        ImportJobDTO finished = awaitFinished(service.importCsv(csv("title,budget\nAlpha,10\n")));
+
+        assertThat(finished.getStatus()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(finished.getMessage()).startsWith("Missing columns: description");
+    }
+
+    private ImportJobDTO awaitFinished(ImportJobDTO accepted) throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        while (Instant.now().isBefore(deadline)) {
+            ImportJobDTO job = service.getJob(accepted.getId());
+            if (job.getFinishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Import job " + accepted.getId() + " did not finish");
+    }
+
+    private static String line(String title) {
+        return title + ",Imported project " + title + ",100.00,EUR,2024-01-01,2024-12-31" + IDS;
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<ProjectDTO> created(List<CreateProjectRequest> chunk) {
+        return chunk.stream().map(request -> new ProjectDTO()).toList();
+    }
+}
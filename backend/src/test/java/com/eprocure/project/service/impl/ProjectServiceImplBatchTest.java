@@ -0,0 +1,123 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.cache.ProjectCache;
+import com.eprocure.project.config.ProjectBatchProperties;
+import com.eprocure.project.dto.mapper.ProjectMapper;
+import com.eprocure.project.dto.request.CreateProjectRequest;
+import com.eprocure.project.dto.response.BatchCreateResultDTO;
+import com.eprocure.project.dto.response.BatchItemResultDTO;
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.repository.ProjectRepository;
+import com.eprocure.project.repository.ProjectTombstoneRepository;
+import com.eprocure.project.service.ProjectStatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectServiceImplBatchTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ProjectTombstoneRepository tombstoneRepository;
+    @Mock
+    private ProjectMapper projectMapper;
+    @Mock
+    private ProjectStatisticsService statisticsService;
+    @Mock
+    private ProjectCache projectCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ProjectRequestValidator requestValidator;
+    @Mock
+    private ProjectBatchWriter batchWriter;
+
+    private ProjectServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        ProjectBatchProperties batchProperties = new ProjectBatchProperties();
+        batchProperties.setChunkSize(3);
+        service = new ProjectServiceImpl(projectRepository, tombstoneRepository, projectMapper, statisticsService,
+                projectCache, eventPublisher, requestValidator, batchWriter, batchProperties);
+    }
+
+    @Test
+    void retriesItemsOfFailedChunkOneByOne() {
+        CreateProjectRequest first = request("first");
+        CreateProjectRequest broken = request("broken");
+        CreateProjectRequest third = request("third");
+        ProjectDTO firstCreated = created();
+        ProjectDTO thirdCreated = created();
+        when(batchWriter.writeChunk(List.of(first, broken, third)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(batchWriter.writeChunk(List.of(first))).thenReturn(List.of(firstCreated));
+        when(batchWriter.writeChunk(List.of(broken))).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(batchWriter.writeChunk(List.of(third))).thenReturn(List.of(thirdCreated));
+
+        BatchCreateResultDTO result = service.createProjects(List.of(first, broken, third));
+
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getItems()).extracting(BatchItemResultDTO::getId)
+                .containsExactly(firstCreated.getId(), null, thirdCreated.getId());
+        assertThat(result.getItems().get(1).getErrors())
+                .isEqualTo(Map.of("request", "Project could not be persisted"));
+    }
+
+    @Test
+    void reportsEntityCheckMessageOfFailedItem() {
+        CreateProjectRequest valid = request("valid");
+        CreateProjectRequest invalid = request("invalid");
+        when(batchWriter.writeChunk(List.of(valid, invalid)))
+                .thenThrow(new IllegalArgumentException("End date must be after start date"));
+        when(batchWriter.writeChunk(List.of(valid))).thenReturn(List.of(created()));
+        when(batchWriter.writeChunk(List.of(invalid)))
+                .thenThrow(new IllegalArgumentException("End date must be after start date"));
+
+        BatchCreateResultDTO result = service.createProjects(List.of(valid, invalid));
+
+        assertThat(result.getItems().get(0).isSuccess()).isTrue();
+        assertThat(result.getItems().get(1).getErrors())
+                .isEqualTo(Map.of("request", "End date must be after start date"));
+    }
+
+    @Test
+    void doesNotRetrySuccessfulChunks() {
+        List<CreateProjectRequest> chunk = List.of(request("a"), request("b"), request("c"));
+        when(batchWriter.writeChunk(chunk)).thenReturn(List.of(created(), created(), created()));
+
+        BatchCreateResultDTO result = service.createProjects(chunk);
+
+        assertThat(result.getCreated()).isEqualTo(3);
+        verify(batchWriter, times(1)).writeChunk(anyList());
+    }
+
+    private static CreateProjectRequest request(String title) {
+        CreateProjectRequest request = new CreateProjectRequest();
+        request.setTitle(title);
+        return request;
+    }
+
+    private static ProjectDTO created() {
+        ProjectDTO project = new ProjectDTO();
+        project.setId(UUID.randomUUID());
+        return project;
+    }
+}
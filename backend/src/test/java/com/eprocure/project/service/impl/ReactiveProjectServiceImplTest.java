@@ -0,0 +1,290 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.cache.LocalProjectCacheInvalidationChannel;
+import com.eprocure.project.cache.ProjectCache;
+import com.eprocure.project.cache.ProjectCacheProperties;
+import com.eprocure.project.cache.ProjectChangeTracker;
+import com.eprocure.project.dto.mapper.ProjectMapperImpl;
+import com.eprocure.project.dto.request.CreateProjectRequest;
+import com.eprocure.project.dto.request.ProjectFilterRequest;
+import com.eprocure.project.dto.response.ProjectDTO;
+import com.eprocure.project.dto.response.ProjectStatisticsDTO;
+import com.eprocure.project.dto.response.StatusTransitionResultDTO;
+import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.event.ProjectChangeType;
+import com.eprocure.project.event.ProjectChangedEvent;
+import com.eprocure.project.exception.InvalidProjectDataException;
+import com.eprocure.project.fx.FxRateTable;
+import com.eprocure.project.fx.ReportingTotal;
+import com.eprocure.project.pagination.ProjectSort;
+import com.eprocure.project.repository.projection.ProjectSummary;
+import com.eprocure.project.repository.reactive.ReactiveProjectListingRepository;
+import com.eprocure.project.repository.reactive.ReactiveProjectRepository;
+import com.eprocure.project.repository.reactive.ReactiveProjectStatisticsRepository;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the reactive service against an H2 database created by the versioned migrations, over R2DBC.
+ */
+class ReactiveProjectServiceImplTest {
+
+    private static final UUID DEPARTMENT = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID OTHER_DEPARTMENT = UUID.fromString("33333333-3333-3333-3333-333333333333");
+    private static final UUID MANAGER = UUID.fromString("22222222-2222-2222-2222-222222222222");
+
+    private final List<ProjectChangedEvent> events = new ArrayList<>();
+
+    private JdbcTemplate jdbc;
+    private AnnotationConfigApplicationContext context;
+    private ReactiveProjectServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        String database = "reactive_" + UUID.randomUUID().toString().replace("-", "");
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + database + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        // Initialized aggregate, as left by the startup reconciliation
+        jdbc.update("INSERT INTO project_statistics (id, total_projects, draft_projects, active_projects, completed_projects, " +
+                "total_budget, reconciled_at) VALUES (1, 0, 0, 0, 0, 0, ?)", LocalDateTime.now());
+
+        H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .inMemory(database)
+                .property("MODE", "PostgreSQL")
+                .property("DATABASE_TO_LOWER", "TRUE")
+                .property("DB_CLOSE_DELAY", "-1")
+                .username("sa")
+                .build());
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(connectionFactory);
+
+        // The listeners the servlet stack relies on, with Spring's transactional listener semantics
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(TransactionalEventListenerFactory.class);
+        context.registerBean(ProjectCacheProperties.class);
+        context.registerBean(LocalProjectCacheInvalidationChannel.class);
+        context.registerBean(ProjectCache.class);
+        context.registerBean(ProjectChangeTracker.class);
+        context.refresh();
+
+        FxRateTable fxRateTable = mock(FxRateTable.class);
+        when(fxRateTable.toReportingTotal(anyMap())).thenReturn(new ReportingTotal(BigDecimal.ZERO, "EUR", List.of()));
+
+        service = new ReactiveProjectServiceImpl(
+                new R2dbcRepositoryFactory(template).getRepository(ReactiveProjectRepository.class),
+                new ReactiveProjectListingRepository(template),
+                new ReactiveProjectStatisticsRepository(template.getDatabaseClient()),
+                new ProjectMapperImpl(),
+                fxRateTable,
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)),
+                event -> {
+                    events.add((ProjectChangedEvent) event);
+                    context.publishEvent(event);
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+        jdbc.execute("SHUTDOWN");
+    }
+
+    @Test
+    void createMaintainsStatisticsCurrenciesAndRollups() {
+        service.createProject(request("1000.50", "EUR", DEPARTMENT)).block();
+        service.createProject(request("200.00", "USD", DEPARTMENT)).block();
+
+        assertThat(aggregate()).containsEntry("total_projects", 2L).containsEntry("draft_projects", 2L);
+        assertThat(currencies()).containsExactly(
+                Map.entry("EUR", new BigDecimal("1000.50")),
+                Map.entry("USD", new BigDecimal("200.00")));
+        assertThat(rollup("DEPARTMENT", DEPARTMENT, "EUR"))
+                .containsEntry("total_projects", 1L)
+                .containsEntry("draft_budget", new BigDecimal("1000.50"));
+        assertThat(rollup("PROJECT_MANAGER", MANAGER, "USD"))
+                .containsEntry("total_projects", 1L)
+                .containsEntry("draft_budget", new BigDecimal("200.00"));
+    }
+
+    @Test
+    void updateMovesTotalsBetweenCurrenciesAndGroups() {
+        ProjectDTO created = service.createProject(request("1000.00", "EUR", DEPARTMENT)).block();
+
+        service.updateProject(created.getId(), request("300.00", "USD", OTHER_DEPARTMENT)).block();
+
+        assertThat(aggregate()).containsEntry("total_projects", 1L).containsEntry("total_budget", new BigDecimal("300.00"));
+        assertThat(currencies()).containsExactly(Map.entry("USD", new BigDecimal("300.00")));
+        assertThat(rollupCount("DEPARTMENT", DEPARTMENT)).isZero();
+        assertThat(rollup("DEPARTMENT", OTHER_DEPARTMENT, "USD")).containsEntry("draft_budget", new BigDecimal("300.00"));
+        assertThat(rollup("PROJECT_MANAGER", MANAGER, "USD")).containsEntry("total_projects", 1L);
+    }
+
+    @Test
+    void transitionMovesBudgetsBetweenStatuses() {
+        ProjectDTO first = service.createProject(request("100.00", "EUR", DEPARTMENT)).block();
+        ProjectDTO second = service.createProject(request("50.00", "EUR", DEPARTMENT)).block();
+        service.transitionStatus(second.getId(), ProjectStatus.ACTIVE).block();
+
+        StatusTransitionResultDTO result = service.transitionStatuses(List.of(first.getId(), second.getId()), ProjectStatus.ACTIVE).block();
+
+        // Only the project still in DRAFT is locked and moved
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(aggregate()).containsEntry("draft_projects", 0L).containsEntry("active_projects", 2L);
+        assertThat(rollup("DEPARTMENT", DEPARTMENT, "EUR"))
+                .containsEntry("draft_projects", 0L)
+                .containsEntry("draft_budget", new BigDecimal("0.00"))
+                .containsEntry("active_projects", 2L)
+                .containsEntry("active_budget", new BigDecimal("150.00"));
+        assertThat(events).filteredOn(event -> event.getChangeType() == ProjectChangeType.STATUS_CHANGED)
+                .extracting(ProjectChangedEvent::getProjectId)
+                .containsExactly(second.getId(), first.getId());
+    }
+
+    @Test
+    void deleteRemovesEmptyCurrencyAndRollupRows() {
+        ProjectDTO created = service.createProject(request("100.00", "EUR", DEPARTMENT)).block();
+
+        service.deleteProject(created.getId()).block();
+
+        assertThat(aggregate()).containsEntry("total_projects", 0L).containsEntry("total_budget", new BigDecimal("0.00"));
+        assertThat(currencies()).isEmpty();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM project_budget_rollups", Long.class)).isZero();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM project_tombstones", Long.class)).isOne();
+    }
+
+    @Test
+    void statisticsReadTheCurrencyRows() {
+        service.createProject(request("1000.50", "EUR", DEPARTMENT)).block();
+
+        ProjectStatisticsDTO statistics = service.getStatistics().block();
+
+        assertThat(statistics.getTotalProjects()).isOne();
+        assertThat(statistics.getBudgetByCurrency()).containsExactly(Map.entry("EUR", new BigDecimal("1000.50")));
+    }
+
+    @Test
+    void writesReachTheCacheAndChangeTrackerListeners() {
+        ProjectDTO created = service.createProject(request("100.00", "EUR", DEPARTMENT)).block();
+        ProjectCache cache = context.getBean(ProjectCache.class);
+        ProjectChangeTracker tracker = context.getBean(ProjectChangeTracker.class);
+        cache.get(created.getId(), id -> created);
+        String version = tracker.getVersion();
+
+        ProjectDTO updated = service.updateProject(created.getId(), request("300.00", "EUR", DEPARTMENT)).block();
+
+        assertThat(cache.get(created.getId(), id -> updated)).isSameAs(updated);
+        assertThat(tracker.getVersion()).isNotEqualTo(version);
+    }
+
+    @Test
+    void filterProjectsAppliesCriteriaAndSort() {
+        service.createProject(request("100.00", "EUR", DEPARTMENT)).block();
+        service.createProject(request("300.00", "EUR", DEPARTMENT)).block();
+        service.createProject(request("200.00", "EUR", OTHER_DEPARTMENT)).block();
+        service.createProject(request("250.00", "USD", DEPARTMENT)).block();
+        ProjectFilterRequest filter = ProjectFilterRequest.builder()
+                .departmentId(DEPARTMENT)
+                .currency("EUR")
+                .minBudget(new BigDecimal("50.00"))
+                .build();
+
+        Page<ProjectDTO> page = service.filterProjects(filter, PageRequest.of(0, 1, ProjectSort.parse("budget,desc"))).block();
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(ProjectDTO::getBudget).containsExactly(new BigDecimal("300.00"));
+        assertThat(service.streamProjects(filter).collectList().block()).hasSize(2);
+    }
+
+    @Test
+    void filterProjectSummariesSelectsTheListingColumns() {
+        ProjectDTO created = service.createProject(request("100.00", "EUR", DEPARTMENT)).block();
+        service.createProject(request("200.00", "USD", DEPARTMENT)).block();
+        // Read back, as the database truncates the timestamps
+        ProjectDTO stored = service.getProject(created.getId()).block();
+        ProjectFilterRequest filter = ProjectFilterRequest.builder().currency("EUR").build();
+
+        Page<ProjectSummary> page = service.filterProjectSummaries(filter, PageRequest.of(0, 10, ProjectSort.parse(null))).block();
+
+        assertThat(page.getTotalElements()).isOne();
+        assertThat(page.getContent()).containsExactly(new ProjectSummary(stored.getId(), stored.getTitle(),
+                ProjectStatus.DRAFT, stored.getBudget(), "EUR", stored.getStartDate(), stored.getEndDate(),
+                stored.getCreatedAt(), stored.getUpdatedAt()));
+    }
+
+    @Test
+    void filterProjectsRejectsEmptyRanges() {
+        ProjectFilterRequest filter = ProjectFilterRequest.builder()
+                .startDateFrom(LocalDate.of(2026, 6, 1))
+                .startDateTo(LocalDate.of(2026, 1, 1))
+                .build();
+
+        assertThatThrownBy(() -> service.filterProjects(filter, PageRequest.of(0, 10)).block())
+                .isInstanceOf(InvalidProjectDataException.class);
+    }
+
+    private Map<String, Object> aggregate() {
+        return jdbc.queryForMap("SELECT * FROM project_statistics WHERE id = 1");
+    }
+
+    private Map<String, BigDecimal> currencies() {
+        Map<String, BigDecimal> currencies = new TreeMap<>();
+        jdbc.query("SELECT currency, total_budget FROM project_statistics_currencies",
+                (RowCallbackHandler) row -> currencies.put(row.getString("currency"), row.getBigDecimal("total_budget")));
+        return currencies;
+    }
+
+    private Map<String, Object> rollup(String dimension, UUID groupId, String currency) {
+        return jdbc.queryForMap("SELECT * FROM project_budget_rollups WHERE dimension = ? AND group_id = ? AND currency = ?",
+                dimension, groupId, currency);
+    }
+
+    private long rollupCount(String dimension, UUID groupId) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM project_budget_rollups WHERE dimension = ? AND group_id = ?",
+                Long.class, dimension, groupId);
+    }
+
+    private static CreateProjectRequest request(String budget, String currency, UUID departmentId) {
+        CreateProjectRequest request = new CreateProjectRequest();
+        request.setTitle("Road works");
+        request.setDescription("Resurfacing of the ring road");
+        request.setBudget(new BigDecimal(budget));
+        request.setCurrency(currency);
+        request.setStartDate(LocalDate.of(2026, 1, 1));
+        request.setEndDate(LocalDate.of(2026, 12, 31));
+        request.setDepartmentId(departmentId);
+        request.setProjectManagerId(MANAGER);
+        return request;
+    }
+}
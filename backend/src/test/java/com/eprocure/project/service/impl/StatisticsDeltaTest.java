@@ -0,0 +1,112 @@
+package com.eprocure.project.service.impl;
+
+import com.eprocure.project.entity.ProjectBudgetRollup;
+import com.eprocure.project.entity.ProjectBudgetRollupId;
+import com.eprocure.project.entity.ProjectStatisticsAggregate;
+import com.eprocure.project.entity.ProjectStatus;
+import com.eprocure.project.entity.RollupDimension;
+import com.eprocure.project.service.ProjectContribution;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatisticsDeltaTest {
+
+    private static final UUID DEPARTMENT = UUID.fromString("11111111-1111-1111-1111-111111111111");
+    private static final UUID OTHER_DEPARTMENT = UUID.fromString("33333333-3333-3333-3333-333333333333");
+    private static final UUID MANAGER = UUID.fromString("22222222-2222-2222-2222-222222222222");
+
+    @Test
+    void addsCreatedProjects() {
+        StatisticsDelta delta = StatisticsDelta.of(List.of(), List.of(
+                contribution(ProjectStatus.DRAFT, "100.00", "EUR", DEPARTMENT),
+                contribution(ProjectStatus.ACTIVE, "50.00", "USD", DEPARTMENT)));
+
+        assertThat(delta.getTotal()).isEqualTo(2);
+        assertThat(delta.getDraft()).isOne();
+        assertThat(delta.getActive()).isOne();
+        assertThat(delta.getCompleted()).isZero();
+        assertThat(delta.getBudget()).isEqualByComparingTo("150.00");
+        assertThat(delta.getCurrencies()).containsOnlyKeys("EUR", "USD");
+        assertThat(delta.getCurrencies().get("USD").getTotal()).isOne();
+        assertThat(delta.getCurrencies().get("USD").getBudget()).isEqualByComparingTo("50.00");
+    }
+
+    @Test
+    void movesStatusChangesBetweenCounts() {
+        StatisticsDelta delta = StatisticsDelta.of(
+                List.of(contribution(ProjectStatus.DRAFT, "100.00", "EUR", DEPARTMENT)),
+                List.of(contribution(ProjectStatus.ACTIVE, "100.00", "EUR", DEPARTMENT)));
+
+        assertThat(delta.getTotal()).isZero();
+        assertThat(delta.getDraft()).isEqualTo(-1);
+        assertThat(delta.getActive()).isOne();
+        assertThat(delta.getBudget()).isEqualByComparingTo("0");
+        assertThat(delta.getCurrencies().get("EUR").isEmpty()).isTrue();
+    }
+
+    @Test
+    void movesCurrencyChangesBetweenCurrencies() {
+        StatisticsDelta delta = StatisticsDelta.of(
+                List.of(contribution(ProjectStatus.DRAFT, "100.00", "EUR", DEPARTMENT)),
+                List.of(contribution(ProjectStatus.DRAFT, "120.00", "USD", DEPARTMENT)));
+
+        assertThat(delta.getTotal()).isZero();
+        assertThat(delta.getBudget()).isEqualByComparingTo("20.00");
+        assertThat(delta.getCurrencies().get("EUR").getTotal()).isEqualTo(-1);
+        assertThat(delta.getCurrencies().get("EUR").getBudget()).isEqualByComparingTo("-100.00");
+        assertThat(delta.getCurrencies().get("USD").getTotal()).isOne();
+    }
+
+    @Test
+    void correctsStoredAggregateToRecount() {
+        StatisticsDelta recount = StatisticsDelta.of(List.of(), List.of(
+                contribution(ProjectStatus.DRAFT, "100.00", "EUR", DEPARTMENT),
+                contribution(ProjectStatus.COMPLETED, "40.00", "EUR", DEPARTMENT)));
+        ProjectStatisticsAggregate stored = ProjectStatisticsAggregate.builder()
+                .totalProjects(3)
+                .draftProjects(3)
+                .totalBudget(new BigDecimal("160.00"))
+                .build();
+
+        StatisticsDelta correction = StatisticsDelta.between(stored, recount);
+
+        assertThat(correction.getTotal()).isEqualTo(-1);
+        assertThat(correction.getDraft()).isEqualTo(-2);
+        assertThat(correction.getCompleted()).isOne();
+        assertThat(correction.getBudget()).isEqualByComparingTo("-20.00");
+        assertThat(correction.getCurrencies()).isEmpty();
+    }
+
+    @Test
+    void rollupDeltasMoveBudgetBetweenGroupsAndDropEmptyRows() {
+        List<ProjectBudgetRollup> rollups = RollupDeltas.of(
+                List.of(contribution(ProjectStatus.DRAFT, "100.00", "EUR", DEPARTMENT)),
+                List.of(contribution(ProjectStatus.DRAFT, "100.00", "EUR", OTHER_DEPARTMENT))).toRollups();
+
+        // The manager row is unchanged and left out
+        assertThat(rollups).extracting(ProjectBudgetRollup::getId).containsExactly(
+                new ProjectBudgetRollupId(RollupDimension.DEPARTMENT, DEPARTMENT, "EUR"),
+                new ProjectBudgetRollupId(RollupDimension.DEPARTMENT, OTHER_DEPARTMENT, "EUR"));
+        assertThat(rollups.get(0).getTotalProjects()).isEqualTo(-1);
+        assertThat(rollups.get(0).getDraftBudget()).isEqualByComparingTo("-100.00");
+        assertThat(rollups.get(1).getTotalProjects()).isOne();
+    }
+
+    @Test
+    void rollupDeltasSubtractStoredRows() {
+        RollupDeltas deltas = RollupDeltas.of(List.of(), List.of(contribution(ProjectStatus.ACTIVE, "75.00", "EUR", DEPARTMENT)));
+        deltas.subtract(deltas.toRollups().get(0));
+
+        assertThat(deltas.toRollups()).extracting(ProjectBudgetRollup::getId).containsExactly(
+                new ProjectBudgetRollupId(RollupDimension.PROJECT_MANAGER, MANAGER, "EUR"));
+    }
+
+    private static ProjectContribution contribution(ProjectStatus status, String budget, String currency, UUID departmentId) {
+        return new ProjectContribution(status, new BigDecimal(budget), currency, departmentId, MANAGER);
+    }
+}
@@ -1,17 +1,21 @@
-export interface Project {
+/** Columns returned by the project listing (`GET /v1/projects`, default `view=summary`) */
+export interface ProjectSummary {
   id: string;
   title: string;
-  description: string;
   budget: number;
   currency: string;
   startDate: string;
   endDate: string;
   status: ProjectStatus;
+  createdAt: string;
+  updatedAt: string;
+}
+
+export interface Project extends ProjectSummary {
+  description: string;
   departmentId: string;
   projectManagerId: string;
-  createdAt: string;
   createdBy: string;
-  updatedAt: string;
   updatedBy: string;
 }
 
@@ -38,10 +42,33 @@ export interface ProjectStatistics {
   activeProjectsChangePercent: number | null;
   completedProjects: number;
   draftProjects: number;
+  /** Sum of all budgets converted to `currency`, excluding `unconvertedCurrencies` */
   totalBudget: number;
   currency: string;
+  budgetByCurrency: Record<string, number>;
+  unconvertedCurrencies: string[];
+}
+
+export enum ProjectChangeType {
+  CREATED = 'CREATED',
+  UPDATED = 'UPDATED',
+  STATUS_CHANGED = 'STATUS_CHANGED',
+  DELETED = 'DELETED'
 }
 
+export interface ProjectChange {
+  projectId: string;
+  changeType: ProjectChangeType;
+  /** State after the write; null for deletes and status changes */
+  project: Project | null;
+}
+
+/** Messages of the GET /v1/projects/events stream; `connected` is emitted whenever the stream (re)opens */
+export type ProjectStreamEvent =
+  | { type: 'connected' }
+  | { type: 'project-changed'; change: ProjectChange }
+  | { type: 'statistics-changed'; statistics: ProjectStatistics };
+
 export interface ApiResponse<T> {
   status: number;
   message: string;
@@ -4,11 +4,13 @@ import { Observable } from 'rxjs';
 import { environment } from '../../../environments/environment';
 import {
   Project,
+  ProjectSummary,
   CreateProjectRequest,
   ProjectStatistics,
   ApiResponse,
   PagedResponse,
-  ProjectStatus
+  ProjectStatus,
+  ProjectStreamEvent
 } from '../models/project.model';
 
 @Injectable({
@@ -19,7 +21,7 @@ export class ProjectApiService {
 
   constructor(private http: HttpClient) {}
 
-  listProjects(page = 0, size = 10, status?: ProjectStatus): Observable<ApiResponse<PagedResponse<Project>>> {
+  listProjects(page = 0, size = 10, status?: ProjectStatus): Observable<ApiResponse<PagedResponse<ProjectSummary>>> {
     let params = new HttpParams()
       .set('page', page.toString())
       .set('size', size.toString());
@@ -28,7 +30,7 @@ export class ProjectApiService {
       params = params.set('status', status);
     }
 
-    return this.http.get<ApiResponse<PagedResponse<Project>>>(this.apiUrl, { params });
+    return this.http.get<ApiResponse<PagedResponse<ProjectSummary>>>(this.apiUrl, { params });
   }
 
   getProject(id: string): Observable<ApiResponse<Project>> {
@@ -50,4 +52,27 @@ export class ProjectApiService {
   getStatistics(): Observable<ApiResponse<ProjectStatistics>> {
     return this.http.get<ApiResponse<ProjectStatistics>>(`${this.apiUrl}/statistics`);
   }
+
+  /**
+   * Server-Sent Events stream of project changes. The browser reconnects on its own after network errors;
+   * the observable errors only when the server refuses the stream (e.g. 503 when at capacity).
+   */
+  projectEvents(): Observable<ProjectStreamEvent> {
+    return new Observable<ProjectStreamEvent>(subscriber => {
+      const source = new EventSource(`${this.apiUrl}/events`);
+
+      source.onopen = () => subscriber.next({ type: 'connected' });
+      source.onerror = () => {
+        if (source.readyState === EventSource.CLOSED) {
+          subscriber.error(new Error('Project event stream closed by the server'));
+        }
+      };
+      source.addEventListener('project-changed', event =>
+        subscriber.next({ type: 'project-changed', change: JSON.parse((event as MessageEvent).data) }));
+      source.addEventListener('statistics-changed', event =>
+        subscriber.next({ type: 'statistics-changed', statistics: JSON.parse((event as MessageEvent).data) }));
+
+      return () => source.close();
+    });
+  }
 }
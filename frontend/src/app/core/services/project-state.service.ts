@@ -1,13 +1,26 @@
 import { Injectable, signal, computed } from '@angular/core';
-import { Observable, tap } from 'rxjs';
+import { Observable, Subscription, retry, tap, timer } from 'rxjs';
 import { ProjectApiService } from './project-api.service';
-import { Project, ProjectStatistics, ProjectStatus, CreateProjectRequest, ApiResponse } from '../models/project.model';
+import {
+  Project,
+  ProjectChange,
+  ProjectChangeType,
+  ProjectStatistics,
+  ProjectStatus,
+  ProjectStreamEvent,
+  ProjectSummary,
+  CreateProjectRequest,
+  ApiResponse
+} from '../models/project.model';
+
+/** Delay before reopening the event stream after the server refused or closed it */
+const EVENT_STREAM_RETRY_MS = 5000;
 
 @Injectable({
   providedIn: 'root'
 })
 export class ProjectStateService {
-  private projectsSignal = signal<Project[]>([]);
+  private projectsSignal = signal<ProjectSummary[]>([]);
   private statisticsSignal = signal<ProjectStatistics | null>(null);
   private loadingSignal = signal<boolean>(false);
   private errorSignal = signal<string | null>(null);
@@ -19,9 +32,15 @@ export class ProjectStateService {
 
   recentProjects = computed(() => this.projectsSignal().slice(0, 5));
 
+  private query: { page: number; size: number; status?: ProjectStatus } = { page: 0, size: 10 };
+  private eventsSubscription?: Subscription;
+  private streamConnected = false;
+  private streamOpenedBefore = false;
+
   constructor(private apiService: ProjectApiService) {}
 
   loadProjects(page = 0, size = 10, status?: ProjectStatus): void {
+    this.query = { page, size, status };
     this.loadingSignal.set(true);
     this.errorSignal.set(null);
 
@@ -48,11 +67,18 @@ export class ProjectStateService {
     });
   }
 
+  /** Listings carry summaries only; load a single project for every field (e.g. to edit it) */
+  getProject(id: string): Observable<ApiResponse<Project>> {
+    return this.apiService.getProject(id);
+  }
+
   createProject(request: CreateProjectRequest): Observable<ApiResponse<Project>> {
     return this.apiService.createProject(request).pipe(
       tap(() => {
-        // Refresh data after successful creation
-        this.refreshData();
+        // The event stream delivers the change; refetch only while it is down
+        if (!this.streamConnected) {
+          this.refreshData();
+        }
       })
     );
   }
@@ -60,8 +86,10 @@ export class ProjectStateService {
   updateProject(id: string, request: CreateProjectRequest): Observable<ApiResponse<Project>> {
     return this.apiService.updateProject(id, request).pipe(
       tap(() => {
-        // Refresh data after successful update
-        this.refreshData();
+        // The event stream delivers the change; refetch only while it is down
+        if (!this.streamConnected) {
+          this.refreshData();
+        }
       })
     );
   }
@@ -69,14 +97,99 @@ export class ProjectStateService {
   deleteProject(id: string): Observable<ApiResponse<void>> {
     return this.apiService.deleteProject(id).pipe(
       tap(() => {
-        // Refresh data after successful deletion
-        this.refreshData();
+        // The event stream delivers the change; refetch only while it is down
+        if (!this.streamConnected) {
+          this.refreshData();
+        }
       })
     );
   }
 
   refreshData(): void {
     this.loadStatistics();
-    this.loadProjects();
+    this.loadProjects(this.query.page, this.query.size, this.query.status);
+    this.listenForChanges();
+  }
+
+  /**
+   * Keep projects and statistics current from the server's event stream instead of refetching after writes.
+   * Opened once and shared by every view.
+   */
+  private listenForChanges(): void {
+    if (this.eventsSubscription) {
+      return;
+    }
+
+    this.eventsSubscription = this.apiService.projectEvents().pipe(
+      retry({
+        delay: () => {
+          this.streamConnected = false;
+          return timer(EVENT_STREAM_RETRY_MS);
+        }
+      })
+    ).subscribe(event => this.applyEvent(event));
+  }
+
+  private applyEvent(event: ProjectStreamEvent): void {
+    switch (event.type) {
+      case 'connected':
+        this.streamConnected = true;
+        // Events sent while disconnected are lost, so resynchronise after a reconnect
+        if (this.streamOpenedBefore) {
+          this.loadStatistics();
+          this.loadProjects(this.query.page, this.query.size, this.query.status);
+        }
+        this.streamOpenedBefore = true;
+        break;
+      case 'statistics-changed':
+        this.statisticsSignal.set(event.statistics);
+        break;
+      case 'project-changed':
+        this.applyChange(event.change);
+        break;
+    }
+  }
+
+  private applyChange(change: ProjectChange): void {
+    const projects = this.projectsSignal();
+    const listed = projects.some(project => project.id === change.projectId);
+
+    switch (change.changeType) {
+      case ProjectChangeType.CREATED: {
+        // The list shows the most recent projects first, so a new one only lands on the first page
+        const project = change.project;
+        if (project && this.query.page === 0 && (!this.query.status || this.query.status === project.status)) {
+          this.projectsSignal.set([project, ...projects].slice(0, this.query.size));
+        }
+        break;
+      }
+      case ProjectChangeType.UPDATED:
+        if (listed && change.project) {
+          const updated = change.project;
+          this.projectsSignal.set(projects.map(project => project.id === updated.id ? updated : project));
+        }
+        break;
+      case ProjectChangeType.STATUS_CHANGED:
+        if (listed) {
+          this.apiService.getProject(change.projectId).subscribe({
+            next: (response) => {
+              if (this.query.status && response.data.status !== this.query.status) {
+                // No longer matches the status filter: refill the page
+                this.loadProjects(this.query.page, this.query.size, this.query.status);
+              } else {
+                this.projectsSignal.update(current =>
+                  current.map(project => project.id === change.projectId ? response.data : project));
+              }
+            }
+          });
+        }
+        break;
+      case ProjectChangeType.DELETED:
+        if (listed) {
+          // Refill the page from the server rather than leaving a gap
+          this.loadProjects(this.query.page, this.query.size, this.query.status);
+        }
+        break;
+    }
   }
 }
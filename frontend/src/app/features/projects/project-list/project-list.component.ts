@@ -10,7 +10,7 @@ import { MatProgressSpinnerModule } from '@angular/material/progress-spinner';
 import { MatTooltipModule } from '@angular/material/tooltip';
 import { ProjectStateService } from '../../../core/services/project-state.service';
 import { ProjectFormComponent } from '../components/project-form/project-form.component';
-import { Project } from '../../../core/models/project.model';
+import { ProjectSummary } from '../../../core/models/project.model';
 
 @Component({
   selector: 'app-project-list',
@@ -35,7 +35,7 @@ export class ProjectListComponent implements OnInit {
   projects = this.projectState.projects;
   loading = this.projectState.loading;
 
-  displayedColumns: string[] = ['title', 'description', 'budget', 'status', 'startDate', 'endDate', 'actions'];
+  displayedColumns: string[] = ['title', 'budget', 'status', 'startDate', 'endDate', 'actions'];
 
   ngOnInit(): void {
     this.projectState.refreshData();
@@ -55,22 +55,31 @@ export class ProjectListComponent implements OnInit {
     });
   }
 
-  openEditDialog(project: Project): void {
-    const dialogRef = this.dialog.open(ProjectFormComponent, {
-      width: '600px',
-      disableClose: false,
-      autoFocus: true,
-      data: { project }
-    });
+  openEditDialog(summary: ProjectSummary): void {
+    // The form needs every field, the list only holds summaries
+    this.projectState.getProject(summary.id).subscribe({
+      next: (response) => {
+        const dialogRef = this.dialog.open(ProjectFormComponent, {
+          width: '600px',
+          disableClose: false,
+          autoFocus: true,
+          data: { project: response.data }
+        });
 
-    dialogRef.afterClosed().subscribe(result => {
-      if (result) {
-        console.log('Project updated successfully');
+        dialogRef.afterClosed().subscribe(result => {
+          if (result) {
+            console.log('Project updated successfully');
+          }
+        });
+      },
+      error: (error) => {
+        console.error('Error loading project:', error);
+        alert('Failed to load project. Please try again.');
       }
     });
   }
 
-  deleteProject(project: Project): void {
+  deleteProject(project: ProjectSummary): void {
     if (confirm(`Are you sure you want to delete "${project.title}"?`)) {
       this.projectState.deleteProject(project.id).subscribe({
         next: () => {